@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.impl.ArtifactResolver;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Resolves artifacts with a bounded number of threads.
+ *
+ * Concurrent requests for the same artifact from the same remote repositories
+ * share a single resolution, and the {@link Priority#FOREGROUND} requests
+ * (hover, definition) are run before the {@link Priority#BACKGROUND} ones (the
+ * plugins downloaded for the validation and the descriptor prefetch). The
+ * returned futures are copies of the shared resolution: cancelling them, or
+ * giving up waiting for them, doesn't cancel the resolution (and the download)
+ * for the other requesters. The artifacts which could not be resolved recently fail
+ * immediately, see {@link ResolutionFailureCache}.
+ */
+public class ArtifactResolutionService {
+
+	public enum Priority {
+		FOREGROUND, BACKGROUND
+	}
+
+	private static final int MAX_THREADS = 4;
+
+	private static final long POLL_INTERVAL = 50; // ms
+
+	private final RepositorySystemSession repositorySession;
+	private final ArtifactResolver artifactResolver;
+	private final ResolutionFailureCache failureCache;
+	private final Map<String, Resolution> pendingResolutions = new ConcurrentHashMap<>();
+	private final AtomicLong sequence = new AtomicLong();
+	private final ThreadPoolExecutor executor;
+
+	public ArtifactResolutionService(RepositorySystemSession repositorySession, ArtifactResolver artifactResolver,
+			ResolutionFailureCache failureCache) {
+		this.repositorySession = repositorySession;
+		this.artifactResolver = artifactResolver;
+		this.failureCache = failureCache;
+		this.executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 60, TimeUnit.SECONDS,
+				new PriorityBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, "Maven artifact resolution");
+					thread.setDaemon(true);
+					return thread;
+				});
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Resolves the given artifact.
+	 *
+	 * @param artifact     the artifact to resolve
+	 * @param repositories the remote repositories to search, the local
+	 *                     repository and the workspace are always searched
+	 * @param priority     the priority of the request
+	 * @return the future of the resolved artifact, completed exceptionally with
+	 *         an {@link org.eclipse.aether.resolution.ArtifactResolutionException}
+	 *         if the artifact cannot be resolved
+	 */
+	public CompletableFuture<Artifact> resolve(Artifact artifact, List<RemoteRepository> repositories,
+			Priority priority) {
+		// A request searching other repositories can succeed where this one fails
+		List<RemoteRepository> remoteRepositories = repositories != null ? repositories : List.of();
+		String resolutionKey = ResolutionFailureCache.getArtifactKey(artifact) + remoteRepositories.stream()
+				.map(RemoteRepository::getId).collect(Collectors.joining(",", "@", ""));
+		Exception failure = failureCache != null ? failureCache.getFailure(resolutionKey) : null;
+		if (failure != null) {
+			// The artifact could not be resolved recently from these repositories
+			return CompletableFuture.failedFuture(failure);
+		}
+		Resolution resolution = pendingResolutions.computeIfAbsent(resolutionKey,
+				k -> new Resolution(k, new ArtifactRequest(artifact, remoteRepositories, null)));
+		resolution.schedule(priority);
+		return resolution.future.copy();
+	}
+
+	/**
+	 * Stops the pending resolutions
+	 */
+	public void stop() {
+		executor.shutdownNow();
+		pendingResolutions.values()
+				.forEach(resolution -> resolution.future.completeExceptionally(new CancellationException()));
+		pendingResolutions.clear();
+	}
+
+	/**
+	 * Waits for the given future, checking the cancellation of the current request
+	 * meanwhile. The request cancellation doesn't cancel the future.
+	 */
+	public static <T> T await(CompletableFuture<T> future, CancelChecker cancelChecker)
+			throws InterruptedException, ExecutionException {
+		if (MavenLemminxExtension.isUnitTestMode()) {
+			return future.get();
+		}
+		while (true) {
+			try {
+				return future.get(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				cancelChecker.checkCanceled();
+			}
+		}
+	}
+
+	private class Resolution {
+
+		private final String key;
+		private final ArtifactRequest request;
+		private final CompletableFuture<Artifact> future = new CompletableFuture<>();
+		private final AtomicBoolean started = new AtomicBoolean();
+		private Priority scheduledPriority;
+
+		Resolution(String key, ArtifactRequest request) {
+			this.key = key;
+			this.request = request;
+		}
+
+		/**
+		 * Schedules the resolution with the given priority, unless it's already
+		 * scheduled with the same or a higher priority. The first of the scheduled
+		 * tasks to run resolves the artifact, the others do nothing.
+		 */
+		synchronized void schedule(Priority priority) {
+			if (started.get()
+					|| (scheduledPriority != null && scheduledPriority.compareTo(priority) <= 0)) {
+				return;
+			}
+			scheduledPriority = priority;
+			try {
+				executor.execute(new ResolutionTask(this, priority, sequence.incrementAndGet()));
+			} catch (RejectedExecutionException e) {
+				// The service is stopped
+				pendingResolutions.remove(key, this);
+				future.completeExceptionally(new CancellationException());
+			}
+		}
+
+		void run() {
+			if (!started.compareAndSet(false, true)) {
+				return;
+			}
+			Artifact artifact = null;
+			Exception error = null;
+			try {
+				artifact = artifactResolver.resolveArtifact(repositorySession, request).getArtifact();
+			} catch (ArtifactResolutionException e) {
+				error = e;
+				if (failureCache != null) {
+					failureCache.recordFailure(key, e);
+				}
+			} catch (Exception e) {
+				error = e;
+			}
+			// The next requests start a new resolution once this one is completed
+			pendingResolutions.remove(key, this);
+			if (error != null) {
+				future.completeExceptionally(error);
+			} else {
+				future.complete(artifact);
+			}
+		}
+	}
+
+	private record ResolutionTask(Resolution resolution, Priority priority, long sequence)
+			implements Runnable, Comparable<ResolutionTask> {
+
+		@Override
+		public void run() {
+			resolution.run();
+		}
+
+		@Override
+		public int compareTo(ResolutionTask other) {
+			int result = priority.compareTo(other.priority);
+			return result != 0 ? result : Long.compare(sequence, other.sequence);
+		}
+	}
+}
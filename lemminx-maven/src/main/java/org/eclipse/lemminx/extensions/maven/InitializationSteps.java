@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.lemminx.commons.progress.ProgressMonitor;
+
+/**
+ * Runs the steps of the Maven components initialization, possibly
+ * concurrently, reports their progress and collects their durations.
+ */
+class InitializationSteps {
+
+	@FunctionalInterface
+	interface Step<T> {
+		T call() throws Exception;
+	}
+
+	private static final int START_PERCENTAGE = 15;
+
+	private final ProgressMonitor progressMonitor;
+	private final int nbSteps;
+	private final long startTime = System.nanoTime();
+	private final Map<String, Long> durations = new LinkedHashMap<>();
+	private int startedSteps;
+	private int completedSteps;
+
+	InitializationSteps(ProgressMonitor progressMonitor, int nbSteps) {
+		this.progressMonitor = progressMonitor;
+		this.nbSteps = nbSteps;
+	}
+
+	/**
+	 * Runs the given step in the current thread.
+	 */
+	<T> T call(String name, Step<T> step) throws Exception {
+		started(name);
+		long stepStart = System.nanoTime();
+		try {
+			return step.call();
+		} finally {
+			completed(name, stepStart);
+		}
+	}
+
+	/**
+	 * Runs the given step with the given executor.
+	 */
+	<T> CompletableFuture<T> callAsync(String name, Step<T> step, Executor executor) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		executor.execute(() -> {
+			try {
+				future.complete(call(name, step));
+			} catch (Exception e) {
+				future.completeExceptionally(e);
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * Waits for the result of a step run with
+	 * {@link #callAsync(String, Step, Executor)}, rethrowing its error.
+	 */
+	static <T> T await(CompletableFuture<T> future) throws Exception {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			throw e.getCause() instanceof Exception cause ? cause : e;
+		}
+	}
+
+	private synchronized void started(String name) {
+		startedSteps++;
+		if (progressMonitor != null) {
+			progressMonitor.report(name + " (" + startedSteps + "/" + nbSteps + ")...", getPercentage(), null);
+		}
+	}
+
+	private synchronized void completed(String name, long stepStart) {
+		completedSteps++;
+		durations.put(name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - stepStart));
+	}
+
+	private int getPercentage() {
+		return START_PERCENTAGE + completedSteps * (100 - START_PERCENTAGE) / Math.max(1, nbSteps);
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "Maven initialization took " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + "ms ("
+				+ durations.entrySet().stream().map(e -> e.getKey() + ": " + e.getValue() + "ms")
+						.collect(Collectors.joining(", "))
+				+ ")";
+	}
+}
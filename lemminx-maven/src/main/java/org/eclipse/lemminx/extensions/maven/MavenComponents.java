@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven;
+
+import org.apache.maven.model.building.ModelBuilder;
+import org.apache.maven.plugin.BuildPluginManager;
+import org.apache.maven.plugin.MavenPluginManager;
+import org.apache.maven.project.ProjectBuilder;
+import org.apache.maven.project.ProjectDependenciesResolver;
+import org.codehaus.plexus.PlexusContainer;
+import org.codehaus.plexus.component.repository.exception.ComponentLookupException;
+import org.eclipse.aether.impl.ArtifactResolver;
+
+/**
+ * The Maven components used by the participants, looked up once in the Plexus
+ * container of the Maven session instead of on each request.
+ */
+public class MavenComponents {
+
+	private final ProjectBuilder projectBuilder;
+	private final ModelBuilder modelBuilder;
+	private final ArtifactResolver artifactResolver;
+	private final MavenPluginManager mavenPluginManager;
+	private final BuildPluginManager buildPluginManager;
+	private final ProjectDependenciesResolver projectDependenciesResolver;
+
+	public MavenComponents(PlexusContainer container) throws ComponentLookupException {
+		this.projectBuilder = container.lookup(ProjectBuilder.class);
+		this.modelBuilder = container.lookup(ModelBuilder.class);
+		this.artifactResolver = container.lookup(ArtifactResolver.class);
+		this.mavenPluginManager = container.lookup(MavenPluginManager.class);
+		this.buildPluginManager = container.lookup(BuildPluginManager.class);
+		this.projectDependenciesResolver = container.lookup(ProjectDependenciesResolver.class);
+	}
+
+	public ProjectBuilder getProjectBuilder() {
+		return projectBuilder;
+	}
+
+	public ModelBuilder getModelBuilder() {
+		return modelBuilder;
+	}
+
+	public ArtifactResolver getArtifactResolver() {
+		return artifactResolver;
+	}
+
+	public MavenPluginManager getMavenPluginManager() {
+		return mavenPluginManager;
+	}
+
+	public BuildPluginManager getBuildPluginManager() {
+		return buildPluginManager;
+	}
+
+	public ProjectDependenciesResolver getProjectDependenciesResolver() {
+		return projectDependenciesResolver;
+	}
+}
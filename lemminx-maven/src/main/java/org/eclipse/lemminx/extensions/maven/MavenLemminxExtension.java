@@ -31,12 +31,15 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
@@ -75,8 +78,11 @@ import org.codehaus.plexus.classworlds.ClassWorld;
 import org.codehaus.plexus.classworlds.realm.ClassRealm;
 import org.codehaus.plexus.classworlds.realm.NoSuchRealmException;
 import org.codehaus.plexus.component.repository.exception.ComponentLookupException;
+import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.repository.WorkspaceReader;
+import org.eclipse.aether.spi.connector.filter.RemoteRepositoryFilterSource;
+import org.eclipse.aether.util.listener.ChainedRepositoryListener;
 import org.eclipse.lemminx.commons.TextDocument;
 import org.eclipse.lemminx.commons.progress.ProgressMonitor;
 import org.eclipse.lemminx.commons.progress.ProgressSupport;
@@ -87,29 +93,42 @@ import org.eclipse.lemminx.extensions.maven.participants.codeaction.InlineProper
 import org.eclipse.lemminx.extensions.maven.participants.codeaction.MavenIdPartRemovalCodeAction;
 import org.eclipse.lemminx.extensions.maven.participants.codeaction.MavenManagedVersionRemovalCodeAction;
 import org.eclipse.lemminx.extensions.maven.participants.codeaction.MavenNoGrammarConstraintsCodeAction;
+import org.eclipse.lemminx.extensions.maven.participants.codeaction.MavenUpdateVersionCodeAction;
+import org.eclipse.lemminx.extensions.maven.participants.command.DependencyTreeCommand;
+import org.eclipse.lemminx.extensions.maven.participants.command.EffectivePomCommand;
+import org.eclipse.lemminx.extensions.maven.participants.command.OutdatedVersionsCommand;
+import org.eclipse.lemminx.extensions.maven.participants.command.RetryUnresolvedArtifactsCommand;
 import org.eclipse.lemminx.extensions.maven.participants.completion.MavenCompletionParticipant;
 import org.eclipse.lemminx.extensions.maven.participants.definition.MavenDefinitionParticipant;
 import org.eclipse.lemminx.extensions.maven.participants.diagnostics.MavenDiagnosticParticipant;
 import org.eclipse.lemminx.extensions.maven.participants.hover.MavenHoverParticipant;
+import org.eclipse.lemminx.extensions.maven.participants.reference.MavenReferenceParticipant;
 import org.eclipse.lemminx.extensions.maven.participants.rename.MavenPropertyRenameParticipant;
 import org.eclipse.lemminx.extensions.maven.project.IMavenProjectBuildListener;
 import org.eclipse.lemminx.extensions.maven.project.LoadedMavenProject;
 import org.eclipse.lemminx.extensions.maven.project.MavenProjectCache;
+import org.eclipse.lemminx.extensions.maven.project.OutdatedVersionReport;
+import org.eclipse.lemminx.extensions.maven.project.PluginDescriptorPrefetcher;
+import org.eclipse.lemminx.extensions.maven.project.PomDocumentCache;
+import org.eclipse.lemminx.extensions.maven.project.WorkspaceDependencyIndex;
+import org.eclipse.lemminx.extensions.maven.project.WorkspacePropertyIndex;
 import org.eclipse.lemminx.extensions.maven.searcher.LocalRepositorySearcher;
 import org.eclipse.lemminx.extensions.maven.searcher.RemoteCentralRepositorySearcher;
 import org.eclipse.lemminx.extensions.maven.settings.XMLMavenGeneralSettings;
+import org.eclipse.lemminx.extensions.maven.settings.XMLMavenProjectCacheSettings;
 import org.eclipse.lemminx.extensions.maven.settings.XMLMavenSettings;
 import org.eclipse.lemminx.extensions.maven.utils.DOMUtils;
 import org.eclipse.lemminx.extensions.maven.utils.LocalRepositoryUtils;
 import org.eclipse.lemminx.extensions.maven.utils.MavenParseUtils;
 import org.eclipse.lemminx.services.IXMLDocumentProvider;
 import org.eclipse.lemminx.services.IXMLValidationService;
+import org.eclipse.lemminx.services.extensions.IReferenceParticipant;
 import org.eclipse.lemminx.services.extensions.IXMLExtension;
 import org.eclipse.lemminx.services.extensions.XMLExtensionsRegistry;
 import org.eclipse.lemminx.services.extensions.codeaction.ICodeActionParticipant;
+import org.eclipse.lemminx.services.extensions.commands.IXMLCommandService;
 import org.eclipse.lemminx.services.extensions.completion.ICompletionParticipant;
 import org.eclipse.lemminx.services.extensions.diagnostics.IDiagnosticsParticipant;
-import org.eclipse.lemminx.services.extensions.hover.IHoverParticipant;
 import org.eclipse.lemminx.services.extensions.rename.IRenameParticipant;
 import org.eclipse.lemminx.services.extensions.save.ISaveContext;
 import org.eclipse.lemminx.services.extensions.save.ISaveContext.SaveContextType;
@@ -139,21 +158,28 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 
 	private ICompletionParticipant completionParticipant;
 	private IDiagnosticsParticipant diagnosticParticipant;
-	private IHoverParticipant hoverParticipant;
+	private MavenHoverParticipant hoverParticipant;
 	private MavenDefinitionParticipant definitionParticipant;
 	private MavenWorkspaceService workspaceServiceParticipant;
 	private List<ICodeActionParticipant> codeActionParticipants = new ArrayList<>();
 	private IRenameParticipant propertyRenameParticipant;
+	private IReferenceParticipant referenceParticipant;
 
 	private MavenProjectCache cache;
 	private RemoteCentralRepositorySearcher centralSearcher;
 	private LocalRepositorySearcher localRepositorySearcher;
 	private List<IMavenProjectBuildListener> mavenProjectBuildListeners = new ArrayList<>();
 	private MavenExecutionRequest mavenRequest;
-	private MavenPluginManager mavenPluginManager;
 	private PlexusContainer container;
 	private MavenSession mavenSession;
-	private BuildPluginManager buildPluginManager;
+	private MavenComponents components;
+	private ArtifactResolutionService artifactResolutionService;
+	private ResolutionFailureCache resolutionFailureCache;
+	private PluginDescriptorPrefetcher pluginDescriptorPrefetcher;
+	private WorkspacePropertyIndex propertyIndex;
+	private PomDocumentCache pomDocumentCache;
+	private WorkspaceDependencyIndex dependencyIndex;
+	private OutdatedVersionReport outdatedVersionReport;
 
 	XMLMavenSettings settings = new XMLMavenSettings();
 	private URIResolverExtensionManager resolverExtensionManager;
@@ -165,6 +191,7 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 	private CompletableFuture<Void> mavenInitializer;
 	private IXMLDocumentProvider documentProvider;
 	private IXMLValidationService validationService;
+	private IXMLCommandService commandService;
 
 	private ProgressSupport progressSupport;
 
@@ -203,6 +230,10 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 		this.progressSupport = registry.getProgressSupport();
 		this.documentProvider = registry.getDocumentProvider();
 		this.validationService = registry.getValidationService();
+		XMLMavenProjectCacheSettings cacheSettings = settings.getProjectCache() != null ? settings.getProjectCache()
+				: new XMLMavenProjectCacheSettings();
+		this.pomDocumentCache = new PomDocumentCache(documentProvider, resolverExtensionManager,
+				cacheSettings.getPomDocumentBudget() * 1024L * 1024);
 		try {
 			// Do not invoke getters the MavenLemminxExtension in participant constructors,
 			// or that will trigger loading of plexus, Maven and so on even for non pom
@@ -221,6 +252,18 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 			registerCodeActionParticipants(registry);
 			propertyRenameParticipant = new MavenPropertyRenameParticipant(this);
 			registry.registerRenameParticipant(propertyRenameParticipant);
+			referenceParticipant = new MavenReferenceParticipant(this);
+			registry.registerReferenceParticipant(referenceParticipant);
+			commandService = registry.getCommandService();
+			if (commandService != null) {
+				commandService.registerCommand(RetryUnresolvedArtifactsCommand.COMMAND_ID,
+						new RetryUnresolvedArtifactsCommand(this));
+				commandService.registerCommand(EffectivePomCommand.COMMAND_ID,
+						new EffectivePomCommand(this, documentProvider));
+				commandService.registerCommand(DependencyTreeCommand.COMMAND_ID,
+						new DependencyTreeCommand(this, documentProvider));
+				commandService.registerCommand(OutdatedVersionsCommand.COMMAND_ID, new OutdatedVersionsCommand(this));
+			}
 		} catch (Exception ex) {
 			LOGGER.log(Level.SEVERE, ex.getCause().toString(), ex);
 		}
@@ -270,108 +313,127 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 	private void doInitialize(CancelChecker cancelChecker) {
 		Exception error = null;
 		ProgressMonitor progressMonitor = progressSupport != null ? progressSupport.createProgressMonitor() : null;
+		// The steps which don't depend on the Maven session (the local and central
+		// repository searchers, the scan of the workspace folders) are run in
+		// parallel with the initialization of the Plexus container and of the Maven
+		// session.
+		ExecutorService executor = Executors.newFixedThreadPool(3, runnable -> {
+			Thread thread = new Thread(runnable, "Maven initialization");
+			thread.setDaemon(true);
+			return thread;
+		});
+		CompletableFuture<LocalRepositorySearcher> localSearcherFuture = null;
+		CompletableFuture<RemoteCentralRepositorySearcher> centralSearcherFuture = null;
 		try {
 			if (progressMonitor != null) {
 				progressMonitor.begin("Loading Maven components...", "", 100, null);
 			}
-			boolean skipCentralRepository = settings.getCentral().isSkip();
-			int nbSteps = 7 - (skipCentralRepository ? 1 : 0);
-			int currentStep = 1;
-			int percentage = 15;
-
-			// Step1 : initialize Plexus container
-			cancelChecker.checkCanceled();
-			if (progressMonitor != null) {
-				progressMonitor.report("Initializing Plexus container" + getStepMessage(currentStep, nbSteps) + "...",
-						percentage, null);
+			boolean skipCentralRepository = settings.getCentral().isSkip() || settings.isOffline();
+			InitializationSteps steps = new InitializationSteps(progressMonitor, 7 - (skipCentralRepository ? 1 : 0));
+
+			// Start the scan of the workspace folders and the central repository searcher
+			URI[] initialFolders = this.initialWorkspaceFolders.stream().map(WorkspaceFolder::getUri)
+					.map(URI::create).toArray(URI[]::new);
+			CompletableFuture<Collection<URI>> workspaceProjectsFuture = steps.callAsync(
+					"Scanning workspace folders", () -> sortProjects(computeAddedWorkspaceProjects(initialFolders)),
+					executor);
+			if (!skipCentralRepository) {
+				centralSearcherFuture = steps.callAsync("Creating central repository searcher",
+						RemoteCentralRepositorySearcher::new, executor);
 			}
-			this.container = newPlexusContainer();
 
-			// Step2 : initialize Maven request
+			// Initialize Plexus container
 			cancelChecker.checkCanceled();
-			if (progressMonitor != null) {
-				currentStep++;
-				percentage += 15;
-				progressMonitor.report("Initializing Maven request" + getStepMessage(currentStep, nbSteps) + "...",
-						percentage, null);
-			}
-			// Get the real local repository of the user
-			// Initialize maven request
-			mavenRequest = initMavenRequest(container, settings);
-			List<File> localRepositoryDirs = LocalRepositoryUtils.getLocalRepositoryPaths(mavenRequest);
-			// Step3 : initialize Repository system session
+			this.container = steps.call("Initializing Plexus container", this::newPlexusContainer);
+
+			// Initialize Maven request
 			cancelChecker.checkCanceled();
-			if (progressMonitor != null) {
-				currentStep++;
-				percentage += 15;
-				progressMonitor.report(
-						"Initializing Repository system session" + getStepMessage(currentStep, nbSteps) + "...",
-						percentage, null);
-			}
+			mavenRequest = steps.call("Initializing Maven request", () -> initMavenRequest(container, settings));
 
-			DefaultRepositorySystemSessionFactory repositorySessionFactory = container
-					.lookup(DefaultRepositorySystemSessionFactory.class);
-			RepositorySystemSession repositorySystemSession = repositorySessionFactory
-					.newRepositorySession(mavenRequest);
+			// Start the local repository searcher, as soon as the local repositories of
+			// the user are known
+			Set<File> dirs = new HashSet<>(LocalRepositoryUtils.getLocalRepositoryPaths(mavenRequest));
+			dirs.add(mavenRequest.getLocalRepositoryPath());
+			localSearcherFuture = steps.callAsync("Creating local repository searcher",
+					() -> new LocalRepositorySearcher(dirs, progressSupport), executor);
 
-			// Step4 : initialize Maven session
+			// Initialize Repository system session
 			cancelChecker.checkCanceled();
-			if (progressMonitor != null) {
-				currentStep++;
-				percentage += 15;
-				progressMonitor.report("Initializing Maven session" + getStepMessage(currentStep, nbSteps) + "...",
-						percentage, null);
-			}
-			MavenExecutionResult mavenResult = new DefaultMavenExecutionResult();
-			// TODO: MavenSession is deprecated. Investigate for alternative
-			mavenSession = new MavenSession(container, repositorySystemSession, mavenRequest, mavenResult);
-			cache = new MavenProjectCache(this, mavenSession, documentProvider);
-
-			// Step5 : create local repository searcher
+			RepositorySystemSession repositorySystemSession = steps.call("Initializing Repository system session",
+					() -> {
+						// The known unresolved artifacts are not searched again in the remote
+						// repositories until they expire from the cache
+						resolutionFailureCache = new ResolutionFailureCache(settings.getUnresolvedArtifactsTimeout());
+						container.addComponent(resolutionFailureCache, RemoteRepositoryFilterSource.class,
+								ResolutionFailureCache.class.getName());
+						DefaultRepositorySystemSession session = container
+								.lookup(DefaultRepositorySystemSessionFactory.class).newRepositorySession(mavenRequest);
+						session.setRepositoryListener(ChainedRepositoryListener.newInstance(
+								session.getRepositoryListener(), resolutionFailureCache.newRepositoryListener()));
+						return session;
+					});
+
+			// Initialize Maven session
 			cancelChecker.checkCanceled();
-			if (progressMonitor != null) {
-				currentStep++;
-				percentage += 15;
-				progressMonitor.report(
-						"Creating local repository searcher" + getStepMessage(currentStep, nbSteps) + "...", percentage,
-						null);
-			}
-			Set<File> dirs = new HashSet<>(localRepositoryDirs);
-			dirs.add(mavenRequest.getLocalRepositoryPath());
-			localRepositorySearcher = new LocalRepositorySearcher(dirs, progressSupport);
-			mavenProjectBuildListeners.add(localRepositorySearcher);
-			
-			if (!skipCentralRepository) {
-				// Step6 : create central repository searcher
-				cancelChecker.checkCanceled();
-				if (progressMonitor != null) {
-					currentStep++;
-					percentage += 15;
-					progressMonitor.report(
-							"Creating central repository searcher" + getStepMessage(currentStep, nbSteps) + "...",
-							percentage, null);
+			steps.call("Initializing Maven session", () -> {
+				MavenExecutionResult mavenResult = new DefaultMavenExecutionResult();
+				// TODO: MavenSession is deprecated. Investigate for alternative
+				mavenSession = new MavenSession(container, repositorySystemSession, mavenRequest, mavenResult);
+				components = new MavenComponents(container);
+				artifactResolutionService = new ArtifactResolutionService(repositorySystemSession,
+						components.getArtifactResolver(), resolutionFailureCache);
+				cache = new MavenProjectCache(this, mavenSession, components, documentProvider,
+						settings.getProjectCache());
+				if (settings.isDependencyConvergence()) {
+					cache.recordDependencyConflicts();
 				}
-				centralSearcher = new RemoteCentralRepositorySearcher();
+				propertyIndex = new WorkspacePropertyIndex(documentProvider, pomDocumentCache,
+						this::getCurrentWorkspaceProjectFiles);
+				return null;
+			});
+
+			// Wait for the parallel steps
+			localRepositorySearcher = InitializationSteps.await(localSearcherFuture);
+			mavenProjectBuildListeners.add(localRepositorySearcher);
+			pluginDescriptorPrefetcher = new PluginDescriptorPrefetcher(this);
+			mavenProjectBuildListeners.add(pluginDescriptorPrefetcher);
+			dependencyIndex = new WorkspaceDependencyIndex();
+			mavenProjectBuildListeners.add(dependencyIndex);
+			if (centralSearcherFuture != null) {
+				centralSearcher = InitializationSteps.await(centralSearcherFuture);
 			}
-			buildPluginManager = null;
-			mavenPluginManager = container.lookup(MavenPluginManager.class);
-			buildPluginManager = container.lookup(BuildPluginManager.class);
+			LocalRepositorySearcher localSearcher = localRepositorySearcher;
+			RemoteCentralRepositorySearcher remoteSearcher = centralSearcher;
+			outdatedVersionReport = new OutdatedVersionReport(localSearcher::getLocalArtifactsLastRelease,
+					() -> remoteSearcher != null ? remoteSearcher.getLatestVersions() : Map.of(), pomDocumentCache,
+					this::getCurrentWorkspaceProjectFiles);
 
-			// Step7 : initializing Workspace readers
+			// Initialize Workspace readers
 			cancelChecker.checkCanceled();
-			if (progressMonitor != null) {
-				currentStep++;
-				percentage += 15;
-				progressMonitor.report("Initializing Workspace readers" + getStepMessage(currentStep, nbSteps) + "...",
-						percentage, null);
-			}
-			internalDidChangeWorkspaceFolders(this.initialWorkspaceFolders.stream().map(WorkspaceFolder::getUri)
-					.map(URI::create).toArray(URI[]::new), null);
+			currentWorkspaceFolders.addAll(List.of(initialFolders));
+			addToWorkspace(InitializationSteps.await(workspaceProjectsFuture));
+			LOGGER.log(Level.INFO, steps.toString());
 		} catch (Exception e) {
 			error = e;
 			LOGGER.log(Level.SEVERE, e.getMessage(), e);
+			// Stop the searchers which have been created after the error
+			if (localSearcherFuture != null) {
+				localSearcherFuture.thenAccept(searcher -> {
+					if (searcher != localRepositorySearcher) {
+						searcher.stop();
+					}
+				});
+			}
+			if (centralSearcherFuture != null) {
+				centralSearcherFuture.thenAccept(searcher -> {
+					if (searcher != centralSearcher) {
+						searcher.stop();
+					}
+				});
+			}
 			stop(currentRegistry);
 		} finally {
+			executor.shutdown();
 			if (progressMonitor != null) {
 				String message = error != null ? "Maven initialization terminated with error " + error.getMessage()
 						: "Maven initialization done";
@@ -380,10 +442,6 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 		}
 	}
 
-	private static String getStepMessage(int currentStep, int nbSteps) {
-		return " (" + currentStep + "/" + nbSteps + ")";
-	}
-
 	private MavenExecutionRequest initMavenRequest(PlexusContainer container, XMLMavenSettings options)
 			throws Exception {
 		MavenExecutionRequest mavenRequest = new DefaultMavenExecutionRequest();
@@ -421,6 +479,11 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 		mavenRequest.setPluginArtifactRepositories(
 				joinRemoteRepositories(mavenRequest.getPluginArtifactRepositories(), defaultRemoteRepositories));
 		mavenRequest.setSystemProperties(systemProperties);
+		if (options.isOffline()) {
+			// The repository session created from the request is offline: the
+			// artifacts missing from the local repository are reported immediately
+			mavenRequest.setOffline(true);
+		}
 		mavenRequest.setCacheNotFound(true);
 		mavenRequest.setCacheTransferError(true);
 		mavenRequest.setWorkspaceReader(workspaceReader);
@@ -527,13 +590,25 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 	public void stop(XMLExtensionsRegistry registry) {
 		registry.unregisterRenameParticipant(propertyRenameParticipant);
 		this.propertyRenameParticipant = null;
+		registry.unregisterReferenceParticipant(referenceParticipant);
+		this.referenceParticipant = null;
+		if (commandService != null) {
+			commandService.unregisterCommand(RetryUnresolvedArtifactsCommand.COMMAND_ID);
+			commandService.unregisterCommand(EffectivePomCommand.COMMAND_ID);
+			commandService.unregisterCommand(DependencyTreeCommand.COMMAND_ID);
+			commandService.unregisterCommand(OutdatedVersionsCommand.COMMAND_ID);
+			commandService = null;
+		}
 		unregisterCodeActionParticipants(registry);
 		registry.unregisterCompletionParticipant(completionParticipant);
 		this.completionParticipant = null;
 		registry.unregisterDiagnosticsParticipant(diagnosticParticipant);
 		this.diagnosticParticipant = null;
 		registry.unregisterHoverParticipant(hoverParticipant);
-		this.hoverParticipant = null;
+		if (hoverParticipant != null) {
+			hoverParticipant.stop();
+			this.hoverParticipant = null;
+		}
 		registry.unregisterDefinitionParticipant(definitionParticipant);
 		this.definitionParticipant = null;
 		if (localRepositorySearcher != null) {
@@ -548,6 +623,33 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 			cache.stop();
 			cache = null;
 		}
+		if (pluginDescriptorPrefetcher != null) {
+			mavenProjectBuildListeners.remove(pluginDescriptorPrefetcher);
+			pluginDescriptorPrefetcher.stop();
+			pluginDescriptorPrefetcher = null;
+		}
+		if (artifactResolutionService != null) {
+			artifactResolutionService.stop();
+			artifactResolutionService = null;
+		}
+		if (propertyIndex != null) {
+			propertyIndex.clear();
+			propertyIndex = null;
+		}
+		if (pomDocumentCache != null) {
+			pomDocumentCache.clear();
+		}
+		if (dependencyIndex != null) {
+			mavenProjectBuildListeners.remove(dependencyIndex);
+			dependencyIndex.clear();
+			dependencyIndex = null;
+		}
+		if (outdatedVersionReport != null) {
+			outdatedVersionReport.stop();
+			outdatedVersionReport = null;
+		}
+		this.components = null;
+		this.resolutionFailureCache = null;
 		if (container != null) {
 			container.dispose();
 			container = null;
@@ -596,6 +698,28 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 		return validationService;
 	}
 
+	/**
+	 * Validates again the current version of the document with the given URI,
+	 * as returned by the document provider, if it's opened.
+	 * 
+	 * @param uri the URI of the document
+	 */
+	public void validate(String uri) {
+		DOMDocument document = documentProvider != null ? documentProvider.getDocument(uri) : null;
+		if (document != null && validationService != null) {
+			validationService.validate(document);
+		}
+	}
+
+	/**
+	 * Returns the Maven settings of the extension
+	 * 
+	 * @return the Maven settings
+	 */
+	public XMLMavenSettings getSettings() {
+		return settings;
+	}
+
 	/**
 	 * Returns the cache of collected Maven Projects
 	 * 
@@ -633,7 +757,7 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 	 */
 	public BuildPluginManager getBuildPluginManager() {
 		initialize();
-		return buildPluginManager;
+		return components != null ? components.getBuildPluginManager() : null;
 	}
 
 	/**
@@ -653,7 +777,78 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 	 */
 	public MavenPluginManager getMavenPluginManager() {
 		initialize();
-		return mavenPluginManager;
+		return components != null ? components.getMavenPluginManager() : null;
+	}
+
+	/**
+	 * Returns the Maven components looked up once in the Plexus container
+	 * 
+	 * @return Maven components
+	 */
+	public MavenComponents getMavenComponents() {
+		initialize();
+		return components;
+	}
+
+	/**
+	 * Returns the service resolving the artifacts for the participants
+	 * 
+	 * @return Artifact resolution service
+	 */
+	public ArtifactResolutionService getArtifactResolutionService() {
+		initialize();
+		return artifactResolutionService;
+	}
+
+	/**
+	 * Returns the cache of the artifacts and plugins which could not be resolved
+	 * 
+	 * @return Resolution failure cache
+	 */
+	public ResolutionFailureCache getResolutionFailureCache() {
+		initialize();
+		return resolutionFailureCache;
+	}
+
+	/**
+	 * Returns the cache of the parsed documents of the POM files which are not
+	 * opened in the editor
+	 * 
+	 * @return POM document cache
+	 */
+	public PomDocumentCache getPomDocumentCache() {
+		return pomDocumentCache;
+	}
+
+	/**
+	 * Returns the index of the property definitions and usages of the workspace
+	 * POM files
+	 * 
+	 * @return Workspace property index
+	 */
+	public WorkspacePropertyIndex getPropertyIndex() {
+		initialize();
+		return propertyIndex;
+	}
+
+	/**
+	 * Returns the index of the artifacts used by the workspace projects
+	 * 
+	 * @return Workspace dependency index
+	 */
+	public WorkspaceDependencyIndex getDependencyIndex() {
+		initialize();
+		return dependencyIndex;
+	}
+
+	/**
+	 * Returns the report of the outdated dependency and plugin versions
+	 * 
+	 * @return Outdated version report
+	 */
+	public OutdatedVersionReport getOutdatedVersionReport() {
+		initialize();
+		return outdatedVersionReport;
 	}
 
 	/**
@@ -710,6 +905,15 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 
 			reader.addToWorkspace(sortProjects(projectsToAdd));
 			projectsToRemove.stream().forEach(reader::remove);
+			if (dependencyIndex != null) {
+				projectsToRemove.stream().map(File::new).forEach(dependencyIndex::remove);
+			}
+		}
+	}
+
+	private void addToWorkspace(Collection<URI> sortedProjects) {
+		if (mavenRequest.getWorkspaceReader() instanceof MavenLemminxWorkspaceReader reader) {
+			reader.addToWorkspace(sortedProjects);
 		}
 	}
 
@@ -884,7 +1088,7 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 				LOGGER.log(Level.SEVERE, e.getMessage(), e);
 				return null;
 			}
-		}).filter(Objects::nonNull).map(LoadedMavenProject::getMavenProject).toList();
+		}).filter(Objects::nonNull).map(LoadedMavenProject::getMavenProject).filter(Objects::nonNull).toList();
 	}
 
 	/**
@@ -905,6 +1109,7 @@ public class MavenLemminxExtension implements IXMLExtension, IMavenProjectBuildL
 				codeActionParticipants.add(new MavenNoGrammarConstraintsCodeAction());
 				codeActionParticipants.add(new MavenIdPartRemovalCodeAction());
 				codeActionParticipants.add(new MavenManagedVersionRemovalCodeAction());
+				codeActionParticipants.add(new MavenUpdateVersionCodeAction());
 
 				// Refactoring
 				codeActionParticipants.add(new InlinePropertyCodeAction(this));
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.aether.AbstractRepositoryListener;
+import org.eclipse.aether.DefaultRepositoryCache;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.DefaultSessionData;
+import org.eclipse.aether.RepositoryEvent;
+import org.eclipse.aether.RepositoryListener;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.metadata.Metadata;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.RepositoryPolicy;
+import org.eclipse.aether.spi.connector.filter.RemoteRepositoryFilter;
+import org.eclipse.aether.spi.connector.filter.RemoteRepositoryFilterSource;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Remembers the artifacts and plugin descriptors which could not be resolved,
+ * for a limited time, so that rebuilding a project or hovering an element
+ * while editing doesn't try to download them again on each keystroke.
+ *
+ * The cache is fed by the failed resolutions of the repository session (see
+ * {@link #newRepositoryListener()}) and, as a remote repository filter, keeps
+ * the resolver from querying the remote repositories for the known missing
+ * artifacts. The local repository and the workspace are still searched.
+ */
+public class ResolutionFailureCache implements RemoteRepositoryFilterSource {
+
+	private static final String PLUGIN_KEY_PREFIX = "plugin:";
+
+	private static final RemoteRepositoryFilter.Result ACCEPTED = new FilterResult(true, "Not a known failure");
+
+	private final long timeout;
+	private final Cache<String, Exception> failures;
+
+	/**
+	 * Creates a cache keeping the failures for the given time
+	 *
+	 * @param timeout the time a failure is kept, in minutes, 0 to disable the
+	 *                cache
+	 */
+	public ResolutionFailureCache(int timeout) {
+		this.timeout = Math.max(0, timeout);
+		this.failures = CacheBuilder.newBuilder().expireAfterWrite(this.timeout, TimeUnit.MINUTES).build();
+	}
+
+	public static String getArtifactKey(Artifact artifact) {
+		return artifact.toString();
+	}
+
+	public static String getPluginKey(String groupId, String artifactId, String version) {
+		return PLUGIN_KEY_PREFIX + groupId + ':' + artifactId + ':' + version;
+	}
+
+	/**
+	 * Returns the error of the last failed resolution of the given key, if it
+	 * hasn't expired
+	 *
+	 * @param key an artifact or plugin key
+	 * @return the error or <code>null</code>
+	 */
+	public Exception getFailure(String key) {
+		return failures.getIfPresent(key);
+	}
+
+	/**
+	 * Records a failed resolution. The failure is kept for the configured time
+	 * from its first recording, the failures caused by the cache itself don't
+	 * extend it.
+	 *
+	 * @param key   an artifact or plugin key
+	 * @param error the resolution error
+	 */
+	public void recordFailure(String key, Exception error) {
+		if (timeout > 0) {
+			failures.asMap().putIfAbsent(key, error);
+		}
+	}
+
+	/**
+	 * Returns the time a failure is kept, in minutes
+	 */
+	public long getTimeout() {
+		return timeout;
+	}
+
+	public long size() {
+		failures.cleanUp();
+		return failures.size();
+	}
+
+	/**
+	 * Forgets all the failures, so that the next resolutions try the remote
+	 * repositories again
+	 */
+	public void clear() {
+		failures.invalidateAll();
+	}
+
+	/**
+	 * Returns a copy of the given session which queries the remote repositories
+	 * again for the artifacts which could not be resolved. Forgetting the
+	 * failures is not enough: the artifacts not found are also remembered in the
+	 * local repository (<code>.lastUpdated</code> files, see
+	 * <code>MavenExecutionRequest#setCacheNotFound</code>) and the remote checks
+	 * in the data of the session.
+	 *
+	 * @param session a repository session
+	 * @return a session with the <code>always</code> update policy, and without
+	 *         the data and cache of the given session
+	 */
+	public static RepositorySystemSession newRetrySession(RepositorySystemSession session) {
+		DefaultRepositorySystemSession retrySession = new DefaultRepositorySystemSession(session);
+		retrySession.setUpdatePolicy(RepositoryPolicy.UPDATE_POLICY_ALWAYS);
+		retrySession.setData(new DefaultSessionData());
+		retrySession.setCache(new DefaultRepositoryCache());
+		return retrySession;
+	}
+
+	/**
+	 * Returns a repository listener recording the failed artifact resolutions
+	 */
+	public RepositoryListener newRepositoryListener() {
+		return new AbstractRepositoryListener() {
+			@Override
+			public void artifactResolved(RepositoryEvent event) {
+				if (event.getFile() == null && event.getArtifact() != null && !event.getExceptions().isEmpty()) {
+					recordFailure(getArtifactKey(event.getArtifact()), event.getException());
+				}
+			}
+		};
+	}
+
+	@Override
+	public RemoteRepositoryFilter getRemoteRepositoryFilter(RepositorySystemSession session) {
+		return new RemoteRepositoryFilter() {
+
+			@Override
+			public Result acceptArtifact(RemoteRepository repository, Artifact artifact) {
+				Exception failure = getFailure(getArtifactKey(artifact));
+				return failure == null ? ACCEPTED
+						: new FilterResult(false, "Not resolved less than " + timeout + " minutes ago: "
+								+ failure.getMessage());
+			}
+
+			@Override
+			public Result acceptMetadata(RemoteRepository repository, Metadata metadata) {
+				return ACCEPTED;
+			}
+		};
+	}
+
+	private record FilterResult(boolean accepted, String reasoning) implements RemoteRepositoryFilter.Result {
+
+		@Override
+		public boolean isAccepted() {
+			return accepted;
+		}
+	}
+}
@@ -139,9 +139,7 @@ public class ExtractPropertyCodeAction implements ICodeActionParticipant {
 					if (projectUri.equals(thisProjectUri)) {
 						projectDocumentt = document;
 					} else {
-						projectDocumentt = org.eclipse.lemminx.utils.DOMUtils.loadDocument(
-							p.getFile().toURI().toString(),
-							document.getResolverExtensionManager());
+						projectDocumentt = plugin.getPomDocumentCache().getDocument(p.getFile());
 					}
 
 					TextEdit projectHeaderTextEdit = createPropertiesHeaderTextEdit(projectDocumentt, newline, indent,
@@ -18,15 +18,12 @@ import java.util.concurrent.CancellationException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import org.apache.maven.project.MavenProject;
-import org.eclipse.lemminx.commons.BadLocationException;
 import org.eclipse.lemminx.commons.CodeActionFactory;
-import org.eclipse.lemminx.commons.TextDocument;
 import org.eclipse.lemminx.dom.DOMDocument;
-import org.eclipse.lemminx.dom.DOMElement;
 import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
-import org.eclipse.lemminx.extensions.maven.utils.DOMUtils;
+import org.eclipse.lemminx.extensions.maven.project.ProjectSummary;
 import org.eclipse.lemminx.extensions.maven.utils.ParticipantUtils;
+import org.eclipse.lemminx.extensions.maven.utils.PropertyUsageScanner;
 import org.eclipse.lemminx.services.extensions.codeaction.ICodeActionParticipant;
 import org.eclipse.lemminx.services.extensions.codeaction.ICodeActionRequest;
 import org.eclipse.lsp4j.CodeAction;
@@ -60,7 +57,7 @@ public class InlinePropertyCodeAction implements ICodeActionParticipant {
 			}
 			
 			cancelChecker.checkCanceled();
-			MavenProject project = plugin.getProjectCache().getLastSuccessfulMavenProject(document);
+			ProjectSummary project = plugin.getProjectCache().getLastSuccessfulProjectSummary(document);
 			if (project != null) {
 				cancelChecker.checkCanceled();
 				Map<String, String> properties = ParticipantUtils.getMavenProjectProperties(project);
@@ -69,9 +66,8 @@ public class InlinePropertyCodeAction implements ICodeActionParticipant {
 					cancelChecker.checkCanceled();
 					
 					List<TextEdit> textEdits = new ArrayList<>();
-					collectInlinePropertyTextEdits(document.getDocumentElement(), 
-							"${" + mavenProperty.getValue() + "}", 
-							value, textEdits, cancelChecker);
+					PropertyUsageScanner.scan(document.getText(), mavenProperty.getValue(), cancelChecker,
+							usage -> textEdits.add(new TextEdit(usage.expressionRange(), value)));
 
 					if (textEdits.size() > 0) {
 						// Replace the property with its value only in current node
@@ -121,39 +117,4 @@ public class InlinePropertyCodeAction implements ICodeActionParticipant {
 		}
 		return true;
 	}
-	
-	void collectInlinePropertyTextEdits(DOMElement rootElement, String property, String value,
-			List<TextEdit> textEditss, CancelChecker cancelChecker) throws CancellationException {
-		cancelChecker.checkCanceled();
-
-		// Check this element's text
-		collectInElementTextEdits(rootElement, property, value, textEditss, cancelChecker);
-		
-		// collect in this element's children 
-		rootElement.getChildren().stream().filter(DOMElement.class::isInstance).map(DOMElement.class::cast)
-			.forEach(child -> collectInlinePropertyTextEdits(child, property, value, textEditss, cancelChecker));
-	}
-
-	void collectInElementTextEdits(DOMElement element, String property, String value, 
-			List<TextEdit> textEditss, CancelChecker cancelChecker) throws CancellationException {
-		TextDocument textDocument = element.getOwnerDocument().getTextDocument();
-		DOMUtils.findElementTextChildren(element).stream()
-			.filter(text -> text.getData().contains(property))
-			.forEach(text -> {
-				String data = text.getData();
-				int index = 0;
-				for (index = data.indexOf(property); index != -1; index = data.indexOf(property, index + property.length())) {
-					cancelChecker.checkCanceled();
-					try {
-						int propertyUseStart = text.getStart() + index;
-						Range range = new Range(textDocument.positionAt(propertyUseStart), 
-								textDocument.positionAt(propertyUseStart + property.length()));
-						textEditss.add(new TextEdit(range, value));
-					} catch (BadLocationException e) {
-						LOGGER.log(Level.SEVERE, e.getMessage(), e);
-						return;
-					}
-				}
-			});
-	}
 }
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.participants.codeaction;
+
+import static org.eclipse.lemminx.extensions.maven.participants.diagnostics.OutdatedVersionValidator.ATTR_NEWEST_VERSION;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.lemminx.commons.CodeActionFactory;
+import org.eclipse.lemminx.extensions.maven.participants.diagnostics.MavenSyntaxErrorCode;
+import org.eclipse.lemminx.extensions.maven.utils.ParticipantUtils;
+import org.eclipse.lemminx.services.extensions.codeaction.ICodeActionParticipant;
+import org.eclipse.lemminx.services.extensions.codeaction.ICodeActionRequest;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Replaces an outdated version with the newest known version
+ */
+public class MavenUpdateVersionCodeAction implements ICodeActionParticipant {
+
+	@Override
+	public void doCodeAction(ICodeActionRequest request, List<CodeAction> codeActions, CancelChecker cancelChecker) {
+		Diagnostic diagnostic = request.getDiagnostic();
+		if (!ParticipantUtils.match(diagnostic, MavenSyntaxErrorCode.OutdatedVersion.getCode())) {
+			return;
+		}
+		if (diagnostic.getData() instanceof Map<?, ?> dataMap
+				&& dataMap.get(ATTR_NEWEST_VERSION) instanceof String newestVersion) {
+			codeActions.add(CodeActionFactory.replace("Update version to " + newestVersion, diagnostic.getRange(),
+					newestVersion, request.getDocument().getTextDocument(), diagnostic));
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.participants.command;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.project.DependencyResolutionResult;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.extensions.maven.MavenInitializationException;
+import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
+import org.eclipse.lemminx.extensions.maven.project.DependencyConflicts;
+import org.eclipse.lemminx.extensions.maven.project.DependencyTree;
+import org.eclipse.lemminx.extensions.maven.project.LoadedMavenProject;
+import org.eclipse.lemminx.extensions.maven.project.MavenProjectCache;
+import org.eclipse.lemminx.services.IXMLDocumentProvider;
+import org.eclipse.lemminx.services.extensions.commands.AbstractDOMDocumentCommandHandler;
+import org.eclipse.lemminx.services.extensions.commands.ArgumentsUtils;
+import org.eclipse.lemminx.settings.SharedSettings;
+import org.eclipse.lsp4j.ExecuteCommandParams;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Returns a page of the dependency tree of the Maven project of the given
+ * document (see {@link DependencyTree.Page}), read from the dependency graph
+ * resolved with the last loaded project, without resolving it again.
+ *
+ * The arguments are the text document identifier of the POM, then optionally
+ * the id of the node whose children are returned (the root node by default),
+ * the index of the first child and the maximum number of children.
+ *
+ * The command waits a bounded time for the dependencies to be resolved, and
+ * returns a resolving page (see {@link DependencyTree#getResolvingPage()}) if
+ * they are still resolving, or if the project is built again to record the
+ * dependencies omitted for conflict. Returns <code>null</code> if the
+ * dependencies of the project couldn't be resolved or if there is no node
+ * with the given id.
+ */
+public class DependencyTreeCommand extends AbstractDOMDocumentCommandHandler {
+
+	public static final String COMMAND_ID = "xml.maven.dependencyTree";
+
+	private static final int DEFAULT_LIMIT = 100;
+
+	private static final long RESOLUTION_TIMEOUT = TimeUnit.SECONDS.toMillis(2);
+	private static final long POLL_INTERVAL = 50;
+
+	private final MavenLemminxExtension plugin;
+
+	public DependencyTreeCommand(MavenLemminxExtension plugin, IXMLDocumentProvider documentProvider) {
+		super(documentProvider);
+		this.plugin = plugin;
+	}
+
+	@Override
+	protected Object executeCommand(DOMDocument document, ExecuteCommandParams params, SharedSettings sharedSettings,
+			CancelChecker cancelChecker) throws Exception {
+		if (!MavenLemminxExtension.match(document)) {
+			return null;
+		}
+		String nodeId = ArgumentsUtils.getArgAt(params, 1, String.class);
+		Integer offset = ArgumentsUtils.getArgAt(params, 2, Integer.class);
+		Integer limit = ArgumentsUtils.getArgAt(params, 3, Integer.class);
+		try {
+			MavenProjectCache cache = plugin.getProjectCache();
+			long deadline = MavenLemminxExtension.isUnitTestMode() ? Long.MAX_VALUE
+					: System.currentTimeMillis() + RESOLUTION_TIMEOUT;
+			LoadedMavenProject loadedProject;
+			while (true) {
+				cancelChecker.checkCanceled();
+				// The future is replaced once the dependencies are resolved
+				CompletableFuture<LoadedMavenProject> project = cache.getLoadedMavenProject(document);
+				if (project == null || project.isCompletedExceptionally()) {
+					return null;
+				}
+				loadedProject = project.getNow(null);
+				if (loadedProject != null && loadedProject.isDependenciesResolved()) {
+					break;
+				}
+				if (System.currentTimeMillis() >= deadline) {
+					return DependencyTree.getResolvingPage();
+				}
+				Thread.sleep(POLL_INTERVAL);
+			}
+			DependencyResolutionResult result = loadedProject.getDependencyResolutionResult();
+			DependencyNode root = result != null ? result.getDependencyGraph() : null;
+			if (root == null) {
+				return null;
+			}
+			if (DependencyConflicts.of(root) == null && !cache.recordDependencyConflicts()) {
+				// The project is built again to record the dependencies omitted for conflict
+				return DependencyTree.getResolvingPage();
+			}
+			cancelChecker.checkCanceled();
+			return DependencyTree.getPage(root, nodeId, offset != null ? offset : 0,
+					limit != null ? limit : DEFAULT_LIMIT, cancelChecker);
+		} catch (MavenInitializationException e) {
+			// Maven is initializing, the project is not loaded yet
+			return null;
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.participants.command;
+
+import org.apache.maven.project.MavenProject;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.extensions.maven.MavenInitializationException;
+import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
+import org.eclipse.lemminx.extensions.maven.project.EffectivePomRenderer;
+import org.eclipse.lemminx.services.IXMLDocumentProvider;
+import org.eclipse.lemminx.services.extensions.commands.AbstractDOMDocumentCommandHandler;
+import org.eclipse.lemminx.settings.SharedSettings;
+import org.eclipse.lsp4j.ExecuteCommandParams;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Returns the effective POM of the Maven project of the given document, rendered
+ * from the last successfully loaded project, with the POM and line of each
+ * element. The client can show it as a read-only virtual document.
+ *
+ * The first argument is the text document identifier of the POM. Returns
+ * <code>null</code> if the document is not a POM or if its project couldn't be
+ * loaded.
+ */
+public class EffectivePomCommand extends AbstractDOMDocumentCommandHandler {
+
+	public static final String COMMAND_ID = "xml.maven.effectivePom";
+
+	private final MavenLemminxExtension plugin;
+	private final EffectivePomRenderer renderer = new EffectivePomRenderer();
+
+	public EffectivePomCommand(MavenLemminxExtension plugin, IXMLDocumentProvider documentProvider) {
+		super(documentProvider);
+		this.plugin = plugin;
+	}
+
+	@Override
+	protected Object executeCommand(DOMDocument document, ExecuteCommandParams params, SharedSettings sharedSettings,
+			CancelChecker cancelChecker) throws Exception {
+		if (!MavenLemminxExtension.match(document)) {
+			return null;
+		}
+		try {
+			MavenProject project = plugin.getProjectCache().getLastSuccessfulMavenProject(document);
+			if (project == null) {
+				return null;
+			}
+			cancelChecker.checkCanceled();
+			return renderer.render(project, cancelChecker);
+		} catch (MavenInitializationException e) {
+			// Maven is initializing, the project is not loaded yet
+			return null;
+		}
+	}
+}
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.participants.command;
+
+import java.util.List;
+
+import org.eclipse.lemminx.extensions.maven.MavenInitializationException;
+import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
+import org.eclipse.lemminx.services.extensions.commands.IXMLCommandService.IDelegateCommandHandler;
+import org.eclipse.lemminx.settings.SharedSettings;
+import org.eclipse.lsp4j.ExecuteCommandParams;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Returns the dependency and plugin versions of the workspace projects which
+ * are older than the newest known release, sorted by POM file.
+ */
+public class OutdatedVersionsCommand implements IDelegateCommandHandler {
+
+	public static final String COMMAND_ID = "xml.maven.outdatedVersions";
+
+	private final MavenLemminxExtension plugin;
+
+	public OutdatedVersionsCommand(MavenLemminxExtension plugin) {
+		this.plugin = plugin;
+	}
+
+	@Override
+	public Object executeCommand(ExecuteCommandParams params, SharedSettings sharedSettings,
+			CancelChecker cancelChecker) throws Exception {
+		try {
+			return plugin.getOutdatedVersionReport().computeWorkspaceReport(cancelChecker).get();
+		} catch (MavenInitializationException e) {
+			// Maven is initializing, the workspace projects are not known yet
+			return List.of();
+		}
+	}
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.participants.command;
+
+import org.eclipse.lemminx.extensions.maven.MavenInitializationException;
+import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
+import org.eclipse.lemminx.extensions.maven.ResolutionFailureCache;
+import org.eclipse.lemminx.services.extensions.commands.IXMLCommandService.IDelegateCommandHandler;
+import org.eclipse.lemminx.settings.SharedSettings;
+import org.eclipse.lsp4j.ExecuteCommandParams;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Forgets the artifacts and plugins which could not be resolved and reloads
+ * the Maven projects, so that they are searched again in the remote
+ * repositories.
+ *
+ * Returns the number of forgotten resolution failures.
+ */
+public class RetryUnresolvedArtifactsCommand implements IDelegateCommandHandler {
+
+	public static final String COMMAND_ID = "xml.maven.retryUnresolvedArtifacts";
+
+	private final MavenLemminxExtension plugin;
+
+	public RetryUnresolvedArtifactsCommand(MavenLemminxExtension plugin) {
+		this.plugin = plugin;
+	}
+
+	@Override
+	public Object executeCommand(ExecuteCommandParams params, SharedSettings sharedSettings,
+			CancelChecker cancelChecker) throws Exception {
+		try {
+			ResolutionFailureCache failures = plugin.getResolutionFailureCache();
+			long size = failures.size();
+			failures.clear();
+			plugin.getProjectCache().reloadProjects(true);
+			return size;
+		} catch (MavenInitializationException e) {
+			// Maven is initializing, nothing has been resolved yet
+			return 0L;
+		}
+	}
+}
@@ -102,6 +102,7 @@ import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
 import org.eclipse.lemminx.extensions.maven.MavenModelOutOfDatedException;
 import org.eclipse.lemminx.extensions.maven.MojoParameter;
 import org.eclipse.lemminx.extensions.maven.participants.ArtifactWithDescription;
+import org.eclipse.lemminx.extensions.maven.project.ProjectSummary;
 import org.eclipse.lemminx.extensions.maven.searcher.RemoteCentralRepositorySearcher.OngoingOperationException;
 import org.eclipse.lemminx.extensions.maven.utils.DOMUtils;
 import org.eclipse.lemminx.extensions.maven.utils.MavenParseUtils;
@@ -886,7 +887,7 @@ public class MavenCompletionParticipant extends CompletionParticipantAdapter {
 
 	private Collection<CompletionItem> completeProperties(ICompletionRequest request, CancelChecker cancelChecker) {
 		cancelChecker.checkCanceled();
-		MavenProject project = plugin.getProjectCache().getLastSuccessfulMavenProject(request.getXMLDocument());
+		ProjectSummary project = plugin.getProjectCache().getLastSuccessfulProjectSummary(request.getXMLDocument());
 		if (project == null) {
 			cancelChecker.checkCanceled();
 			return Collections.emptySet();
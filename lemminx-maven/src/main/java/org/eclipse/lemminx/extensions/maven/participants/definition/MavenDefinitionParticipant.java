@@ -17,6 +17,7 @@ import java.io.File;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CancellationException;
 import java.util.function.Predicate;
@@ -26,6 +27,8 @@ import java.util.logging.Logger;
 import org.apache.maven.Maven;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.InputLocation;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Parent;
 import org.apache.maven.project.MavenProject;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.lemminx.dom.DOMDocument;
@@ -34,6 +37,8 @@ import org.eclipse.lemminx.dom.DOMNode;
 import org.eclipse.lemminx.extensions.maven.MavenInitializationException;
 import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
 import org.eclipse.lemminx.extensions.maven.MavenModelOutOfDatedException;
+import org.eclipse.lemminx.extensions.maven.project.WorkspacePropertyIndex.IndexedPom;
+import org.eclipse.lemminx.extensions.maven.project.WorkspacePropertyIndex.PropertyDefinition;
 import org.eclipse.lemminx.extensions.maven.utils.DOMUtils;
 import org.eclipse.lemminx.extensions.maven.utils.ParticipantUtils;
 import org.eclipse.lemminx.services.extensions.IDefinitionParticipant;
@@ -102,7 +107,7 @@ public class MavenDefinitionParticipant implements IDefinitionParticipant {
 						location = toLocation(managed.get().getLocation("artifactId"), 
 								XMLPositionUtility.createRange(element));
 					} else {
-						Artifact artifact = ParticipantUtils.findWorkspaceArtifact(plugin, request, dependency);
+						Artifact artifact = ParticipantUtils.findWorkspaceArtifact(plugin, request, dependency, cancelChecker);
 						if (artifact != null && artifact.getFile() != null) {
 							location = toLocationNoRange(artifact.getFile(), element);
 						}
@@ -157,7 +162,7 @@ public class MavenDefinitionParticipant implements IDefinitionParticipant {
 						location = toLocation(managed.get().getLocation("artifactId"), 
 								XMLPositionUtility.createRange(element));
 					} else {
-						Artifact artifact = ParticipantUtils.findWorkspaceArtifact(plugin, request, dependency);
+						Artifact artifact = ParticipantUtils.findWorkspaceArtifact(plugin, request, dependency, cancelChecker);
 						if (artifact != null && artifact.getFile() != null) {
 							location = toLocationNoRange(artifact.getFile(), element);
 						}
@@ -216,12 +221,14 @@ public class MavenDefinitionParticipant implements IDefinitionParticipant {
 			propertyDeclaration = DOMUtils.findNodesByLocalName(xmlDocument, mavenProperty.getValue()).stream()
 					.filter(isMavenProperty).findFirst().orElse(null);
 		} else {
-			DOMDocument propertyDeclaringDocument = org.eclipse.lemminx.utils.DOMUtils.loadDocument(
-					childProj.getFile().toURI().toString(),
-					request.getNode().getOwnerDocument().getResolverExtensionManager());
+			// Property is defined in another file, look for it in the workspace property index
+			IndexedPom propertyDeclaringPom = plugin.getPropertyIndex().getIndexedPom(childProj.getFile());
 			cancelChecker.checkCanceled();
-			propertyDeclaration = DOMUtils.findNodesByLocalName(propertyDeclaringDocument, mavenProperty.getValue())
-					.stream().filter(isMavenProperty).findFirst().orElse(null);
+			PropertyDefinition definition = propertyDeclaringPom != null
+					? propertyDeclaringPom.getDefinitions().get(mavenProperty.getValue())
+					: null;
+			return definition != null ? new LocationLink(childProj.getFile().toURI().toString(),
+					definition.range(), definition.range(), mavenProperty.getKey()) : null;
 		}
 
 		if (propertyDeclaration == null) {
@@ -233,6 +240,21 @@ public class MavenDefinitionParticipant implements IDefinitionParticipant {
 	}
 
 	private boolean match(File relativeFile, Dependency dependency) {
+		// The raw model is enough to match literal coordinates
+		Optional<Model> model = plugin.getProjectCache().getRawModel(relativeFile);
+		if (model.isPresent()) {
+			Parent parent = model.get().getParent();
+			String groupId = model.get().getGroupId() != null || parent == null ? model.get().getGroupId()
+					: parent.getGroupId();
+			String version = model.get().getVersion() != null || parent == null ? model.get().getVersion()
+					: parent.getVersion();
+			String artifactId = model.get().getArtifactId();
+			if (!isExpression(groupId) && !isExpression(artifactId) && !isExpression(version)) {
+				return Objects.equals(groupId, dependency.getGroupId())
+						&& Objects.equals(artifactId, dependency.getArtifactId())
+						&& Objects.equals(version, dependency.getVersion());
+			}
+		}
 		return plugin.getProjectCache().getSnapshotProject(relativeFile)
 				.filter(p -> p.getGroupId().equals(dependency.getGroupId()) && //
 						p.getArtifactId().equals(dependency.getArtifactId()) && //
@@ -240,6 +262,10 @@ public class MavenDefinitionParticipant implements IDefinitionParticipant {
 				.isPresent();
 	}
 
+	private static boolean isExpression(String value) {
+		return value != null && value.contains("${");
+	}
+
 	private static LocationLink toLocationNoRange(File target, DOMNode originNode) {
 		if (target == null) {
 			return null;
@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.participants.diagnostics;
+
+import static org.eclipse.lemminx.extensions.maven.DOMConstants.DEPENDENCIES_ELT;
+import static org.eclipse.lemminx.extensions.maven.DOMConstants.DEPENDENCY_ELT;
+import static org.eclipse.lemminx.extensions.maven.DOMConstants.PROFILES_ELT;
+import static org.eclipse.lemminx.extensions.maven.DOMConstants.PROFILE_ELT;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.apache.maven.model.Dependency;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
+import org.eclipse.lemminx.extensions.maven.project.DependencyConflicts;
+import org.eclipse.lemminx.extensions.maven.project.DependencyConflicts.OmittedDependency;
+import org.eclipse.lemminx.extensions.maven.project.EffectiveProperties;
+import org.eclipse.lemminx.extensions.maven.utils.DOMUtils;
+import org.eclipse.lemminx.extensions.maven.utils.MavenParseUtils;
+import org.eclipse.lemminx.utils.XMLPositionUtility;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Reports the dependencies whose transitive dependencies don't converge: a
+ * transitive dependency omitted because another version of the same artifact
+ * is kept in the resolved graph (see maven-enforcer
+ * <code>dependencyConvergence</code> rule).
+ *
+ * The analysis reads the resolved graph cached with the project and the
+ * conflict losers recorded during its resolution (see
+ * {@link DependencyConflicts}). It runs once per resolved graph on a
+ * background thread: the document is validated again when the analysis is
+ * done, and the edits which don't rebuild the project reuse it. The warnings
+ * are attached to the <code>dependency</code> elements of the document which
+ * declare the direct dependencies.
+ */
+public class DependencyConvergenceValidator {
+
+	private static final Logger LOGGER = Logger.getLogger(DependencyConvergenceValidator.class.getName());
+
+	/**
+	 * A transitive dependency of a direct dependency omitted for conflict
+	 *
+	 * @param groupId    the group id of the direct dependency
+	 * @param artifactId the artifact id of the direct dependency
+	 * @param message    the description of the conflict
+	 */
+	record Conflict(String groupId, String artifactId, String message) {
+	}
+
+	private final MavenLemminxExtension plugin;
+	private final Cache<DependencyNode, CompletableFuture<List<Conflict>>> analyses = CacheBuilder.newBuilder()
+			.weakKeys().build();
+	private final ThreadPoolExecutor executor;
+
+	public DependencyConvergenceValidator(MavenLemminxExtension plugin) {
+		this.plugin = plugin;
+		this.executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				runnable -> {
+					Thread thread = new Thread(runnable, "Maven dependency convergence");
+					thread.setDaemon(true);
+					return thread;
+				});
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Adds the convergence warnings of the given resolved graph to the
+	 * diagnostics if its analysis is done, starts the analysis otherwise.
+	 *
+	 * @param document      the POM document
+	 * @param root          the root node of the resolved graph of the project
+	 * @param properties    the effective properties of the project
+	 * @param diagnostics   the diagnostics of the document
+	 * @param cancelChecker the cancel checker
+	 */
+	public void validate(DOMDocument document, DependencyNode root, EffectiveProperties properties,
+			List<Diagnostic> diagnostics, CancelChecker cancelChecker) {
+		if (root == null || DependencyConflicts.of(root) == null) {
+			return;
+		}
+		CompletableFuture<List<Conflict>> analysis;
+		String uri = document.getDocumentURI();
+		try {
+			analysis = analyses.get(root, () -> {
+				CompletableFuture<List<Conflict>> future = CompletableFuture.supplyAsync(() -> analyze(root),
+						executor);
+				future.whenComplete((unused, error) -> {
+					if (error != null) {
+						LOGGER.log(Level.SEVERE, "The dependency convergence analysis failed", error);
+					} else {
+						// The document may have been edited meanwhile, its current version is validated
+						plugin.validate(uri);
+					}
+				});
+				return future;
+			});
+		} catch (ExecutionException e) {
+			LOGGER.log(Level.SEVERE, e.getMessage(), e);
+			return;
+		}
+		CompletableFuture<List<Conflict>> result = analysis.exceptionally(error -> null);
+		if (MavenLemminxExtension.isUnitTestMode()) {
+			result.join();
+		}
+		if (analysis.isCompletedExceptionally()) {
+			// The failure is logged, the graph is analyzed again on the next validation
+			analyses.asMap().remove(root, analysis);
+			return;
+		}
+		List<Conflict> conflicts = result.getNow(null);
+		if (conflicts == null || conflicts.isEmpty()) {
+			return;
+		}
+		cancelChecker.checkCanceled();
+		Map<String, List<Conflict>> byDependency = conflicts.stream().collect(
+				Collectors.groupingBy(conflict -> conflict.groupId() + ':' + conflict.artifactId(), LinkedHashMap::new,
+						Collectors.toList()));
+		for (DOMElement dependency : getDeclaredDependencies(document)) {
+			cancelChecker.checkCanceled();
+			Dependency artifact = MavenParseUtils.parseArtifact(dependency);
+			if (artifact == null) {
+				continue;
+			}
+			List<Conflict> dependencyConflicts = byDependency.get(
+					properties.interpolate(artifact.getGroupId()) + ':'
+							+ properties.interpolate(artifact.getArtifactId()));
+			if (dependencyConflicts == null) {
+				continue;
+			}
+			for (Conflict conflict : dependencyConflicts) {
+				diagnostics.add(new Diagnostic(
+						XMLPositionUtility.createRange(dependency.getStart() + 1,
+								dependency.getStart() + 1 + DEPENDENCY_ELT.length(), document),
+						conflict.message(), DiagnosticSeverity.Warning, document.getDocumentURI(),
+						MavenSyntaxErrorCode.DependencyConvergence.getCode()));
+			}
+		}
+	}
+
+	/**
+	 * Returns the transitive dependencies omitted for conflict, for each direct
+	 * dependency of the given resolved graph
+	 */
+	static List<Conflict> analyze(DependencyNode root) {
+		DependencyConflicts conflicts = DependencyConflicts.of(root);
+		if (conflicts == null) {
+			return List.of();
+		}
+		List<Conflict> result = new ArrayList<>();
+		for (DependencyNode direct : root.getChildren()) {
+			Artifact directArtifact = direct.getArtifact();
+			Map<String, Conflict> directConflicts = new LinkedHashMap<>();
+			List<DependencyNode> path = new ArrayList<>();
+			collectConflicts(direct, path, Collections.newSetFromMap(new IdentityHashMap<>()), conflicts,
+					directArtifact, directConflicts);
+			result.addAll(directConflicts.values());
+		}
+		return result;
+	}
+
+	private static void collectConflicts(DependencyNode node, List<DependencyNode> path, Set<DependencyNode> visited,
+			DependencyConflicts conflicts, Artifact directArtifact, Map<String, Conflict> result) {
+		if (!visited.add(node)) {
+			return;
+		}
+		path.add(node);
+		for (OmittedDependency omitted : conflicts.getOmittedDependencies(node)) {
+			Artifact artifact = omitted.dependency().getArtifact();
+			String key = artifact.getGroupId() + ':' + artifact.getArtifactId() + ':' + artifact.getVersion();
+			result.computeIfAbsent(key, k -> new Conflict(directArtifact.getGroupId(),
+					directArtifact.getArtifactId(),
+					"Dependency convergence error for " + artifact.getGroupId() + ':' + artifact.getArtifactId() + ": "
+							+ artifact.getVersion() + " required by "
+							+ path.stream().map(n -> toString(n.getArtifact())).collect(Collectors.joining(" > "))
+							+ " is omitted for conflict with " + omitted.winnerVersion()));
+		}
+		for (DependencyNode child : node.getChildren()) {
+			collectConflicts(child, path, visited, conflicts, directArtifact, result);
+		}
+		path.remove(path.size() - 1);
+	}
+
+	private static String toString(Artifact artifact) {
+		return artifact.getGroupId() + ':' + artifact.getArtifactId() + ':' + artifact.getVersion();
+	}
+
+	private static List<DOMElement> getDeclaredDependencies(DOMDocument document) {
+		List<DOMElement> dependencies = new ArrayList<>();
+		DOMElement project = document.getDocumentElement();
+		if (project == null) {
+			return dependencies;
+		}
+		addDependencies(project, dependencies);
+		DOMUtils.findChildElement(project, PROFILES_ELT)
+				.ifPresent(profiles -> DOMUtils.findChildElements(profiles, PROFILE_ELT)
+						.forEach(profile -> addDependencies(profile, dependencies)));
+		return dependencies;
+	}
+
+	private static void addDependencies(DOMElement parent, List<DOMElement> dependencies) {
+		DOMUtils.findChildElement(parent, DEPENDENCIES_ELT)
+				.ifPresent(element -> dependencies.addAll(DOMUtils.findChildElements(element, DEPENDENCY_ELT)));
+	}
+}
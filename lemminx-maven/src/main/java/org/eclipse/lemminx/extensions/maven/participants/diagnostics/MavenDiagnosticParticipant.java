@@ -40,6 +40,7 @@ import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSetting
 import org.eclipse.lemminx.extensions.maven.MavenInitializationException;
 import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
 import org.eclipse.lemminx.extensions.maven.MavenModelOutOfDatedException;
+import org.eclipse.lemminx.extensions.maven.project.EffectiveProperties;
 import org.eclipse.lemminx.extensions.maven.project.LoadedMavenProject;
 import org.eclipse.lemminx.services.extensions.diagnostics.IDiagnosticsParticipant;
 import org.eclipse.lemminx.utils.XMLPositionUtility;
@@ -53,9 +54,15 @@ public class MavenDiagnosticParticipant implements IDiagnosticsParticipant {
 	private static final Logger LOGGER = Logger.getLogger(MavenDiagnosticParticipant.class.getName());
 
 	private final MavenLemminxExtension plugin;
+	private final PluginDiagnosticsCache pluginDiagnosticsCache;
+	private final DependencyConvergenceValidator dependencyConvergenceValidator;
+	private final OutdatedVersionValidator outdatedVersionValidator;
 
 	public MavenDiagnosticParticipant(MavenLemminxExtension plugin) {
 		this.plugin = plugin;
+		this.pluginDiagnosticsCache = new PluginDiagnosticsCache();
+		this.dependencyConvergenceValidator = new DependencyConvergenceValidator(plugin);
+		this.outdatedVersionValidator = new OutdatedVersionValidator(plugin);
 	}
 
 	@Override
@@ -91,6 +98,15 @@ public class MavenDiagnosticParticipant implements IDiagnosticsParticipant {
 			DependencyResolutionResult dependencyResolutionResult = 
 					loadedMavenProject != null ?
 							loadedMavenProject.getDependencyResolutionResult() : null;
+			if (dependencyResolutionResult != null && plugin.getSettings().isDependencyConvergence()) {
+				// The convergence is analyzed in background, the document is validated again once it's done
+				dependencyConvergenceValidator.validate(xmlDocument, dependencyResolutionResult.getDependencyGraph(),
+						EffectiveProperties.of(loadedMavenProject.getMavenProject()), diagnostics, cancelChecker);
+			}
+			if (plugin.getSettings().isOutdatedVersions()) {
+				// The version catalog is built in background, the document is validated again once it's done
+				outdatedVersionValidator.validate(xmlDocument, diagnostics, cancelChecker);
+			}
 
 			cancelChecker.checkCanceled();
 			DOMElement documentElement = xmlDocument.getDocumentElement();
@@ -150,7 +166,7 @@ public class MavenDiagnosticParticipant implements IDiagnosticsParticipant {
 
 	private Map<String, Function<DiagnosticRequest, Optional<List<Diagnostic>>>> configureDiagnosticFunctions(
 			CancelChecker cancelChecker) {
-		PluginValidator pluginValidator = new PluginValidator(plugin, cancelChecker);
+		PluginValidator pluginValidator = new PluginValidator(plugin, pluginDiagnosticsCache, cancelChecker);
 
 		Function<DiagnosticRequest, Optional<List<Diagnostic>>> validatePluginConfiguration = pluginValidator::validateConfiguration;
 		Function<DiagnosticRequest, Optional<List<Diagnostic>>> validatePluginGoal = pluginValidator::validateGoal;
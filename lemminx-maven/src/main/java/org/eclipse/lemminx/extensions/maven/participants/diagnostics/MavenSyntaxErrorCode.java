@@ -17,7 +17,9 @@ public enum MavenSyntaxErrorCode implements IXMLErrorCode {
 	DuplicationOfParentGroupId,
 	DuplicationOfParentVersion,
 	OverridingOfManagedDependency,
-	OverridingOfManagedPlugin;
+	OverridingOfManagedPlugin,
+	DependencyConvergence,
+	OutdatedVersion;
 
 	private final String code;
 
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.participants.diagnostics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
+import org.eclipse.lemminx.extensions.maven.project.OutdatedVersionReport;
+import org.eclipse.lemminx.extensions.maven.project.OutdatedVersionReport.OutdatedVersion;
+import org.eclipse.lemminx.extensions.maven.searcher.VersionCatalog;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Reports the dependency and plugin versions older than the newest known
+ * release as hints (see {@link OutdatedVersionReport}). The newest version is
+ * kept in the diagnostic data for the "update version" code action.
+ *
+ * The version catalog is built in background: until the first catalog is
+ * ready, no hint is reported and the current version of the document is
+ * validated again once it's built, only once however many times it was
+ * validated meanwhile. The previous catalog is used while it's built again.
+ */
+public class OutdatedVersionValidator {
+
+	public static final String ATTR_NEWEST_VERSION = "newestVersion"; //$NON-NLS-1$
+
+	private final MavenLemminxExtension plugin;
+
+	// The URIs of the documents to validate again once the catalog is built
+	private final Set<String> pendingValidations = ConcurrentHashMap.newKeySet();
+
+	public OutdatedVersionValidator(MavenLemminxExtension plugin) {
+		this.plugin = plugin;
+	}
+
+	public void validate(DOMDocument document, List<Diagnostic> diagnostics, CancelChecker cancelChecker) {
+		CompletableFuture<VersionCatalog> catalog = plugin.getOutdatedVersionReport().getCatalog();
+		if (MavenLemminxExtension.isUnitTestMode()) {
+			catalog.join();
+		}
+		if (!catalog.isDone()) {
+			String uri = document.getDocumentURI();
+			if (pendingValidations.add(uri)) {
+				catalog.whenComplete((unused, error) -> {
+					pendingValidations.remove(uri);
+					if (error == null) {
+						plugin.validate(uri);
+					}
+				});
+			}
+			return;
+		}
+		if (catalog.isCompletedExceptionally()) {
+			return;
+		}
+		VersionCatalog versionCatalog = catalog.getNow(VersionCatalog.EMPTY);
+		for (OutdatedVersion outdatedVersion : OutdatedVersionReport.analyze(document, versionCatalog,
+				cancelChecker)) {
+			Diagnostic diagnostic = new Diagnostic(outdatedVersion.range(),
+					"A newer version of " + outdatedVersion.groupId() + ':' + outdatedVersion.artifactId()
+							+ " is available: " + outdatedVersion.newestVersion(),
+					DiagnosticSeverity.Hint, document.getDocumentURI(), MavenSyntaxErrorCode.OutdatedVersion.getCode());
+			diagnostic.setData(Map.of(ATTR_NEWEST_VERSION, outdatedVersion.newestVersion()));
+			diagnostics.add(diagnostic);
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.participants.diagnostics;
+
+import static org.eclipse.lemminx.extensions.maven.DOMConstants.PLUGIN_ELT;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.model.Plugin;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.extensions.maven.utils.DOMUtils;
+import org.eclipse.lemminx.extensions.maven.utils.MavenPluginUtils;
+import org.eclipse.lemminx.utils.XMLPositionUtility;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+
+/**
+ * Memoizes the diagnostics computed for the <code>configuration</code> and
+ * <code>goal</code> elements of a plugin across validation runs.
+ *
+ * The entries are keyed by the resolved plugin GAV and a hash of the text of
+ * the containing <code>plugin</code> element, so that an unchanged plugin block
+ * reuses its diagnostics when another part of the POM is edited. Diagnostic
+ * ranges are stored relative to the start of the <code>plugin</code> element
+ * and are moved to the element's current position when reused.
+ */
+public class PluginDiagnosticsCache {
+
+	private static final int MAX_ENTRIES = 1000;
+
+	private record CachedDiagnostic(int start, int end, String message, DiagnosticSeverity severity,
+			String source) {
+	}
+
+	private final Cache<String, List<CachedDiagnostic>> cache = CacheBuilder.newBuilder()
+			.maximumSize(MAX_ENTRIES).build();
+
+	/**
+	 * Returns the key of the given plugin child element or <code>null</code> if
+	 * its diagnostics cannot be memoized (no containing plugin, plugin not found
+	 * in the project or plugin without a version).
+	 *
+	 * @param node    the <code>configuration</code> or <code>goal</code> element
+	 * @param project the last successfully built project of the node's document
+	 * @return the cache key or <code>null</code>
+	 */
+	String getKey(DOMNode node, MavenProject project) {
+		DOMNode pluginNode = DOMUtils.findClosestParentNode(node, PLUGIN_ELT);
+		if (pluginNode == null) {
+			return null;
+		}
+		Plugin plugin = MavenPluginUtils.findContainingPlugin(pluginNode, project);
+		if (plugin == null || plugin.getVersion() == null) {
+			return null;
+		}
+		String pluginText = node.getOwnerDocument().getText().substring(pluginNode.getStart(),
+				pluginNode.getEnd());
+		return plugin.getId() + '#'
+				+ Hashing.murmur3_128().hashString(pluginText, StandardCharsets.UTF_8).toString() + '#'
+				+ node.getLocalName() + '@' + (node.getStart() - pluginNode.getStart());
+	}
+
+	/**
+	 * Returns the memoized diagnostics for the given key, located at the current
+	 * position of the node's <code>plugin</code> element, or <code>null</code> if
+	 * nothing is memoized.
+	 */
+	List<Diagnostic> get(String key, DOMNode node) {
+		List<CachedDiagnostic> cached = cache.getIfPresent(key);
+		if (cached == null) {
+			return null;
+		}
+		DOMDocument document = node.getOwnerDocument();
+		int pluginStart = DOMUtils.findClosestParentNode(node, PLUGIN_ELT).getStart();
+		List<Diagnostic> diagnostics = new ArrayList<>(cached.size());
+		for (CachedDiagnostic diagnostic : cached) {
+			diagnostics.add(new Diagnostic(
+					XMLPositionUtility.createRange(pluginStart + diagnostic.start(), pluginStart + diagnostic.end(),
+							document),
+					diagnostic.message(), diagnostic.severity(), diagnostic.source()));
+		}
+		return diagnostics;
+	}
+
+	/**
+	 * Memoizes the diagnostics computed for the given key.
+	 */
+	void put(String key, DOMNode node, List<Diagnostic> diagnostics) {
+		DOMDocument document = node.getOwnerDocument();
+		int pluginStart = DOMUtils.findClosestParentNode(node, PLUGIN_ELT).getStart();
+		List<CachedDiagnostic> cached = new ArrayList<>(diagnostics.size());
+		try {
+			for (Diagnostic diagnostic : diagnostics) {
+				int start = document.offsetAt(diagnostic.getRange().getStart()) - pluginStart;
+				int end = document.offsetAt(diagnostic.getRange().getEnd()) - pluginStart;
+				cached.add(new CachedDiagnostic(start, end, diagnostic.getMessage(), diagnostic.getSeverity(),
+						diagnostic.getSource()));
+			}
+		} catch (BadLocationException e) {
+			// Do not memoize diagnostics that cannot be located
+			return;
+		}
+		cache.put(key, List.copyOf(cached));
+	}
+
+	public void clear() {
+		cache.invalidateAll();
+	}
+}
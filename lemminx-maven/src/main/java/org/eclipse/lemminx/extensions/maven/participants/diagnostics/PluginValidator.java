@@ -14,6 +14,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -23,7 +24,9 @@ import org.apache.maven.plugin.PluginResolutionException;
 import org.apache.maven.plugin.descriptor.MojoDescriptor;
 import org.apache.maven.plugin.descriptor.Parameter;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.project.MavenProject;
 import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.extensions.maven.ArtifactResolutionService.Priority;
 import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
 import org.eclipse.lemminx.extensions.maven.utils.DOMUtils;
 import org.eclipse.lemminx.extensions.maven.utils.MarkdownUtils;
@@ -37,17 +40,25 @@ class PluginValidator {
 	private static final Logger LOGGER = Logger.getLogger(PluginValidator.class.getName());
 
 	private MavenLemminxExtension plugin;
+	private PluginDiagnosticsCache diagnosticsCache;
 	private CancelChecker cancelChecker;
 	
 	public PluginValidator(MavenLemminxExtension plugin, CancelChecker cancelChecker) {
+		this(plugin, null, cancelChecker);
+	}
+
+	public PluginValidator(MavenLemminxExtension plugin, PluginDiagnosticsCache diagnosticsCache,
+			CancelChecker cancelChecker) {
 		this.plugin = plugin;
+		this.diagnosticsCache = diagnosticsCache;
 		this.cancelChecker = cancelChecker;
 	}
 
 	public Optional<List<Diagnostic>> validatePluginResolution(DiagnosticRequest diagnosticRequest) throws CancellationException {
 		cancelChecker.checkCanceled();
 		try {
-			MavenPluginUtils.getContainingPluginDescriptor(diagnosticRequest.getNode(), plugin, true);
+			MavenPluginUtils.getContainingPluginDescriptor(diagnosticRequest.getNode(), plugin, true,
+					Priority.BACKGROUND);
 		} catch (PluginResolutionException | PluginDescriptorParsingException | InvalidPluginDescriptorException e) {
 			LOGGER.log(Level.WARNING, "Could not resolve plugin description", e);
 
@@ -76,18 +87,58 @@ class PluginValidator {
 	}
 
 	public Optional<List<Diagnostic>> validateConfiguration(DiagnosticRequest diagnosticRequest) throws CancellationException {
+		return validateMemoized(diagnosticRequest, this::internalValidateConfiguration);
+	}
+
+	public Optional<List<Diagnostic>> validateGoal(DiagnosticRequest diagnosticRequest) throws CancellationException {
+		return validateMemoized(diagnosticRequest, this::internalValidateGoal);
+	}
+
+	/**
+	 * Validates the plugin resolution, then the given plugin element with the
+	 * given validation function. The result is memoized when the containing
+	 * plugin has been resolved, so that an unchanged plugin element doesn't
+	 * resolve the plugin descriptor again on the next validation run.
+	 */
+	private Optional<List<Diagnostic>> validateMemoized(DiagnosticRequest diagnosticRequest,
+			Function<DiagnosticRequest, Optional<List<Diagnostic>>> validation) throws CancellationException {
 		cancelChecker.checkCanceled();
 		DOMNode node = diagnosticRequest.getNode();
 		if (node == null) {
 			return Optional.empty();
 		}
+
+		String key = null;
+		if (diagnosticsCache != null) {
+			MavenProject project = plugin.getProjectCache()
+					.getLastSuccessfulMavenProject(diagnosticRequest.getXMLDocument());
+			cancelChecker.checkCanceled();
+			key = diagnosticsCache.getKey(node, project);
+			if (key != null) {
+				List<Diagnostic> diagnostics = diagnosticsCache.get(key, node);
+				if (diagnostics != null) {
+					return Optional.of(diagnostics);
+				}
+			}
+		}
+
 		Optional<List<Diagnostic>> pluginResolutionError = validatePluginResolution(diagnosticRequest);
 		if (pluginResolutionError.isPresent()) {
+			// Resolution errors may be transient, they are not memoized
 			cancelChecker.checkCanceled();
 			return pluginResolutionError;
 		}
 
 		cancelChecker.checkCanceled();
+		Optional<List<Diagnostic>> diagnostics = validation.apply(diagnosticRequest);
+		if (key != null) {
+			diagnosticsCache.put(key, node, diagnostics.orElse(List.of()));
+		}
+		return diagnostics;
+	}
+
+	private Optional<List<Diagnostic>> internalValidateConfiguration(DiagnosticRequest diagnosticRequest) {
+		DOMNode node = diagnosticRequest.getNode();
 		Set<Parameter> parameters = new HashSet<>();
 		try {
 			parameters = MavenPluginUtils.collectPluginConfigurationParameters(diagnosticRequest, plugin);
@@ -112,26 +163,16 @@ class PluginValidator {
 		return Optional.of(diagnostics);
 	}
 
-	public Optional<List<Diagnostic>> validateGoal(DiagnosticRequest diagnosticRequest) throws CancellationException {
-		cancelChecker.checkCanceled();
+	private Optional<List<Diagnostic>> internalValidateGoal(DiagnosticRequest diagnosticRequest) {
 		DOMNode node = diagnosticRequest.getNode();
-		if (node == null) {
-			return Optional.empty();
-		}
-		Optional<List<Diagnostic>> pluginResolutionError = validatePluginResolution(diagnosticRequest);
-		if (pluginResolutionError.isPresent()) {
-			cancelChecker.checkCanceled();
-			return pluginResolutionError;
-		}
-
-		cancelChecker.checkCanceled();
 		List<Diagnostic> diagnostics = new ArrayList<>();
 		if (node.isElement() && node.hasChildNodes()) {
 			PluginDescriptor pluginDescriptor;
 			try {
-				pluginDescriptor = MavenPluginUtils.getContainingPluginDescriptor(diagnosticRequest.getNode(), plugin);
+				pluginDescriptor = MavenPluginUtils.getContainingPluginDescriptor(diagnosticRequest.getNode(), plugin,
+						false, Priority.BACKGROUND);
 				if (pluginDescriptor != null) {
-					internalValidateGoal(diagnosticRequest, pluginDescriptor).ifPresent(diagnostics::add);;
+					validateGoalElement(diagnosticRequest, pluginDescriptor).ifPresent(diagnostics::add);
 				}
 			} catch (PluginResolutionException | PluginDescriptorParsingException
 					| InvalidPluginDescriptorException e) {
@@ -143,7 +184,7 @@ class PluginValidator {
 		return Optional.of(diagnostics);
 	}
 
-	private Optional<Diagnostic> internalValidateGoal(DiagnosticRequest diagnosticReq, PluginDescriptor pluginDescriptor) {
+	private Optional<Diagnostic> validateGoalElement(DiagnosticRequest diagnosticReq, PluginDescriptor pluginDescriptor) {
 		cancelChecker.checkCanceled();
 		DOMNode node = diagnosticReq.getNode();
 		if (!node.hasChildNodes()) {
@@ -24,6 +24,7 @@ import static org.eclipse.lemminx.extensions.maven.DOMConstants.TYPE_ELT;
 import static org.eclipse.lemminx.extensions.maven.DOMConstants.VERSION_ELT;
 
 import java.io.File;
+import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -43,11 +44,13 @@ import org.apache.maven.model.Plugin;
 import org.apache.maven.model.PluginManagement;
 import org.apache.maven.project.DependencyResolutionResult;
 import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.lemminx.dom.DOMComment;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMElement;
 import org.eclipse.lemminx.dom.DOMNode;
 import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
+import org.eclipse.lemminx.extensions.maven.ResolutionFailureCache;
 import org.eclipse.lemminx.extensions.maven.utils.DOMUtils;
 import org.eclipse.lemminx.extensions.maven.utils.MavenParseUtils;
 import org.eclipse.lemminx.utils.XMLPositionUtility;
@@ -68,6 +71,8 @@ public class ProjectValidator {
 	 */
 	public static String MARKER_IGNORE_MANAGED = "$NO-MVN-MAN-VER$";//$NON-NLS-1$
 
+	private static final String UNRESOLVED_RETRY_MESSAGE = " (not searched again in the remote repositories for {0} minutes, unless the \"Retry unresolved artifacts\" command is run)";
+
 	private final MavenLemminxExtension plugin;
 	private final DependencyResolutionResult dependencyResolutionResult;
 	
@@ -292,8 +297,9 @@ public class ProjectValidator {
 						&& ((dependency.getVersion() != null && dependency.getVersion().startsWith("${"))
 								|| Objects.equals(dependency.getVersion(), unresolved.getArtifact().getVersion()))) {
 					List<Exception> errors = dependencyResolutionResult.getResolutionErrors(unresolved);
+					String retryMessage = getRetryMessage(unresolved.getArtifact());
 					for (Exception error : errors) {
-						Diagnostic diagnostic = diagnosticRequest.createDiagnostic(error.getMessage(),
+						Diagnostic diagnostic = diagnosticRequest.createDiagnostic(error.getMessage() + retryMessage,
 								DiagnosticSeverity.Error);
 						Range range = XMLPositionUtility.createRange(dependencyNode);
 						diagnostic.setRange(range);
@@ -305,6 +311,14 @@ public class ProjectValidator {
 		return true;
 	}
 
+	private String getRetryMessage(Artifact artifact) {
+		ResolutionFailureCache failures = plugin.getResolutionFailureCache();
+		if (failures == null || failures.getFailure(ResolutionFailureCache.getArtifactKey(artifact)) == null) {
+			return "";
+		}
+		return MessageFormat.format(UNRESOLVED_RETRY_MESSAGE, failures.getTimeout());
+	}
+
 	/**
 	 * Validates if a dependency version duplicates or overrides a managed plugin version
 	 * 
@@ -29,6 +29,14 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import java.util.logging.Level;
@@ -41,15 +49,12 @@ import org.apache.maven.model.InputLocation;
 import org.apache.maven.model.InputSource;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Parent;
-import org.apache.maven.model.building.ModelBuilder;
-import org.apache.maven.model.building.ModelBuildingRequest;
 import org.apache.maven.plugin.InvalidPluginDescriptorException;
 import org.apache.maven.plugin.PluginDescriptorParsingException;
 import org.apache.maven.plugin.PluginResolutionException;
 import org.apache.maven.plugin.descriptor.MojoDescriptor;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.project.MavenProject;
-import org.apache.maven.project.ProjectBuildingRequest;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMElement;
@@ -58,7 +63,9 @@ import org.eclipse.lemminx.extensions.maven.MavenInitializationException;
 import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
 import org.eclipse.lemminx.extensions.maven.MavenModelOutOfDatedException;
 import org.eclipse.lemminx.extensions.maven.MojoParameter;
+import org.eclipse.lemminx.extensions.maven.project.ProjectSummary;
 import org.eclipse.lemminx.extensions.maven.utils.DOMUtils;
+import org.eclipse.lemminx.extensions.maven.utils.LatencyMetrics;
 import org.eclipse.lemminx.extensions.maven.utils.MarkdownUtils;
 import org.eclipse.lemminx.extensions.maven.utils.MavenParseUtils;
 import org.eclipse.lemminx.extensions.maven.utils.MavenPluginUtils;
@@ -75,13 +82,68 @@ import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 public class MavenHoverParticipant extends HoverParticipantAdapter {
 
 	private static final Logger LOGGER = Logger.getLogger(MavenHoverParticipant.class.getName());
+
+	// Latency budgets (in milliseconds) of the artifact hover stages
+	private static final long PROJECT_STAGE_TIMEOUT = 500;
+	private static final long RESOLVE_STAGE_TIMEOUT = 1000;
+	private static final long MODEL_STAGE_TIMEOUT = 500;
+
+	private static final String PROJECT_STAGE = "project";
+	private static final String RESOLVE_STAGE = "resolve";
+	private static final String MODEL_STAGE = "model";
+	private static final String ARTIFACT_HOVER = "artifact-hover";
+
+	private record ArtifactDescription(Dependency dependency, Optional<Dependency> managed, Model model) {
+	}
+
+	private static final int MAX_THREADS = 2;
+
 	private final MavenLemminxExtension plugin;
+	private final LatencyMetrics metrics = new LatencyMetrics("Maven hover");
+
+	// Runs the artifact hover stages, instead of the common pool which can be
+	// saturated by the blocking resolutions
+	private final Executor executor;
+
+	// Whether the latency budgets apply in unit test mode
+	private final boolean latencyBudgets;
+
+	// Artifact descriptions still loading when their hover request returned
+	private final Cache<String, CompletableFuture<ArtifactDescription>> pendingDescriptions = CacheBuilder
+			.newBuilder().expireAfterWrite(1, TimeUnit.MINUTES).build();
 
 	public MavenHoverParticipant(MavenLemminxExtension plugin) {
+		this(plugin, createExecutor(), false);
+	}
+
+	MavenHoverParticipant(MavenLemminxExtension plugin, Executor executor, boolean latencyBudgets) {
 		this.plugin = plugin;
+		this.executor = executor;
+		this.latencyBudgets = latencyBudgets;
+	}
+
+	private static ExecutorService createExecutor() {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, "Maven hover");
+					thread.setDaemon(true);
+					return thread;
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	public void stop() {
+		if (executor instanceof ExecutorService executorService) {
+			executorService.shutdownNow();
+		}
+		pendingDescriptions.invalidateAll();
 	}
 
 	@Override
@@ -122,7 +184,7 @@ public class MavenHoverParticipant extends HoverParticipantAdapter {
 		
 			cancelChecker.checkCanceled();
 			boolean isParentDeclaration = ParticipantUtils.isParentDeclaration(parent);
-			MavenProject p = plugin.getProjectCache().getLastSuccessfulMavenProject(request.getXMLDocument());
+			MavenProject p = getMavenProject(request.getXMLDocument());
 			Dependency artifactToSearch = ParticipantUtils.getArtifactToSearch(p, tag);
 	
 			return switch (parent.getLocalName()) {
@@ -141,7 +203,7 @@ public class MavenHoverParticipant extends HoverParticipantAdapter {
 		
 					if (hover == null) {
 						cancelChecker.checkCanceled();
-						Artifact artifact = ParticipantUtils.findWorkspaceArtifact(plugin, request, artifactToSearch);
+						Artifact artifact = ParticipantUtils.findWorkspaceArtifact(plugin, request, artifactToSearch, cancelChecker);
 						if (artifact != null && artifact.getFile() != null) {
 							yield hoverForProject(request,
 									plugin.getProjectCache().getSnapshotProject(artifact.getFile()).orElse(null),
@@ -173,6 +235,8 @@ public class MavenHoverParticipant extends HoverParticipantAdapter {
 	private static final String PomTextHover_managed_location_missing = "The managed definition location could not be determined, probably defined by \"import\" scoped dependencies.";
 	private static final String PomTextHover_property_location = "The property is defined in {0}";
 	private static final String PomTextHover_managed_scope = "The managed scope is: \"{0}\"";
+	private static final String PomTextHover_version = "The version is {0}.";
+	private static final String PomTextHover_description_pending = "The artifact description is still loading.";
 
 	private static String getActualVersionText(boolean supportsMarkdown, MavenProject project, CancelChecker cancelChecker) throws CancellationException {
 		if (project == null) {
@@ -225,9 +289,7 @@ public class MavenHoverParticipant extends HoverParticipantAdapter {
 		File parentPomFile = getParentPomFile(p, request.getXMLDocument());
 		while (parentPomFile != null && parentPomFile.exists()) {
 			cancelChecker.checkCanceled();
-			DOMDocument parentXmlDocument = org.eclipse.lemminx.utils.DOMUtils.loadDocument(
-					parentPomFile.toURI().toString(),
-					request.getNode().getOwnerDocument().getResolverExtensionManager());
+			DOMDocument parentXmlDocument = plugin.getPomDocumentCache().getDocument(parentPomFile);
 			if (parentXmlDocument == null) {
 				return null; // An error occurred while loading the document
 			}
@@ -380,80 +442,98 @@ public class MavenHoverParticipant extends HoverParticipantAdapter {
 		boolean supportsMarkdown = request.canSupportMarkupKind(MarkupKind.MARKDOWN);
 
 		cancelChecker.checkCanceled();
-		MavenProject p = plugin.getProjectCache().getLastSuccessfulMavenProject(request.getXMLDocument());
+		long start = System.nanoTime();
+		MavenProject p = getMavenProject(request.getXMLDocument());
 		Dependency dependency = ParticipantUtils.getArtifactToSearch(p, request.getNode());
 		boolean wellDefined = ParticipantUtils.isWellDefinedDependency(dependency);
 		DOMElement element = ParticipantUtils.findInterestingElement(request.getNode());
-		dependency = ParticipantUtils.resolveDependency(p, dependency, element, plugin);
-		Optional<Dependency> managed = ParticipantUtils.isManagedDependency(element) ?
-				Optional.empty() : ParticipantUtils.findManagedDependency(p, dependency);
-		
-		Dependency originalDependency = dependency; // To get the scope
+		if (dependency == null || element == null) {
+			return null;
+		}
+
+		// The dependency resolution and the artifact POM parsing run asynchronously,
+		// a stage taking longer than its latency budget results in a partial hover
+		// while the pipeline completes in background for the next hover request.
+		String descriptionKey = request.getXMLDocument().getDocumentURI() + '#' + MavenLemminxExtension.key(dependency);
+		CompletableFuture<ArtifactDescription> description = pendingDescriptions.asMap().remove(descriptionKey);
+		CompletableFuture<ArtifactDescription> resolution = description;
+		if (description == null) {
+			Dependency toResolve = dependency;
+			resolution = CompletableFuture.supplyAsync(() -> resolveArtifact(p, toResolve, element), executor);
+			description = resolution.thenApplyAsync(this::loadArtifactModel, executor);
+		}
+
 		cancelChecker.checkCanceled();
 		try {
-			// Find in local repository
-			File localArtifactLocation = null;
-			if (managed.isPresent()) {
-				// Use managed dependency
-				dependency = managed.get();
-				InputLocation inputLocation = dependency.getLocation(ARTIFACT_ID_ELT);
-				if (inputLocation != null && inputLocation.getSource() != null) {
-					String url = inputLocation.getSource().getLocation();
-					localArtifactLocation = new File(url);
-				}
-			} else {
-				localArtifactLocation = plugin.getLocalRepositorySearcher().findLocalFile(dependency);
+			ArtifactDescription resolved = awaitStage(resolution, RESOLVE_STAGE_TIMEOUT);
+			cancelChecker.checkCanceled();
+			if (resolved == null) {
+				pendingDescriptions.put(descriptionKey, description);
+				return createPartialArtifactDescription(supportsMarkdown, dependency, Optional.empty());
+			}
+			ArtifactDescription described = awaitStage(description, MODEL_STAGE_TIMEOUT);
+			cancelChecker.checkCanceled();
+			if (described == null) {
+				pendingDescriptions.put(descriptionKey, description);
+				return createPartialArtifactDescription(supportsMarkdown, resolved.dependency(), resolved.managed());
 			}
 
-			if (localArtifactLocation != null && localArtifactLocation.isFile()) {
-				cancelChecker.checkCanceled();
-				ModelBuilder builder = plugin.getProjectCache().getPlexusContainer().lookup(ModelBuilder.class);
-				Model model = builder.buildRawModel(localArtifactLocation, ModelBuildingRequest.VALIDATION_LEVEL_MINIMAL, true).get();
-				if (model != null) {
-					UnaryOperator<String> toBold = supportsMarkdown ? MarkdownUtils::toBold
-							: UnaryOperator.identity();
-					String lineBreak = MarkdownUtils.getLineBreak(supportsMarkdown);
-					String message = "";
-
-					if (model.getName() != null) {
-						message += toBold.apply(model.getName());
-					}
+			Model model = described.model();
+			if (model != null) {
+				Dependency originalDependency = described.dependency(); // To get the scope
+				Optional<Dependency> managed = described.managed();
+				dependency = managed.orElse(originalDependency);
+				UnaryOperator<String> toBold = supportsMarkdown ? MarkdownUtils::toBold
+						: UnaryOperator.identity();
+				String lineBreak = MarkdownUtils.getLineBreak(supportsMarkdown);
+				String message = "";
+
+				if (model.getName() != null) {
+					message += toBold.apply(model.getName());
+				}
 
-					if (model.getDescription() != null) {
-						message += lineBreak + model.getDescription();
-					}
+				if (model.getDescription() != null) {
+					message += lineBreak + model.getDescription();
+				}
 
-					if (!wellDefined) {
-						String managedVersion = managed.isPresent() ? 
-								createVersionMessage(request.canSupportMarkupKind(MarkupKind.MARKDOWN), dependency.getVersion(), dependency.getLocation(ARTIFACT_ID_ELT))
-								: getManagedVersionText(request, cancelChecker);
-						if (managedVersion == null) {
-							managedVersion = getActualVersionText(supportsMarkdown, model);
-						}
-						if (managedVersion != null) {
-							message += lineBreak + managedVersion;
-						}
+				if (!wellDefined) {
+					String managedVersion = managed.isPresent() ? 
+							createVersionMessage(request.canSupportMarkupKind(MarkupKind.MARKDOWN), dependency.getVersion(), dependency.getLocation(ARTIFACT_ID_ELT))
+							: getManagedVersionText(request, cancelChecker);
+					if (managedVersion == null) {
+						managedVersion = getActualVersionText(supportsMarkdown, model);
 					}
-					
-					// Dependency scope info from original dependency has higher priority
-					String scope = dependency.getScope();
-					if (originalDependency.getScope() != null) {
-						scope = originalDependency.getScope();
-					}
-					if (scope != null) {
-						message += lineBreak + toBold.apply(MessageFormat.format(PomTextHover_managed_scope, scope));
-					}
-					
-					if (message.length() > 2) {
-						return new Hover(new MarkupContent(supportsMarkdown ? MarkupKind.MARKDOWN : MarkupKind.PLAINTEXT, message));
+					if (managedVersion != null) {
+						message += lineBreak + managedVersion;
 					}
 				}
+				
+				// Dependency scope info from original dependency has higher priority
+				String scope = dependency.getScope();
+				if (originalDependency.getScope() != null) {
+					scope = originalDependency.getScope();
+				}
+				if (scope != null) {
+					message += lineBreak + toBold.apply(MessageFormat.format(PomTextHover_managed_scope, scope));
+				}
+				
+				if (message.length() > 2) {
+					return new Hover(new MarkupContent(supportsMarkdown ? MarkupKind.MARKDOWN : MarkupKind.PLAINTEXT, message));
+				}
 			}
 		} catch (CancellationException e) {
 			// Log at FINER level and return null
 			throw e;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			if (!(e.getCause() instanceof CancellationException)) {
+				LOGGER.log(Level.SEVERE, e.getCause().toString(), e.getCause());
+			}
 		} catch (Exception e1) {
 			LOGGER.log(Level.SEVERE, e1.toString(), e1);
+		} finally {
+			metrics.record(ARTIFACT_HOVER, start);
 		}
 		
 		// we don't have description or other valuable information for non-local artifacts
@@ -461,6 +541,91 @@ public class MavenHoverParticipant extends HoverParticipantAdapter {
 		return null;
 	}
 
+	private MavenProject getMavenProject(DOMDocument document) {
+		long start = System.nanoTime();
+		try {
+			return MavenLemminxExtension.isUnitTestMode()
+					? plugin.getProjectCache().getLastSuccessfulMavenProject(document)
+					: plugin.getProjectCache().getLastSuccessfulMavenProject(document, PROJECT_STAGE_TIMEOUT,
+							TimeUnit.MILLISECONDS);
+		} finally {
+			metrics.record(PROJECT_STAGE, start);
+		}
+	}
+
+	private ArtifactDescription resolveArtifact(MavenProject p, Dependency dependency, DOMElement element) {
+		long start = System.nanoTime();
+		try {
+			Dependency resolved = ParticipantUtils.resolveDependency(p, dependency, element, plugin);
+			Optional<Dependency> managed = p == null || ParticipantUtils.isManagedDependency(element) ?
+					Optional.empty() : ParticipantUtils.findManagedDependency(p, resolved);
+			return new ArtifactDescription(resolved, managed, null);
+		} finally {
+			metrics.record(RESOLVE_STAGE, start);
+		}
+	}
+
+	private ArtifactDescription loadArtifactModel(ArtifactDescription resolved) {
+		long start = System.nanoTime();
+		try {
+			// Find in local repository
+			File localArtifactLocation = null;
+			if (resolved.managed().isPresent()) {
+				// Use managed dependency
+				InputLocation inputLocation = resolved.managed().get().getLocation(ARTIFACT_ID_ELT);
+				if (inputLocation != null && inputLocation.getSource() != null) {
+					String url = inputLocation.getSource().getLocation();
+					localArtifactLocation = new File(url);
+				}
+			} else {
+				localArtifactLocation = plugin.getLocalRepositorySearcher().findLocalFile(resolved.dependency());
+			}
+
+			if (localArtifactLocation != null && localArtifactLocation.isFile()) {
+				Model model = plugin.getProjectCache().getRawModel(localArtifactLocation).orElse(null);
+				return new ArtifactDescription(resolved.dependency(), resolved.managed(), model);
+			}
+		} catch (Exception e) {
+			LOGGER.log(Level.SEVERE, e.toString(), e);
+		} finally {
+			metrics.record(MODEL_STAGE, start);
+		}
+		return resolved;
+	}
+
+	private <T> T awaitStage(CompletableFuture<T> stage, long timeout)
+			throws InterruptedException, ExecutionException {
+		if (MavenLemminxExtension.isUnitTestMode() && !latencyBudgets) {
+			return stage.get();
+		}
+		try {
+			return stage.get(timeout, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			return null;
+		}
+	}
+
+	private static Hover createPartialArtifactDescription(boolean supportsMarkdown, Dependency dependency,
+			Optional<Dependency> managed) {
+		UnaryOperator<String> toBold = supportsMarkdown ? MarkdownUtils::toBold : UnaryOperator.identity();
+		String lineBreak = MarkdownUtils.getLineBreak(supportsMarkdown);
+		String message = PomTextHover_description_pending;
+
+		Dependency effective = managed.orElse(dependency);
+		if (managed.isPresent()) {
+			message += lineBreak + createVersionMessage(supportsMarkdown, effective.getVersion(),
+					effective.getLocation(ARTIFACT_ID_ELT));
+		} else if (effective.getVersion() != null) {
+			message += lineBreak + toBold.apply(MessageFormat.format(PomTextHover_version, effective.getVersion()));
+		}
+
+		String scope = dependency.getScope() != null ? dependency.getScope() : effective.getScope();
+		if (scope != null) {
+			message += lineBreak + toBold.apply(MessageFormat.format(PomTextHover_managed_scope, scope));
+		}
+		return new Hover(new MarkupContent(supportsMarkdown ? MarkupKind.MARKDOWN : MarkupKind.PLAINTEXT, message));
+	}
+
 	private Hover collectGoal(IPositionRequest request, CancelChecker cancelChecker) throws CancellationException {
 		DOMNode node = request.getNode();
 		cancelChecker.checkCanceled();
@@ -554,7 +719,7 @@ public class MavenHoverParticipant extends HoverParticipantAdapter {
 		DOMDocument doc = request.getXMLDocument();
 		
 		cancelChecker.checkCanceled();
-		MavenProject project = plugin.getProjectCache().getLastSuccessfulMavenProject(doc);
+		ProjectSummary project = plugin.getProjectCache().getLastSuccessfulProjectSummary(doc);
 		if (project != null) {
 			cancelChecker.checkCanceled();
 			Map<String, String> allProps = ParticipantUtils.getMavenProjectProperties(project);
@@ -566,7 +731,7 @@ public class MavenHoverParticipant extends HoverParticipantAdapter {
 						.append(toBold.apply("Value: ")).append(prop.getValue()).append(lineBreak);
 	
 					// Find location
-					MavenProject parentProject = project, childProj = project;
+					ProjectSummary parentProject = project, childProj = project;
 					String propertyName = property.getValue();
 					while (parentProject != null && parentProject.getProperties().containsKey(propertyName)) {
 						cancelChecker.checkCanceled();
@@ -585,9 +750,8 @@ public class MavenHoverParticipant extends HoverParticipantAdapter {
 						propertyDeclaration = DOMUtils.findNodesByLocalName(doc, propertyName).stream()
 								.filter(isMavenProperty).findFirst().orElse(null);
 					} else {
-						DOMDocument propertyDeclaringDocument = org.eclipse.lemminx.utils.DOMUtils.loadDocument(
-								childProj.getFile().toURI().toString(),
-								request.getNode().getOwnerDocument().getResolverExtensionManager());
+						DOMDocument propertyDeclaringDocument = plugin.getPomDocumentCache()
+								.getDocument(childProj.getFile());
 						cancelChecker.checkCanceled();
 						propertyDeclaration = DOMUtils.findNodesByLocalName(propertyDeclaringDocument, propertyName)
 								.stream().filter(isMavenProperty).findFirst().orElse(null);
@@ -603,12 +767,9 @@ public class MavenHoverParticipant extends HoverParticipantAdapter {
 									supportsMarkdown ? MarkdownUtils.toLink(uri, targetRange, sourceModelId, null)
 											: sourceModelId)));
 					} else {
-							ProjectBuildingRequest projectRequest = project.getProjectBuildingRequest();
-							if (projectRequest != null) {
-								if (projectRequest.getUserProperties().getProperty(propertyName) != null) {
-									message.append(toBold.apply(MessageFormat.format(PomTextHover_property_location,
-											"the user properties")));
-								}
+							if (project.getUserProperties().get(propertyName) != null) {
+								message.append(toBold.apply(MessageFormat.format(PomTextHover_property_location,
+										"the user properties")));
 							}
 					}
 
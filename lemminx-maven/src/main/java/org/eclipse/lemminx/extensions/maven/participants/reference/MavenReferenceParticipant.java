@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.participants.reference;
+
+import static org.eclipse.lemminx.extensions.maven.DOMConstants.ARTIFACT_ID_ELT;
+import static org.eclipse.lemminx.extensions.maven.DOMConstants.PROPERTIES_ELT;
+
+import java.io.File;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.maven.model.Dependency;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.dom.DOMText;
+import org.eclipse.lemminx.extensions.maven.MavenInitializationException;
+import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
+import org.eclipse.lemminx.extensions.maven.MavenModelOutOfDatedException;
+import org.eclipse.lemminx.extensions.maven.project.ProjectSummary.SourceLocation;
+import org.eclipse.lemminx.extensions.maven.project.WorkspaceDependencyIndex.Reference;
+import org.eclipse.lemminx.extensions.maven.project.WorkspacePropertyIndex.IndexedPom;
+import org.eclipse.lemminx.extensions.maven.project.WorkspacePropertyIndex.PropertyDefinition;
+import org.eclipse.lemminx.extensions.maven.utils.DOMUtils;
+import org.eclipse.lemminx.extensions.maven.utils.MavenParseUtils;
+import org.eclipse.lemminx.extensions.maven.utils.ParticipantUtils;
+import org.eclipse.lemminx.services.extensions.IReferenceParticipant;
+import org.eclipse.lemminx.services.extensions.IReferenceRequest;
+import org.eclipse.lemminx.utils.XMLPositionUtility;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.ReferenceContext;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Finds the references to a Maven property, or to the artifact of a dependency
+ * or a plugin, in the workspace POM files.
+ *
+ * The references are read from the workspace property and dependency indexes,
+ * so a query neither builds the workspace projects nor parses their POM files
+ * again: the range of an artifact reference is found in the POM document cache.
+ */
+public class MavenReferenceParticipant implements IReferenceParticipant {
+
+	private static final String DEFAULT_PLUGIN_GROUP_ID = "org.apache.maven.plugins";
+
+	private final MavenLemminxExtension plugin;
+
+	public MavenReferenceParticipant(MavenLemminxExtension plugin) {
+		this.plugin = plugin;
+	}
+
+	@Override
+	public void findReference(IReferenceRequest request, ReferenceContext context, List<Location> locations,
+			CancelChecker cancelChecker) {
+		DOMDocument document = request.getXMLDocument();
+		if (!MavenLemminxExtension.match(document)) {
+			return;
+		}
+		try {
+			String propertyName = getPropertyName(request);
+			if (propertyName != null) {
+				cancelChecker.checkCanceled();
+				findPropertyReferences(document, propertyName, context.isIncludeDeclaration(), locations,
+						cancelChecker);
+				return;
+			}
+
+			cancelChecker.checkCanceled();
+			DOMElement element = ParticipantUtils.findInterestingElement(request.getNode());
+			if (element == null || ParticipantUtils.isParentDeclaration(element)
+					|| !(ParticipantUtils.isDependency(element) || ParticipantUtils.isPlugin(element))) {
+				return;
+			}
+			Dependency artifact = MavenParseUtils.parseArtifact(element);
+			if (artifact == null || artifact.getArtifactId() == null) {
+				return;
+			}
+			if (isExpression(artifact.getGroupId()) || isExpression(artifact.getArtifactId())) {
+				cancelChecker.checkCanceled();
+				MavenProject project = plugin.getProjectCache().getLastSuccessfulMavenProject(document);
+				artifact = ParticipantUtils.getArtifactToSearch(project, element);
+			}
+			String groupId = artifact.getGroupId();
+			if (groupId == null && ParticipantUtils.isPlugin(element)) {
+				groupId = DEFAULT_PLUGIN_GROUP_ID;
+			}
+
+			cancelChecker.checkCanceled();
+			Set<Location> references = new LinkedHashSet<>();
+			for (Reference reference : plugin.getDependencyIndex().getReferences(groupId,
+					artifact.getArtifactId())) {
+				cancelChecker.checkCanceled();
+				SourceLocation location = reference.location();
+				if (location != null && location.file() != null) {
+					File file = new File(location.file());
+					references.add(new Location(MavenLemminxExtension.toUriASCIIString(file),
+							getArtifactIdRange(file, location)));
+				}
+			}
+			locations.addAll(references);
+		} catch (MavenInitializationException | MavenModelOutOfDatedException e) {
+			// - Maven is initializing
+			// - or parse of maven model with DOM document is out of dated
+			// -> catch the error to avoid breaking XML references from LemMinX
+		}
+	}
+
+	/*
+	 * Returns the range of the artifactId value declared at the given location,
+	 * or an empty range at the location if the POM file has changed since it was
+	 * indexed
+	 */
+	private Range getArtifactIdRange(File file, SourceLocation location) {
+		Position position = new Position(Math.max(location.line() - 1, 0), Math.max(location.column() - 1, 0));
+		DOMDocument document = plugin.getPomDocumentCache().getDocument(file);
+		if (document == null) {
+			return new Range(position, position);
+		}
+		try {
+			DOMNode node = document.findNodeAt(document.offsetAt(position));
+			if (node instanceof DOMText) {
+				node = node.getParentNode();
+			}
+			DOMElement artifactId = null;
+			if (node instanceof DOMElement element) {
+				artifactId = ARTIFACT_ID_ELT.equals(element.getLocalName()) ? element
+						: DOMUtils.findChildElement(element, ARTIFACT_ID_ELT).orElse(null);
+			}
+			List<DOMText> texts = artifactId != null ? DOMUtils.findElementTextChildren(artifactId) : List.of();
+			if (texts.size() == 1) {
+				DOMText text = texts.get(0);
+				String value = text.getData().trim();
+				int start = text.getStart() + text.getData().indexOf(value);
+				return XMLPositionUtility.createRange(start, start + value.length(), document);
+			}
+		} catch (BadLocationException e) {
+			// The POM file has changed since it was indexed
+		}
+		return new Range(position, position);
+	}
+
+	private void findPropertyReferences(DOMDocument document, String propertyName, boolean includeDeclaration,
+			List<Location> locations, CancelChecker cancelChecker) {
+		// The property can be used by the POM files inheriting from the document, as
+		// the ones of rename, and defined or used by the POM files it inherits from
+		Set<IndexedPom> poms = new LinkedHashSet<>(plugin.getPropertyIndex().getHierarchy(document, cancelChecker));
+		poms.addAll(plugin.getPropertyIndex().getAncestors(document, cancelChecker));
+		for (IndexedPom pom : poms) {
+			cancelChecker.checkCanceled();
+			if (includeDeclaration) {
+				PropertyDefinition definition = pom.getDefinitions().get(propertyName);
+				if (definition != null && definition.startNameRange() != null) {
+					locations.add(new Location(pom.getUri(), definition.startNameRange()));
+				}
+			}
+			pom.getUsages(propertyName).stream().map(usage -> new Location(usage.uri(), usage.nameRange()))
+					.forEach(locations::add);
+		}
+	}
+
+	/*
+	 * Returns the name of the property used or defined at the request offset, or
+	 * null
+	 */
+	private static String getPropertyName(IReferenceRequest request) {
+		DOMNode node = request.getNode();
+		if (node instanceof DOMText textNode) {
+			Map.Entry<Range, String> mavenProperty = ParticipantUtils.getMavenProperty(textNode, request.getOffset());
+			return mavenProperty != null ? mavenProperty.getValue() : null;
+		}
+		if (node instanceof DOMElement element && element.getParentElement() != null
+				&& PROPERTIES_ELT.equals(element.getParentElement().getNodeName())
+				&& element.getParentElement().getParentElement() == element.getOwnerDocument().getDocumentElement()) {
+			return element.getNodeName();
+		}
+		return null;
+	}
+
+	private static boolean isExpression(String value) {
+		return value != null && value.contains("${");
+	}
+}
@@ -11,20 +11,13 @@ package org.eclipse.lemminx.extensions.maven.participants.rename;
 import static org.eclipse.lemminx.extensions.maven.DOMConstants.PROPERTIES_ELT;
 import static org.eclipse.lemminx.extensions.maven.utils.ParticipantUtils.getMavenProperty;
 
-import java.net.URI;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CancellationException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import org.apache.maven.project.MavenProject;
 import org.eclipse.lemminx.commons.BadLocationException;
-import org.eclipse.lemminx.commons.TextDocument;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMElement;
 import org.eclipse.lemminx.dom.DOMNode;
@@ -32,7 +25,9 @@ import org.eclipse.lemminx.dom.DOMText;
 import org.eclipse.lemminx.extensions.maven.MavenInitializationException;
 import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
 import org.eclipse.lemminx.extensions.maven.MavenModelOutOfDatedException;
-import org.eclipse.lemminx.extensions.maven.utils.DOMUtils;
+import org.eclipse.lemminx.extensions.maven.project.ProjectSummary;
+import org.eclipse.lemminx.extensions.maven.project.WorkspacePropertyIndex.IndexedPom;
+import org.eclipse.lemminx.extensions.maven.project.WorkspacePropertyIndex.PropertyDefinition;
 import org.eclipse.lemminx.extensions.maven.utils.ParticipantUtils;
 import org.eclipse.lemminx.services.extensions.rename.IPrepareRenameRequest;
 import org.eclipse.lemminx.services.extensions.rename.IRenameParticipant;
@@ -48,9 +43,6 @@ import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
 public class MavenPropertyRenameParticipant implements IRenameParticipant {
 	private static final Logger LOGGER = Logger.getLogger(MavenPropertyRenameParticipant.class.getName());
-
-	private static final String PROPERTY_START = "${";
-	private static final String PROPERTY_END = "}";
 	
 	private final MavenLemminxExtension plugin;
 
@@ -90,7 +82,7 @@ public class MavenPropertyRenameParticipant implements IRenameParticipant {
 	
 			// Check Maven property
 			cancelChecker.checkCanceled();
-			MavenProject project = plugin.getProjectCache().getLastSuccessfulMavenProject(document);
+			ProjectSummary project = plugin.getProjectCache().getLastSuccessfulProjectSummary(document);
 	
 			cancelChecker.checkCanceled();
 			Map<String, String> properties = ParticipantUtils.getMavenProjectProperties(project);
@@ -134,7 +126,7 @@ public class MavenPropertyRenameParticipant implements IRenameParticipant {
 	
 			// Check Maven property
 			cancelChecker.checkCanceled();
-			MavenProject thisProject = plugin.getProjectCache().getLastSuccessfulMavenProject(document);
+			ProjectSummary thisProject = plugin.getProjectCache().getLastSuccessfulProjectSummary(document);
 			if (thisProject == null) {
 				return;
 			}
@@ -145,33 +137,26 @@ public class MavenPropertyRenameParticipant implements IRenameParticipant {
 				return;
 			}
 	
+			// Collect the text edits of this project and of the workspace projects
+			// inheriting from it, from the workspace property index
 			cancelChecker.checkCanceled();
-			LinkedHashSet<MavenProject> projects = new LinkedHashSet<>();
-			projects.add(thisProject);
-			plugin.getCurrentWorkspaceProjects(true).stream().forEach(child -> 
-				projects.addAll(findParentsOfChildProject(thisProject, child)));
-	
-			URI thisProjectUri = ParticipantUtils.normalizedUri(document.getDocumentURI());
+			List<IndexedPom> projects = plugin.getPropertyIndex().getHierarchy(document, cancelChecker);
 			final String oldPropertyName = propertyName;
 			projects.stream().forEach(project -> {
 				cancelChecker.checkCanceled();
-				URI projectUri = ParticipantUtils.normalizedUri(project.getFile().toURI().toString());
-				DOMDocument projectDocumentt = null;
-				if (projectUri.equals(thisProjectUri)) {
-					projectDocumentt = document;
-				} else {
-					projectDocumentt = org.eclipse.lemminx.utils.DOMUtils.loadDocument(
-						project.getFile().toURI().toString(),
-						request.getNode().getOwnerDocument().getResolverExtensionManager());
-				}
-				
-				cancelChecker.checkCanceled();
-				// Collect Text Edits for the document
 				List<TextEdit> projectTextEdits = new ArrayList<>();
-				collectPropertyElementTextEdits(projectDocumentt, oldPropertyName, newPropertyName, projectTextEdits, cancelChecker);
-				collectPropertyUseTextEdits(projectDocumentt.getDocumentElement(), oldPropertyName, newPropertyName, projectTextEdits, cancelChecker);
+				PropertyDefinition definition = project.getDefinitions().get(oldPropertyName);
+				if (definition != null && definition.startNameRange() != null) {
+					projectTextEdits.add(new TextEdit(definition.startNameRange(), newPropertyName));
+					if (definition.endNameRange() != null) {
+						projectTextEdits.add(new TextEdit(definition.endNameRange(), newPropertyName));
+					}
+				}
+				project.getUsages(oldPropertyName).stream()
+						.map(usage -> new TextEdit(usage.nameRange(), newPropertyName))
+						.forEach(projectTextEdits::add);
 				VersionedTextDocumentIdentifier projectVersionedTextDocumentIdentifier = new VersionedTextDocumentIdentifier(
-						projectDocumentt.getTextDocument().getUri(), projectDocumentt.getTextDocument().getVersion());
+						project.getUri(), project.getVersion());
 				renameResponse.addTextDocumentEdit(new TextDocumentEdit(projectVersionedTextDocumentIdentifier, projectTextEdits));		
 			});
 		} catch (MavenInitializationException | MavenModelOutOfDatedException e) {
@@ -181,87 +166,6 @@ public class MavenPropertyRenameParticipant implements IRenameParticipant {
 		}
 	}
 
-	/*
-	 *  Returns the list of parent projects between the given child and parent project, 
-	 *  the list includes the given child, but not the parent.
-	 */
-	private static List<MavenProject> findParentsOfChildProject(MavenProject parent, MavenProject child) {
-		List<MavenProject> parents = new LinkedList<>();
-		MavenProject currentChild = child;
-		URI childProjectUri = ParticipantUtils.normalizedUri(currentChild.getFile().toURI().toString());
-		URI thisProjectUri = ParticipantUtils.normalizedUri(parent.getFile().toURI().toString());
-		
-		while (currentChild != null) {
-			parents.add(currentChild); // Include the child as well
-			if (childProjectUri.equals(thisProjectUri)) {
-				break; // Stop searching
-			}
-			currentChild = currentChild.getParent();
-			if (currentChild != null) {
-				childProjectUri = ParticipantUtils.normalizedUri(currentChild.getFile().toURI().toString());
-			}
-		}
-		return currentChild != null ? parents : Collections.emptyList();
-	}
-	
-	private static void collectPropertyElementTextEdits(DOMDocument document, String propertyName, String newPropertyName,
-			List<TextEdit> textEdits, CancelChecker cancelChecker) {
-		DOMUtils.findChildElement(document.getDocumentElement(), PROPERTIES_ELT).ifPresent(properties -> {
-			DOMUtils.findChildElement(properties, propertyName).ifPresent(property -> {
-				int startTagOpenOffset = property.getStartTagOpenOffset() + 1;
-				int endTagOpenOffset = property.getEndTagOpenOffset() + 2;
-				try {
-					Range startRange = new Range(document.positionAt(startTagOpenOffset), 
-							document.positionAt(startTagOpenOffset + propertyName.length()));
-					Range endRange = new Range(document.positionAt(endTagOpenOffset), 
-							document.positionAt(endTagOpenOffset + propertyName.length()));
-					textEdits.add(new TextEdit(startRange, newPropertyName));
-					textEdits.add(new TextEdit(endRange, newPropertyName));
-				} catch (BadLocationException e) {
-					LOGGER.log(Level.SEVERE, e.getMessage(), e);
-				}
-			}); 
-		});
-	}
-	
-	private static void collectPropertyUseTextEdits(DOMElement rootElement, String property, String newPropertyName,
-			List<TextEdit> textEditss, CancelChecker cancelChecker) throws CancellationException {
-		cancelChecker.checkCanceled();
-	
-		// Check this element's text
-		collectInElementTextEdits(rootElement, property, newPropertyName, textEditss, cancelChecker);
-		
-		// collect in this element's children 
-		rootElement.getChildren().stream().filter(DOMElement.class::isInstance).map(DOMElement.class::cast)
-			.forEach(child -> collectPropertyUseTextEdits(child, property, newPropertyName, textEditss, cancelChecker));
-	}
-
-	private static void collectInElementTextEdits(DOMElement element, String propertyName, String newPropertyName, 
-			List<TextEdit> textEditss, CancelChecker cancelChecker) throws CancellationException {
-		TextDocument textDocument = element.getOwnerDocument().getTextDocument();
-		String propertyUse = PROPERTY_START + propertyName + PROPERTY_END;
-		DOMUtils.findElementTextChildren(element).stream()
-			.filter(text -> text.getData().contains(propertyUse))
-			.forEach(text -> {
-				String data = text.getData();
-				int index = 0;
-				for (index = data.indexOf(propertyUse); index != -1; index = data.indexOf(propertyUse, index + propertyUse.length())) {
-					cancelChecker.checkCanceled();
-					try {
-						int propertyUseStart = text.getStart() + index;
-						int replaceStart = propertyUseStart + PROPERTY_START.length();
-						int replaceEnd= replaceStart + propertyName.length();
-						Range range = new Range(textDocument.positionAt(replaceStart), 
-								textDocument.positionAt(replaceEnd));
-						textEditss.add(new TextEdit(range,  newPropertyName));
-					} catch (BadLocationException e) {
-						LOGGER.log(Level.SEVERE, e.getMessage(), e);
-						return;
-					}
-				}
-			});
-	}
-
 	private static Range getMavenPropertyDefinitionRange(int offset, DOMElement propertyElement) {
 		if (propertyElement == null) {
 			return null;
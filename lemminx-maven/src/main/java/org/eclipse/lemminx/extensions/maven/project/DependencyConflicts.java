@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.collection.DependencyGraphTransformationContext;
+import org.eclipse.aether.collection.DependencyGraphTransformer;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.util.artifact.ArtifactIdUtils;
+import org.eclipse.aether.util.graph.manager.DependencyManagerUtils;
+import org.eclipse.aether.util.graph.transformer.ChainedDependencyGraphTransformer;
+
+/**
+ * The dependencies removed by the conflict resolution of a dependency graph.
+ *
+ * The resolved dependency graph of a project no longer contains the
+ * dependencies which lost a version conflict. The dependencies of each node
+ * are recorded before the conflict resolution by a graph transformer
+ * installed in the repository session of the project builds (see
+ * {@link #newRecordingSession(RepositorySystemSession)}), and kept with the
+ * root node of the resolved graph, so the conflict losers can be found from
+ * the cached {@link org.apache.maven.project.DependencyResolutionResult}
+ * without resolving the dependencies again.
+ */
+public class DependencyConflicts {
+
+	private static final String DATA_KEY = DependencyConflicts.class.getName();
+
+	/**
+	 * A dependency removed by the conflict resolution
+	 *
+	 * @param dependency    the removed dependency
+	 * @param winnerVersion the version of the same artifact kept in the graph
+	 */
+	public record OmittedDependency(Dependency dependency, String winnerVersion) {
+	}
+
+	/**
+	 * Records the dependencies of the nodes of the graph before the conflict
+	 * resolution
+	 */
+	private static class Recorder implements DependencyGraphTransformer {
+
+		@Override
+		public DependencyNode transformGraph(DependencyNode node, DependencyGraphTransformationContext context) {
+			DependencyConflicts conflicts = new DependencyConflicts(node);
+			conflicts.record(node, Collections.newSetFromMap(new IdentityHashMap<>()));
+			node.setData(DATA_KEY, conflicts);
+			return node;
+		}
+	}
+
+	private final DependencyNode root;
+	private final Map<String, Map<String, Dependency>> dependencies = new HashMap<>();
+	private Map<String, String> winnerVersions;
+
+	private DependencyConflicts(DependencyNode root) {
+		this.root = root;
+	}
+
+	/**
+	 * Returns a copy of the given session which records the conflict losers and
+	 * the versions and scopes set by the dependency management
+	 *
+	 * @param session a repository session
+	 * @return the recording session
+	 */
+	public static RepositorySystemSession newRecordingSession(RepositorySystemSession session) {
+		DefaultRepositorySystemSession recordingSession = new DefaultRepositorySystemSession(session);
+		recordingSession.setDependencyGraphTransformer(
+				ChainedDependencyGraphTransformer.newInstance(new Recorder(), session.getDependencyGraphTransformer()));
+		recordingSession.setConfigProperty(DependencyManagerUtils.CONFIG_PROP_VERBOSE, Boolean.TRUE);
+		return recordingSession;
+	}
+
+	/**
+	 * Returns the conflicts recorded for the given resolved graph
+	 *
+	 * @param root the root node of a resolved dependency graph, can be
+	 *             <code>null</code>
+	 * @return the recorded conflicts, or <code>null</code> if the graph has not
+	 *         been resolved with a recording session
+	 */
+	public static DependencyConflicts of(DependencyNode root) {
+		return root != null && root.getData().get(DATA_KEY) instanceof DependencyConflicts conflicts ? conflicts
+				: null;
+	}
+
+	/**
+	 * Returns the dependencies of the given node which have been removed by the
+	 * conflict resolution, because another version of the same artifact is
+	 * kept in the graph. The dependencies removed because the same version is
+	 * already in the graph aren't returned.
+	 *
+	 * @param node a node of the resolved graph
+	 * @return the omitted dependencies
+	 */
+	public List<OmittedDependency> getOmittedDependencies(DependencyNode node) {
+		Map<String, Dependency> recorded = dependencies.get(getId(node));
+		if (recorded == null) {
+			return List.of();
+		}
+		Map<String, String> winners = getWinnerVersions();
+		List<OmittedDependency> omitted = new ArrayList<>();
+		recorded.values().forEach(dependency -> {
+			String conflictKey = ArtifactIdUtils.toVersionlessId(dependency.getArtifact());
+			String winnerVersion = winners.get(conflictKey);
+			if (winnerVersion != null && !winnerVersion.equals(dependency.getArtifact().getVersion())
+					&& node.getChildren().stream().map(DependencyNode::getArtifact)
+							.noneMatch(artifact -> conflictKey.equals(ArtifactIdUtils.toVersionlessId(artifact)))) {
+				omitted.add(new OmittedDependency(dependency, winnerVersion));
+			}
+		});
+		return omitted;
+	}
+
+	/**
+	 * Returns the versions kept in the resolved graph, by versionless artifact
+	 * id
+	 */
+	public synchronized Map<String, String> getWinnerVersions() {
+		if (winnerVersions == null) {
+			Map<String, String> versions = new HashMap<>();
+			collectVersions(root, versions, Collections.newSetFromMap(new IdentityHashMap<>()));
+			winnerVersions = Collections.unmodifiableMap(versions);
+		}
+		return winnerVersions;
+	}
+
+	private void record(DependencyNode node, Set<DependencyNode> visited) {
+		if (!visited.add(node) || node.getChildren().isEmpty()) {
+			return;
+		}
+		Map<String, Dependency> children = dependencies.computeIfAbsent(getId(node), id -> new LinkedHashMap<>());
+		for (DependencyNode child : node.getChildren()) {
+			if (child.getDependency() != null) {
+				children.putIfAbsent(ArtifactIdUtils.toId(child.getArtifact()), child.getDependency());
+			}
+			record(child, visited);
+		}
+	}
+
+	private static void collectVersions(DependencyNode node, Map<String, String> versions,
+			Set<DependencyNode> visited) {
+		if (!visited.add(node)) {
+			return;
+		}
+		for (DependencyNode child : node.getChildren()) {
+			Artifact artifact = child.getArtifact();
+			if (artifact != null) {
+				versions.putIfAbsent(ArtifactIdUtils.toVersionlessId(artifact), artifact.getVersion());
+			}
+			collectVersions(child, versions, visited);
+		}
+	}
+
+	private static String getId(DependencyNode node) {
+		Artifact artifact = node.getArtifact();
+		return artifact != null ? ArtifactIdUtils.toId(artifact) : "";
+	}
+}
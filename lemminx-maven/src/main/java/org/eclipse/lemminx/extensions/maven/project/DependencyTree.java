@@ -0,0 +1,276 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.util.graph.manager.DependencyManagerUtils;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Pages of the resolved dependency graph of a project, as shown by
+ * <code>mvn dependency:tree</code>.
+ *
+ * The tree is read from the cached graph, without resolving the dependencies
+ * again, one page of children at a time, so that the client only requests the
+ * nodes it shows. A node is identified by the path of child indexes from the
+ * root node, for instance <code>"2.0"</code> for the first child of the third
+ * dependency of the project, and <code>""</code> for the root node.
+ */
+public class DependencyTree {
+
+	public static final String ROOT_ID = "";
+
+	private static final String ID_SEPARATOR = ".";
+
+	/**
+	 * A node of the dependency tree
+	 */
+	public static class Node {
+
+		private final String id;
+		private final String groupId;
+		private final String artifactId;
+		private final String version;
+		private final String classifier;
+		private final String type;
+		private final String scope;
+		private final boolean optional;
+		private final String premanagedVersion;
+		private final String premanagedScope;
+		private final String omittedForConflictWith;
+		private final int childCount;
+
+		private Node(String id, Artifact artifact, Dependency dependency, String premanagedVersion,
+				String premanagedScope, String omittedForConflictWith, int childCount) {
+			this.id = id;
+			this.groupId = artifact.getGroupId();
+			this.artifactId = artifact.getArtifactId();
+			this.version = artifact.getVersion();
+			this.classifier = artifact.getClassifier().isEmpty() ? null : artifact.getClassifier();
+			this.type = artifact.getExtension();
+			this.scope = dependency != null && !dependency.getScope().isEmpty() ? dependency.getScope() : null;
+			this.optional = dependency != null && dependency.isOptional();
+			this.premanagedVersion = premanagedVersion;
+			this.premanagedScope = premanagedScope;
+			this.omittedForConflictWith = omittedForConflictWith;
+			this.childCount = childCount;
+		}
+
+		/**
+		 * Returns the id of the node, or <code>null</code> for a dependency
+		 * omitted for conflict, which has no children
+		 */
+		public String getId() {
+			return id;
+		}
+
+		public String getGroupId() {
+			return groupId;
+		}
+
+		public String getArtifactId() {
+			return artifactId;
+		}
+
+		public String getVersion() {
+			return version;
+		}
+
+		public String getClassifier() {
+			return classifier;
+		}
+
+		public String getType() {
+			return type;
+		}
+
+		public String getScope() {
+			return scope;
+		}
+
+		public boolean isOptional() {
+			return optional;
+		}
+
+		/**
+		 * Returns the version declared before the dependency management, or
+		 * <code>null</code> if the version isn't managed
+		 */
+		public String getPremanagedVersion() {
+			return premanagedVersion;
+		}
+
+		/**
+		 * Returns the scope declared before the dependency management, or
+		 * <code>null</code> if the scope isn't managed
+		 */
+		public String getPremanagedScope() {
+			return premanagedScope;
+		}
+
+		/**
+		 * Returns the version kept in the graph if this dependency lost a version
+		 * conflict, <code>null</code> otherwise
+		 */
+		public String getOmittedForConflictWith() {
+			return omittedForConflictWith;
+		}
+
+		public int getChildCount() {
+			return childCount;
+		}
+	}
+
+	/**
+	 * A page of the children of a node
+	 */
+	public static class Page {
+
+		private final Node node;
+		private final int offset;
+		private final int total;
+		private final List<Node> children;
+		private final boolean resolving;
+
+		private Page(Node node, int offset, int total, List<Node> children, boolean resolving) {
+			this.node = node;
+			this.offset = offset;
+			this.total = total;
+			this.children = children;
+			this.resolving = resolving;
+		}
+
+		/**
+		 * Returns the node whose children are paged, <code>null</code> while the
+		 * dependencies are resolving
+		 */
+		public Node getNode() {
+			return node;
+		}
+
+		public int getOffset() {
+			return offset;
+		}
+
+		/**
+		 * Returns the number of children of the node, including the dependencies
+		 * omitted for conflict
+		 */
+		public int getTotal() {
+			return total;
+		}
+
+		public List<Node> getChildren() {
+			return children;
+		}
+
+		/**
+		 * Returns true if the dependencies of the project are still resolving, the
+		 * page has no node and no children then and must be requested again later
+		 */
+		public boolean isResolving() {
+			return resolving;
+		}
+	}
+
+	private DependencyTree() {
+	}
+
+	/**
+	 * Returns the empty page answered while the dependencies of the project are
+	 * resolving
+	 *
+	 * @return the resolving page
+	 */
+	public static Page getResolvingPage() {
+		return new Page(null, 0, 0, List.of(), true);
+	}
+
+	/**
+	 * Returns a page of the children of the given node of the given resolved
+	 * graph: the resolved children first, then the dependencies omitted for
+	 * conflict.
+	 *
+	 * @param root          the root node of the resolved graph
+	 * @param nodeId        the id of the node, {@link #ROOT_ID} or
+	 *                      <code>null</code> for the root
+	 * @param offset        the index of the first child of the page
+	 * @param limit         the maximum number of children of the page
+	 * @param cancelChecker the cancel checker
+	 * @return the page, or <code>null</code> if there is no node with the given
+	 *         id
+	 */
+	public static Page getPage(DependencyNode root, String nodeId, int offset, int limit,
+			CancelChecker cancelChecker) {
+		String id = nodeId != null ? nodeId : ROOT_ID;
+		DependencyNode node = findNode(root, id);
+		if (node == null) {
+			return null;
+		}
+		DependencyConflicts conflicts = DependencyConflicts.of(root);
+		List<DependencyConflicts.OmittedDependency> omitted = getOmittedDependencies(conflicts, node);
+		List<DependencyNode> children = node.getChildren();
+		int total = children.size() + omitted.size();
+		int start = Math.max(0, Math.min(offset, total));
+		int end = Math.min(total, start + Math.max(0, limit));
+		List<Node> page = new ArrayList<>(end - start);
+		for (int i = start; i < end; i++) {
+			cancelChecker.checkCanceled();
+			if (i < children.size()) {
+				page.add(toNode(childId(id, i), children.get(i), conflicts));
+			} else {
+				DependencyConflicts.OmittedDependency dependency = omitted.get(i - children.size());
+				page.add(new Node(null, dependency.dependency().getArtifact(), dependency.dependency(), null, null,
+						dependency.winnerVersion(), 0));
+			}
+		}
+		return new Page(toNode(id, node, conflicts), start, total, page, false);
+	}
+
+	private static Node toNode(String id, DependencyNode node, DependencyConflicts conflicts) {
+		return new Node(id, node.getArtifact(), node.getDependency(), DependencyManagerUtils.getPremanagedVersion(node),
+				DependencyManagerUtils.getPremanagedScope(node), null,
+				node.getChildren().size() + getOmittedDependencies(conflicts, node).size());
+	}
+
+	private static List<DependencyConflicts.OmittedDependency> getOmittedDependencies(DependencyConflicts conflicts,
+			DependencyNode node) {
+		return conflicts != null ? conflicts.getOmittedDependencies(node) : List.of();
+	}
+
+	private static String childId(String parentId, int index) {
+		return parentId.isEmpty() ? Integer.toString(index) : parentId + ID_SEPARATOR + index;
+	}
+
+	private static DependencyNode findNode(DependencyNode root, String nodeId) {
+		DependencyNode node = root;
+		if (nodeId.isEmpty()) {
+			return node;
+		}
+		for (String index : nodeId.split(Pattern.quote(ID_SEPARATOR))) {
+			int i;
+			try {
+				i = Integer.parseInt(index);
+			} catch (NumberFormatException e) {
+				return null;
+			}
+			if (i < 0 || i >= node.getChildren().size()) {
+				return null;
+			}
+			node = node.getChildren().get(i);
+		}
+		return node;
+	}
+}
@@ -0,0 +1,341 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
+
+import org.apache.maven.model.InputLocation;
+import org.apache.maven.model.InputSource;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.io.xpp3.MavenXpp3WriterEx;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Renders the effective POM of a loaded Maven project, as
+ * <code>mvn help:effective-pom -Dverbose</code> does: each element is followed
+ * by a comment with the POM and line it comes from.
+ *
+ * The effective model is rendered by top-level sections (dependencies, build,
+ * profiles...), which are kept for each POM file. When the project is rebuilt,
+ * a hash of each section of the effective model, with its input locations, is
+ * computed from the model objects without writing them, and only the sections
+ * whose hash changed are written and formatted again. As the hash covers the
+ * effective section itself, a change from any input of the effective model is
+ * detected: the POM files of the lineage, the imported BOMs, the profiles of
+ * the settings or the line numbers of the locations.
+ */
+public class EffectivePomRenderer {
+
+	private static final int MAX_PROJECTS = 20;
+
+	private static final String PROJECT_START = "<project";
+	private static final String PROJECT_END = "</project>";
+
+	private static final int INDENTATION = 2;
+
+	private static final Pattern ELEMENT_AFTER_COMMENT = Pattern.compile("(?<=-->)(?=<)");
+
+	private static final String MODEL_PACKAGE = "org.apache.maven.model.";
+
+	// The fields of the model objects caching values derived from the others, not
+	// written in the effective POM
+	private static final Set<String> DERIVED_FIELDS = Set.of("executionMap", "pluginMap", "managementKey",
+			"inheritanceApplied", "pomFile", "modelEncoding");
+
+	private static final ClassValue<List<Field>> MODEL_FIELDS = new ClassValue<>() {
+
+		@Override
+		protected List<Field> computeValue(Class<?> type) {
+			List<Field> fields = new ArrayList<>();
+			for (Class<?> current = type; current != null && current != Object.class; current = current
+					.getSuperclass()) {
+				for (Field field : current.getDeclaredFields()) {
+					if (!Modifier.isStatic(field.getModifiers()) && !DERIVED_FIELDS.contains(field.getName())) {
+						field.setAccessible(true);
+						fields.add(field);
+					}
+				}
+			}
+			return List.copyOf(fields);
+		}
+	};
+
+	private static final InputLocation.StringFormatter LOCATION_FORMATTER = new InputLocation.StringFormatter() {
+
+		@Override
+		public String toString(InputLocation location) {
+			InputSource source = location.getSource();
+			String modelId = source != null ? source.getModelId() : null;
+			return " " + (modelId != null ? modelId : "") + ", line " + location.getLineNumber() + " ";
+		}
+	};
+
+	/**
+	 * The top-level sections of the effective POM, in the order of the
+	 * {@link MavenXpp3WriterEx}
+	 */
+	private enum Section {
+
+		INFORMATION((from, to) -> {
+			to.setModelVersion(from.getModelVersion());
+			to.setParent(from.getParent());
+			to.setGroupId(from.getGroupId());
+			to.setArtifactId(from.getArtifactId());
+			to.setVersion(from.getVersion());
+			to.setPackaging(from.getPackaging());
+			to.setName(from.getName());
+			to.setDescription(from.getDescription());
+			to.setUrl(from.getUrl());
+			to.setChildProjectUrlInheritAppendPath(from.getChildProjectUrlInheritAppendPath());
+			to.setInceptionYear(from.getInceptionYear());
+			to.setOrganization(from.getOrganization());
+			to.setLicenses(from.getLicenses());
+			to.setDevelopers(from.getDevelopers());
+			to.setContributors(from.getContributors());
+			to.setMailingLists(from.getMailingLists());
+			to.setPrerequisites(from.getPrerequisites());
+			to.setModules(from.getModules());
+			to.setScm(from.getScm());
+			to.setIssueManagement(from.getIssueManagement());
+			to.setCiManagement(from.getCiManagement());
+			to.setDistributionManagement(from.getDistributionManagement());
+		}, "", "modelVersion", "parent", "groupId", "artifactId", "version", "packaging", "name", "description",
+				"url", "child.project.url.inherit.append.path", "inceptionYear", "organization", "licenses",
+				"developers", "contributors", "mailingLists", "prerequisites", "modules", "scm", "issueManagement",
+				"ciManagement", "distributionManagement"),
+		PROPERTIES((from, to) -> to.setProperties(from.getProperties()), "properties"),
+		DEPENDENCY_MANAGEMENT((from, to) -> to.setDependencyManagement(from.getDependencyManagement()),
+				"dependencyManagement"),
+		DEPENDENCIES((from, to) -> to.setDependencies(from.getDependencies()), "dependencies"),
+		REPOSITORIES((from, to) -> {
+			to.setRepositories(from.getRepositories());
+			to.setPluginRepositories(from.getPluginRepositories());
+		}, "repositories", "pluginRepositories"),
+		BUILD((from, to) -> to.setBuild(from.getBuild()), "build"),
+		REPORTING((from, to) -> {
+			to.setReports(from.getReports());
+			to.setReporting(from.getReporting());
+		}, "reports", "reporting"),
+		PROFILES((from, to) -> to.setProfiles(from.getProfiles()), "profiles");
+
+		private final BiConsumer<Model, Model> copy;
+		private final String[] locationKeys;
+
+		private Section(BiConsumer<Model, Model> copy, String... locationKeys) {
+			this.copy = copy;
+			this.locationKeys = locationKeys;
+		}
+	}
+
+	private record RenderedSection(long fingerprint, String text) {
+	}
+
+	private record RenderedPom(WeakReference<MavenProject> project, String text,
+			Map<Section, RenderedSection> sections) {
+	}
+
+	private final Cache<String, RenderedPom> renderedPoms = CacheBuilder.newBuilder().maximumSize(MAX_PROJECTS)
+			.build();
+
+	private int lastRenderedSections;
+
+	/**
+	 * Returns the effective POM of the given project, with the input locations
+	 *
+	 * @param project       a loaded Maven project
+	 * @param cancelChecker the cancel checker
+	 * @return the XML text of the effective POM
+	 * @throws IOException if the model cannot be written
+	 */
+	public synchronized String render(MavenProject project, CancelChecker cancelChecker) throws IOException {
+		File pomFile = project.getFile();
+		String key = pomFile != null ? pomFile.getAbsolutePath() : project.getId();
+		RenderedPom previous = renderedPoms.getIfPresent(key);
+		if (previous != null && previous.project().get() == project) {
+			lastRenderedSections = 0;
+			return previous.text();
+		}
+
+		int rendered = 0;
+		Map<Section, RenderedSection> sections = new EnumMap<>(Section.class);
+		StringBuilder text = new StringBuilder();
+		for (Section section : Section.values()) {
+			cancelChecker.checkCanceled();
+			Model sectionModel = getSectionModel(project.getModel(), section);
+			long fingerprint = hash(sectionModel);
+			RenderedSection renderedSection = previous != null ? previous.sections().get(section) : null;
+			if (renderedSection == null || renderedSection.fingerprint() != fingerprint) {
+				renderedSection = new RenderedSection(fingerprint, format(write(sectionModel), section));
+				rendered++;
+			}
+			sections.put(section, renderedSection);
+			text.append(renderedSection.text());
+		}
+		text.append('\n').append(PROJECT_END).append('\n');
+
+		String result = text.toString();
+		renderedPoms.put(key, new RenderedPom(new WeakReference<>(project), result, sections));
+		lastRenderedSections = rendered;
+		return result;
+	}
+
+	/**
+	 * Returns the number of sections rendered by the last call to
+	 * {@link #render(MavenProject, CancelChecker)}
+	 */
+	synchronized int getLastRenderedSections() {
+		return lastRenderedSections;
+	}
+
+	public void clear() {
+		renderedPoms.invalidateAll();
+	}
+
+	/*
+	 * Returns a model with the given section of the effective model only, and its
+	 * input locations
+	 */
+	private static Model getSectionModel(Model model, Section section) {
+		Model sectionModel = new Model();
+		section.copy.accept(model, sectionModel);
+		for (String locationKey : section.locationKeys) {
+			sectionModel.setLocation(locationKey, model.getLocation(locationKey));
+		}
+		return sectionModel;
+	}
+
+	/*
+	 * Returns a 64 bits hash of what the writer writes for the given model
+	 * object: its values and input locations, walked through the fields of the
+	 * model classes
+	 */
+	private static long hash(Object value) {
+		if (value == null) {
+			return 0;
+		}
+		long result;
+		if (value instanceof InputLocation location) {
+			InputSource source = location.getSource();
+			result = combine(location.getLineNumber(), location.getColumnNumber());
+			result = combine(result, source != null ? Objects.hash(source.getModelId(), source.getLocation()) : 0);
+			return combine(result, hash(location.getLocations()));
+		}
+		if (value instanceof Xpp3Dom dom) {
+			// The parent of the DOM is not walked
+			result = combine(Objects.hashCode(dom.getName()), Objects.hashCode(dom.getValue()));
+			for (String attribute : dom.getAttributeNames()) {
+				result = combine(result, Objects.hash(attribute, dom.getAttribute(attribute)));
+			}
+			result = combine(result, hash(dom.getInputLocation()));
+			for (Xpp3Dom child : dom.getChildren()) {
+				result = combine(result, hash(child));
+			}
+			return result;
+		}
+		if (value instanceof Collection<?> collection) {
+			result = 1;
+			for (Object element : collection) {
+				result = combine(result, hash(element));
+			}
+			return result;
+		}
+		if (value instanceof Map<?, ?> map) {
+			result = 2;
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				result = combine(combine(result, hash(entry.getKey())), hash(entry.getValue()));
+			}
+			return result;
+		}
+		if (!value.getClass().getName().startsWith(MODEL_PACKAGE)) {
+			// Strings, numbers and booleans
+			return value.hashCode();
+		}
+		result = value.getClass().getName().hashCode();
+		for (Field field : MODEL_FIELDS.get(value.getClass())) {
+			try {
+				result = combine(result, hash(field.get(value)));
+			} catch (IllegalAccessException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		return result;
+	}
+
+	private static long combine(long hash, long value) {
+		return hash * 1_000_003L ^ value;
+	}
+
+	/*
+	 * Writes the given model, with the input locations
+	 */
+	private static String write(Model sectionModel) throws IOException {
+		MavenXpp3WriterEx writer = new MavenXpp3WriterEx();
+		writer.setStringFormatter(LOCATION_FORMATTER);
+		StringWriter out = new StringWriter();
+		writer.write(out, sectionModel);
+		return out.toString();
+	}
+
+	/*
+	 * Formats the written section of the effective model. The rendering of the
+	 * first section starts with the XML declaration and the project start tag,
+	 * the others only contain the section elements.
+	 */
+	private static String format(String written, Section section) {
+		String text = breakAfterComments(written);
+		int start = text.indexOf('>', text.indexOf(PROJECT_START)) + 1;
+		int end = text.lastIndexOf(PROJECT_END);
+		String content = end != -1 ? text.substring(start, end).stripTrailing() : "";
+		return section == Section.INFORMATION ? text.substring(0, start) + content : content;
+	}
+
+	/*
+	 * The writer puts the tag following a location comment on the same line,
+	 * moves it to its own line: with the same indentation for a start tag, with
+	 * the indentation of the parent element for an end tag
+	 */
+	private static String breakAfterComments(String text) {
+		StringBuilder result = new StringBuilder(text.length() + text.length() / 8);
+		for (String line : text.split("\n", -1)) {
+			if (result.length() > 0) {
+				result.append('\n');
+			}
+			int indentation = 0;
+			while (indentation < line.length() && line.charAt(indentation) == ' ') {
+				indentation++;
+			}
+			String[] tags = ELEMENT_AFTER_COMMENT.split(line);
+			result.append(tags[0]);
+			for (int i = 1; i < tags.length; i++) {
+				int tagIndentation = tags[i].startsWith("</") ? Math.max(0, indentation - INDENTATION) : indentation;
+				result.append('\n').append(line, 0, tagIndentation).append(tags[i]);
+			}
+		}
+		return result.toString();
+	}
+}
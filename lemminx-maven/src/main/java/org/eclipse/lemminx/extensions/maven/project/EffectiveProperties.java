@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.maven.model.Build;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuildingRequest;
+import org.eclipse.lemminx.extensions.maven.utils.ParticipantUtils;
+
+/**
+ * The immutable view of the properties available to the expressions of a
+ * project, computed once per project.
+ *
+ * The properties are looked up in layers, by decreasing precedence (see
+ * org.apache.maven.plugin.PluginParameterExpressionEvaluator): the
+ * <code>basedir</code>, <code>project.*</code> properties, the system
+ * properties, the user properties, the model properties and the environment
+ * variables (<code>env.*</code>).
+ */
+public final class EffectiveProperties {
+
+	private static final String CONTEXT_KEY = EffectiveProperties.class.getName();
+
+	private static final String EXPRESSION_START = "${";
+	private static final char EXPRESSION_END = '}';
+
+	private static final EffectiveProperties EMPTY = new EffectiveProperties(List.of());
+
+	private static Map<String, String> environment;
+
+	private final List<Map<String, String>> layers;
+	private volatile Map<String, String> map;
+
+	private EffectiveProperties(List<Map<String, String>> layers) {
+		this.layers = layers;
+	}
+
+	/**
+	 * Returns the effective properties of the given project, computed on the
+	 * first call and kept with the project
+	 *
+	 * @param project a Maven project, can be <code>null</code>
+	 * @return the effective properties
+	 */
+	public static EffectiveProperties of(MavenProject project) {
+		if (project == null) {
+			return EMPTY;
+		}
+		synchronized (project) {
+			if (project.getContextValue(CONTEXT_KEY) instanceof EffectiveProperties properties) {
+				return properties;
+			}
+			Map<String, String> builtIn = new HashMap<>();
+			putBasedir(builtIn, project.getBasedir());
+			putProject(builtIn, project.getGroupId(), project.getArtifactId(), project.getVersion(),
+					project.getName());
+			Build build = project.getBuild();
+			if (build != null) {
+				builtIn.put("project.build.directory", build.getDirectory());
+				builtIn.put("project.build.outputDirectory", build.getOutputDirectory());
+				builtIn.put("project.build.testOutputDirectory", build.getTestOutputDirectory());
+			}
+			ProjectBuildingRequest request = project.getProjectBuildingRequest();
+			EffectiveProperties properties = new EffectiveProperties(List.of(builtIn,
+					toMap(request != null ? request.getSystemProperties() : null),
+					toMap(request != null ? request.getUserProperties() : null), toMap(project.getProperties()),
+					getEnvironment()));
+			project.setContextValue(CONTEXT_KEY, properties);
+			return properties;
+		}
+	}
+
+	/**
+	 * Returns the effective properties of the given project summary
+	 *
+	 * @param summary a project summary, can be <code>null</code>
+	 * @return the effective properties
+	 */
+	public static EffectiveProperties of(ProjectSummary summary) {
+		return summary != null ? summary.getEffectiveProperties() : EMPTY;
+	}
+
+	static EffectiveProperties create(ProjectSummary summary) {
+		Map<String, String> builtIn = new HashMap<>();
+		putBasedir(builtIn, summary.getBasedir());
+		putProject(builtIn, summary.getGroupId(), summary.getArtifactId(), summary.getVersion(), summary.getName());
+		builtIn.putAll(summary.getBuildProperties());
+		return new EffectiveProperties(List.of(builtIn, summary.getSystemProperties(), summary.getUserProperties(),
+				summary.getProperties(), getEnvironment()));
+	}
+
+	/**
+	 * Returns true if the given property is defined
+	 */
+	public boolean containsKey(String name) {
+		for (Map<String, String> layer : layers) {
+			if (layer.containsKey(name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the value of the given property, or <code>null</code>
+	 */
+	public String get(String name) {
+		for (Map<String, String> layer : layers) {
+			if (layer.containsKey(name)) {
+				return layer.get(name);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns all the effective properties as an unmodifiable map, merged once
+	 */
+	public Map<String, String> asMap() {
+		Map<String, String> result = map;
+		if (result == null) {
+			Map<String, String> merged = new LinkedHashMap<>();
+			for (int i = layers.size() - 1; i >= 0; i--) {
+				merged.putAll(layers.get(i));
+			}
+			result = Collections.unmodifiableMap(merged);
+			map = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Replaces the expressions of the given value by the values of the
+	 * properties, the nested expressions (<code>${a.${b}}</code>) being replaced
+	 * first. The expressions of undefined properties are removed.
+	 *
+	 * @param value a value, can be <code>null</code>
+	 * @return the interpolated value
+	 */
+	public String interpolate(String value) {
+		if (value == null || value.indexOf(EXPRESSION_START) == -1) {
+			return value;
+		}
+		StringBuilder result = new StringBuilder(value.length());
+		interpolate(value, 0, result, false);
+		return result.toString();
+	}
+
+	/*
+	 * Interpolates the value from the given index into the result, up to the end
+	 * of the value or, for a nested call, up to the end of the expression. Returns
+	 * the index where the interpolation stopped.
+	 */
+	private int interpolate(String value, int start, StringBuilder result, boolean nested) {
+		int index = start;
+		while (index < value.length()) {
+			char c = value.charAt(index);
+			if (value.startsWith(EXPRESSION_START, index)) {
+				StringBuilder name = new StringBuilder();
+				int end = interpolate(value, index + EXPRESSION_START.length(), name, true);
+				if (end >= value.length()) {
+					// Unterminated expression
+					result.append(value, index, value.length());
+					return value.length();
+				}
+				String propertyValue = get(name.toString());
+				if (propertyValue != null) {
+					result.append(propertyValue);
+				}
+				index = end + 1;
+			} else if (nested && c == EXPRESSION_END) {
+				return index;
+			} else {
+				result.append(c);
+				index++;
+			}
+		}
+		return index;
+	}
+
+	private static void putBasedir(Map<String, String> builtIn, File basedir) {
+		if (basedir != null) {
+			builtIn.put("basedir", basedir.toString());
+			builtIn.put("project.basedir", basedir.toString());
+		}
+	}
+
+	private static void putProject(Map<String, String> builtIn, String groupId, String artifactId, String version,
+			String name) {
+		builtIn.put("project.version", version);
+		builtIn.put("project.groupId", groupId);
+		builtIn.put("project.artifactId", artifactId);
+		builtIn.put("project.name", name);
+	}
+
+	private static synchronized Map<String, String> getEnvironment() {
+		if (environment == null) {
+			environment = toMap(ParticipantUtils.getEnvironmentProperties());
+		}
+		return environment;
+	}
+
+	private static Map<String, String> toMap(Properties properties) {
+		if (properties == null || properties.isEmpty()) {
+			return Map.of();
+		}
+		Map<String, String> map = new HashMap<>();
+		properties.stringPropertyNames().forEach(name -> map.put(name, properties.getProperty(name)));
+		return Collections.unmodifiableMap(map);
+	}
+}
@@ -8,6 +8,7 @@
  *******************************************************************************/
 package org.eclipse.lemminx.extensions.maven.project;
 
+import java.lang.ref.SoftReference;
 import java.util.Collection;
 
 import org.apache.maven.model.building.ModelProblem;
@@ -28,27 +29,73 @@ import org.eclipse.lemminx.dom.DOMDocument;
  */
 public class LoadedMavenProject {
 
-	private final MavenProject mavenProject;
+	/**
+	 * The heavyweight build results, only softly referenced by the loaded
+	 * project
+	 */
+	record BuildState(MavenProject mavenProject, DependencyResolutionResult dependencyResolutionResult) {
+	}
+
+	private final SoftReference<BuildState> buildState;
+	private final ProjectSummary summary;
 	private int lastCheckedVersion;
 	private final Collection<ModelProblem> problems;
-	private final DependencyResolutionResult dependencyResolutionResult;
+	private final boolean dependenciesResolved;
 
 	public LoadedMavenProject(MavenProject mavenProject, Collection<ModelProblem> problems,
 			DependencyResolutionResult dependencyResolutionResult) {
-		this.mavenProject = mavenProject;
+		this(mavenProject, problems, dependencyResolutionResult, true);
+	}
+
+	public LoadedMavenProject(MavenProject mavenProject, Collection<ModelProblem> problems,
+			DependencyResolutionResult dependencyResolutionResult, boolean dependenciesResolved) {
+		this.buildState = mavenProject != null || dependencyResolutionResult != null
+				? new SoftReference<>(new BuildState(mavenProject, dependencyResolutionResult))
+				: null;
+		this.summary = ProjectSummary.of(mavenProject);
 		this.problems = problems;
-		this.dependencyResolutionResult = dependencyResolutionResult;
+		this.dependenciesResolved = dependenciesResolved;
 	}
 
 	/**
 	 * Returns the loaded maven project if the pom.xml content is valid and null
 	 * otherwise.
+	 * <p>
+	 * The Maven project is softly referenced and can be released under memory
+	 * pressure, in that case it is rebuilt on the next access through the
+	 * project cache. Participants only needing the project coordinates or
+	 * properties should use {@link #getSummary()}.
+	 * </p>
 	 * 
 	 * @return the loaded maven project if the pom.xml content is valid and null
 	 *         otherwise.
 	 */
 	public MavenProject getMavenProject() {
-		return mavenProject;
+		BuildState state = getBuildState();
+		return state != null ? state.mavenProject() : null;
+	}
+
+	/**
+	 * Returns the compact summary of the loaded maven project if the pom.xml
+	 * content is valid and null otherwise. The summary is kept as long as the
+	 * project is cached.
+	 * 
+	 * @return the summary of the loaded maven project or null.
+	 */
+	public ProjectSummary getSummary() {
+		return summary;
+	}
+
+	BuildState getBuildState() {
+		return buildState != null ? buildState.get() : null;
+	}
+
+	/**
+	 * Returns true if the build results have been released by the garbage
+	 * collector and the project needs to be built again.
+	 */
+	boolean isReleased() {
+		return buildState != null && buildState.get() == null;
 	}
 
 	/**
@@ -68,7 +115,20 @@ public class LoadedMavenProject {
 	 *         the pom.xml.
 	 */
 	public DependencyResolutionResult getDependencyResolutionResult() {
-		return dependencyResolutionResult;
+		BuildState state = getBuildState();
+		return state != null ? state.dependencyResolutionResult() : null;
+	}
+
+	/**
+	 * Returns true if the project has been built with its dependencies resolved,
+	 * and false if only its model has been built so far. The problems and the
+	 * dependency resolution result of a model-only project don't include the
+	 * dependency resolution errors.
+	 * 
+	 * @return true if the dependencies of the project have been resolved.
+	 */
+	public boolean isDependenciesResolved() {
+		return dependenciesResolved;
 	}
 
 	/**
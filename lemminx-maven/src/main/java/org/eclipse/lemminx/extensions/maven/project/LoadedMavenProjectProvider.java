@@ -13,8 +13,10 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.apache.maven.model.building.FileModelSource;
+import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.extensions.maven.project.MavenProjectCache.ProjectBuildManager;
+import org.eclipse.lemminx.extensions.maven.project.MavenProjectCache.ProjectBuildManager.ProjectBuild;
 import org.eclipse.lemminx.extensions.maven.utils.DOMModelSource;
 import org.eclipse.lemminx.services.IXMLDocumentProvider;
 import org.eclipse.lemminx.utils.FilesUtils;
@@ -31,8 +33,11 @@ public class LoadedMavenProjectProvider {
 	private final IXMLDocumentProvider documentProvider;
 	private final ProjectBuildManager buildManager;
 
-	private int lastCheckedVersion;
-	private CompletableFuture<LoadedMavenProject> future;
+	private volatile int lastCheckedVersion;
+	private volatile CompletableFuture<LoadedMavenProject> future;
+	private CompletableFuture<LoadedMavenProject> resolvedFuture;
+	private RepositorySystemSession retrySession;
+	private volatile long lastAccessTime;
 	
 	/**
 	 * Creates a LoadedMavenProjectProvider using provided URI String identifying the 
@@ -50,19 +55,25 @@ public class LoadedMavenProjectProvider {
 		this.documentProvider = documentProvider;
 		this.buildManager = buildManager;
 		this.lastCheckedVersion = -1;
+		this.lastAccessTime = System.currentTimeMillis();
 	}
 	
 	/**
 	 * Returns a `CompletableFuture<LoadedMavenProject>` for asynchronous access
 	 * to the Maven Project built from the latest version of the document.
+	 * <p>
+	 * The check of the current future and its replacement are atomic, so
+	 * concurrent callers never start several builds for the same version.
+	 * </p>
 	 *  
 	 * @return CompletableFuture of LoadedMavenProject object 
 	 */
-	public CompletableFuture<LoadedMavenProject> getLoadedMavenProject() {
+	public synchronized CompletableFuture<LoadedMavenProject> getLoadedMavenProject() {
+		lastAccessTime = System.currentTimeMillis();
 		DOMDocument document = documentProvider.getDocument(uri);
 		// Check if future must be created
 		// 1. is the future exist?
-		boolean shouldLoad = future == null || future.isCompletedExceptionally();
+		boolean shouldLoad = future == null || future.isCompletedExceptionally() || isReleased(future);
 		if (!shouldLoad) {
 			// 2. is the current future is not out of dated?
 			if (document != null) {
@@ -76,15 +87,63 @@ public class LoadedMavenProjectProvider {
 			if (future != null) {
 				future.cancel(true);
 			}
+			if (resolvedFuture != null) {
+				resolvedFuture.cancel(true);
+			}
 			if (document != null) {
 				lastCheckedVersion = document.getTextDocument().getVersion();
 			}
-			future = load(uri, document);
+			ProjectBuild build = load(uri, document, retrySession);
+			retrySession = null;
+			CompletableFuture<LoadedMavenProject> modelFuture = build.future();
+			future = modelFuture;
+			resolvedFuture = build.resolvedFuture();
+			resolvedFuture.thenAccept(resolvedProject -> upgrade(modelFuture, resolvedProject));
 		}
 		return future;
 	}
+
+	/**
+	 * Replaces the project built without its dependencies by the one built with
+	 * its resolved dependencies, if the document hasn't been reloaded meanwhile.
+	 */
+	private void upgrade(CompletableFuture<LoadedMavenProject> modelFuture, LoadedMavenProject resolvedProject) {
+		synchronized (this) {
+			if (future != modelFuture || modelFuture.isCompletedExceptionally() || resolvedProject == null
+					|| resolvedProject == modelFuture.getNow(null)) {
+				return;
+			}
+			future = CompletableFuture.completedFuture(resolvedProject);
+		}
+		buildManager.dependenciesResolved(uri);
+	}
 	
-	private CompletableFuture<LoadedMavenProject> load(String uri, DOMDocument document) {
+	/**
+	 * Forces the Maven Project to be built again on the next access. The pending
+	 * build is cancelled, so that it doesn't publish a stale project.
+	 * 
+	 * @param retrySession the repository session of the next build, or
+	 *                     <code>null</code> for the session of the extension
+	 */
+	synchronized void invalidate(RepositorySystemSession retrySession) {
+		if (future != null) {
+			future.cancel(true);
+		}
+		if (resolvedFuture != null) {
+			resolvedFuture.cancel(true);
+		}
+		future = null;
+		resolvedFuture = null;
+		this.retrySession = retrySession;
+	}
+
+	private static boolean isReleased(CompletableFuture<LoadedMavenProject> future) {
+		// 3. has the Maven project been released under memory pressure?
+		LoadedMavenProject loadedProject = future.isDone() && !future.isCancelled() ? future.getNow(null) : null;
+		return loadedProject != null && loadedProject.isReleased();
+	}
+
+	private ProjectBuild load(String uri, DOMDocument document, RepositorySystemSession repositorySession) {
 		try {
 			FileModelSource source = null;			
 			if (document != null) {
@@ -92,7 +151,7 @@ public class LoadedMavenProjectProvider {
 			} else {
 				source = new FileModelSource(FilesUtils.toFile(uri));
 			}
-			return buildManager.build(uri, source);
+			return buildManager.build(uri, source, repositorySession);
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, e.getMessage() + ": " + uri, e);
 			throw e;
@@ -108,6 +167,15 @@ public class LoadedMavenProjectProvider {
 		return uri;
 	}
 
+	/**
+	 * Returns the time of the last access to the Maven Project, in milliseconds
+	 * 
+	 * @return the time of the last access
+	 */
+	long getLastAccessTime() {
+		return lastAccessTime;
+	}
+
 	/**
 	 * Returns the last checked version of the document of the pom.xml.
 	 * <p>
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringTokenizer;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.ParseException;
+import org.apache.maven.cli.CLIManager;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Caches the multi-module project directory of the built POM files and the
+ * parsed content of the <code>.mvn/maven.config</code> files, so that creating
+ * a project building request doesn't walk the file system nor parse the
+ * configuration again.
+ * 
+ * The multi-module project directories are computed again after
+ * {@value #DIRECTORY_EXPIRATION_SECONDS} seconds to take new
+ * <code>.mvn</code> folders into account. The configurations are parsed again
+ * when the modification time or the size of the file changes.
+ */
+class MavenConfigCache {
+
+	private static final int MAX_ENTRIES = 1000;
+	private static final int DIRECTORY_EXPIRATION_SECONDS = 30;
+
+	/**
+	 * The options of a <code>.mvn/maven.config</code> file used by the project
+	 * building requests
+	 * 
+	 * @param file             the maven.config file
+	 * @param userProperties   the user properties (<code>-D</code>)
+	 * @param activeProfiles   the active profile ids (<code>-P</code>)
+	 * @param inactiveProfiles the inactive profile ids (<code>-P !id</code>)
+	 * @param error            the error which happened while reading the file,
+	 *                         or <code>null</code>
+	 */
+	record MavenConfig(File file, Map<String, String> userProperties, List<String> activeProfiles,
+			List<String> inactiveProfiles, Exception error) {
+	}
+
+	private record CachedConfig(long lastModified, long length, MavenConfig config) {
+	}
+
+	private final Cache<File, Optional<File>> multiModuleProjectDirectories = CacheBuilder.newBuilder()
+			.maximumSize(MAX_ENTRIES).expireAfterWrite(DIRECTORY_EXPIRATION_SECONDS, TimeUnit.SECONDS).build();
+
+	private final Cache<File, CachedConfig> configs = CacheBuilder.newBuilder().maximumSize(MAX_ENTRIES).build();
+
+	/**
+	 * Returns the multi-module project directory of the given project file.
+	 * 
+	 * @see MavenProjectCache#computeMultiModuleProjectDirectory(File)
+	 * @param projectFile the project file or base directory, may be
+	 *                    <code>null</code>
+	 * @return the multi-module project directory or <code>null</code>
+	 */
+	File getMultiModuleProjectDirectory(File projectFile) {
+		if (projectFile == null) {
+			return null;
+		}
+		Optional<File> directory = multiModuleProjectDirectories.getIfPresent(projectFile);
+		if (directory == null) {
+			directory = Optional.ofNullable(MavenProjectCache.computeMultiModuleProjectDirectory(projectFile));
+			multiModuleProjectDirectories.put(projectFile, directory);
+		}
+		return directory.orElse(null);
+	}
+
+	/**
+	 * Returns the parsed <code>maven.config</code> file
+	 * 
+	 * @param mavenConfigFile the <code>.mvn/maven.config</code> file
+	 * @return the parsed configuration or <code>null</code> if the file doesn't
+	 *         exist
+	 */
+	MavenConfig getMavenConfig(File mavenConfigFile) {
+		long lastModified = mavenConfigFile.lastModified();
+		if (lastModified == 0L) {
+			// The file doesn't exist
+			configs.invalidate(mavenConfigFile);
+			return null;
+		}
+		long length = mavenConfigFile.length();
+		CachedConfig cached = configs.getIfPresent(mavenConfigFile);
+		if (cached == null || cached.lastModified() != lastModified || cached.length() != length) {
+			cached = new CachedConfig(lastModified, length, parse(mavenConfigFile));
+			configs.put(mavenConfigFile, cached);
+		}
+		return cached.config();
+	}
+
+	void clear() {
+		multiModuleProjectDirectories.invalidateAll();
+		configs.invalidateAll();
+	}
+
+	private static MavenConfig parse(File mavenConfigFile) {
+		Map<String, String> userProperties = new LinkedHashMap<>();
+		List<String> activeProfiles = new ArrayList<>();
+		List<String> inactiveProfiles = new ArrayList<>();
+		try {
+			CLIManager manager = new CLIManager();
+			String[] args;
+			try (Stream<String> lines = Files.lines(mavenConfigFile.toPath(), Charset.defaultCharset())) {
+				args = lines.filter(arg -> !arg.isEmpty()).toArray(String[]::new);
+			}
+			CommandLine commandline = manager.parse(args);
+			if (commandline.hasOption(CLIManager.SET_USER_PROPERTY)) {
+				String[] configUserProperties = commandline.getOptionValues(CLIManager.SET_USER_PROPERTY);
+				if (configUserProperties != null) {
+					for (String property : configUserProperties) {
+						int index = property.indexOf('=');
+						if (index <= 0) {
+							userProperties.put(property.trim(), "true");
+						} else {
+							userProperties.put(property.substring(0, index).trim(),
+									property.substring(index + 1).trim());
+						}
+					}
+				}
+			}
+			if (commandline.hasOption(CLIManager.ACTIVATE_PROFILES)) {
+				String[] profileOptionValues = commandline.getOptionValues(CLIManager.ACTIVATE_PROFILES);
+				if (profileOptionValues != null) {
+					for (String profileOptionValue : profileOptionValues) {
+						StringTokenizer tokenizer = new StringTokenizer(profileOptionValue, ",");
+						while (tokenizer.hasMoreTokens()) {
+							String profileToken = tokenizer.nextToken().trim();
+							if (profileToken.startsWith("-") || profileToken.startsWith("!")) {
+								inactiveProfiles.add(profileToken.substring(1));
+							} else if (profileToken.startsWith("+")) {
+								activeProfiles.add(profileToken.substring(1));
+							} else {
+								activeProfiles.add(profileToken);
+							}
+						}
+					}
+				}
+			}
+		} catch (IOException | ParseException e) {
+			return new MavenConfig(mavenConfigFile, Map.of(), List.of(), List.of(), e);
+		}
+		return new MavenConfig(mavenConfigFile, Collections.unmodifiableMap(userProperties),
+				List.copyOf(activeProfiles), List.copyOf(inactiveProfiles), null);
+	}
+}
@@ -15,37 +15,45 @@ import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.management.ManagementFactory;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.StringTokenizer;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-import org.apache.commons.cli.CommandLine;
-import org.apache.commons.cli.ParseException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.apache.maven.RepositoryUtils;
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.repository.ArtifactRepositoryPolicy;
 import org.apache.maven.artifact.repository.MavenArtifactRepository;
 import org.apache.maven.artifact.repository.layout.DefaultRepositoryLayout;
-import org.apache.maven.cli.CLIManager;
 import org.apache.maven.execution.MavenExecutionRequest;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Build;
@@ -58,41 +66,83 @@ import org.apache.maven.model.building.ModelProblem.Severity;
 import org.apache.maven.model.building.ModelProblem.Version;
 import org.apache.maven.model.io.ModelParseException;
 import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.apache.maven.project.DefaultDependencyResolutionRequest;
 import org.apache.maven.project.DefaultProjectBuilder;
 import org.apache.maven.project.DefaultProjectBuildingRequest;
+import org.apache.maven.project.DependencyResolutionException;
 import org.apache.maven.project.DependencyResolutionResult;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.project.ProjectBuildingException;
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.project.ProjectBuildingResult;
+import org.apache.maven.project.ProjectDependenciesResolver;
 import org.codehaus.plexus.PlexusContainer;
 import org.codehaus.plexus.component.repository.exception.ComponentLookupException;
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.repository.LocalRepositoryManager;
 import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.extensions.maven.MavenComponents;
 import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
+import org.eclipse.lemminx.extensions.maven.ResolutionFailureCache;
+import org.eclipse.lemminx.extensions.maven.settings.XMLMavenProjectCacheSettings;
 import org.eclipse.lemminx.extensions.maven.utils.DOMModelSource;
+import org.eclipse.lemminx.extensions.maven.utils.URIUtils;
 import org.eclipse.lemminx.services.IXMLDocumentProvider;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4j.jsonrpc.CompletableFutures.FutureCancelChecker;
 
-public class MavenProjectCache {
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+public class MavenProjectCache implements MavenProjectCacheMXBean {
 
 	private static final String MVN_FOLDER = ".mvn";
 	private static final String MAVEN_CONFIG = "maven.config";
+	private static final long EVICTION_CHECK_INTERVAL = 60_000;
+	private static final String MBEAN_NAME = "org.eclipse.lemminx.maven:type=MavenProjectCache,id=";
 
 	private static final Logger LOGGER = Logger.getLogger(MavenProjectCache.class.getName());
 	private MavenLemminxExtension plugin;
 	private final Map<String, LoadedMavenProjectProvider> projectCache;
+	private final XMLMavenProjectCacheSettings cacheSettings;
+	private final AtomicLong evictionCount = new AtomicLong();
+	private volatile long lastEvictionCheck = System.currentTimeMillis();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final AtomicBoolean evictionScheduled = new AtomicBoolean();
+	private volatile boolean twoPhaseBuild;
+	// Whether the dependency graphs are resolved with a recording session (see
+	// DependencyConflicts), only needed by the dependency tree and convergence
+	private final AtomicBoolean recordDependencyConflicts = new AtomicBoolean();
+	private ObjectName mbeanName;
 	private final MavenSession mavenSession;
+	private MavenComponents components;
 	private final IXMLDocumentProvider documentProvider;
 	private ProjectBuildManager projectBuildManager;
+	private RawModelCache rawModelCache;
+	private final MavenConfigCache mavenConfigCache = new MavenConfigCache();
+	// Strongly retains the build results of the most recently accessed projects,
+	// the other ones are only softly referenced by their LoadedMavenProject
+	private final Cache<String, LoadedMavenProject.BuildState> retainedProjects;
 
 	public MavenProjectCache(MavenLemminxExtension plugin, MavenSession mavenSession, IXMLDocumentProvider documentProvider) {
+		this(plugin, mavenSession, null, documentProvider, null);
+	}
+
+	public MavenProjectCache(MavenLemminxExtension plugin, MavenSession mavenSession, MavenComponents components,
+			IXMLDocumentProvider documentProvider, XMLMavenProjectCacheSettings cacheSettings) {
 		this.plugin = plugin;
 		this.mavenSession = mavenSession;
-		this.projectCache = new HashMap<>();
+		this.components = components;
+		this.projectCache = new ConcurrentHashMap<>();
 		this.documentProvider = documentProvider;
+		this.cacheSettings = cacheSettings != null ? cacheSettings : new XMLMavenProjectCacheSettings();
+		int maxRetainedProjects = Math.max(0, this.cacheSettings.getRetainedProjects());
+		if (this.cacheSettings.getMaxProjects() > 0) {
+			maxRetainedProjects = Math.min(maxRetainedProjects, this.cacheSettings.getMaxProjects());
+		}
+		this.retainedProjects = CacheBuilder.newBuilder().maximumSize(maxRetainedProjects).build();
 		this.projectBuildManager = new ProjectBuildManager();
 	}
 
@@ -102,6 +152,35 @@ public class MavenProjectCache {
 	 */
 	public void start() {
 		projectBuildManager.start();
+		registerMBean();
+	}
+
+	/**
+	 * Builds the projects in two phases (model, then dependencies) in unit test
+	 * mode as well, where they are otherwise built in one phase
+	 */
+	void setTwoPhaseBuild(boolean twoPhaseBuild) {
+		this.twoPhaseBuild = twoPhaseBuild;
+	}
+
+	/**
+	 * Records the conflict losers and the managed versions of the dependency
+	 * graphs resolved by the next builds (see {@link DependencyConflicts}). The
+	 * cached projects are built again when the recording is enabled.
+	 * 
+	 * @return true if the recording was already enabled, false if the cached
+	 *         projects are built again
+	 */
+	public boolean recordDependencyConflicts() {
+		if (recordDependencyConflicts.compareAndSet(false, true)) {
+			reloadProjects(false);
+			return false;
+		}
+		return true;
+	}
+
+	private RepositorySystemSession newRepositorySession(RepositorySystemSession session) {
+		return recordDependencyConflicts.get() ? DependencyConflicts.newRecordingSession(session) : session;
 	}
 
 	/**
@@ -109,6 +188,12 @@ public class MavenProjectCache {
 	 */
 	public void stop() {
 		projectBuildManager.stop();
+		unregisterMBean();
+		retainedProjects.invalidateAll();
+		mavenConfigCache.clear();
+		if (rawModelCache != null) {
+			rawModelCache.clear();
+		}
 	}
 	
 	class ProjectBuildManager {
@@ -119,18 +204,35 @@ public class MavenProjectCache {
 		private final ThreadPoolExecutor executor = new ThreadPoolExecutor(0, 1, 0, TimeUnit.MILLISECONDS, runnables);
 		private final MavenXpp3Reader mavenReader = new MavenXpp3Reader();
 		private ProjectBuilder projectBuilder;
+		private ProjectDependenciesResolver dependenciesResolver;
+
+		/**
+		 * The futures of a project build
+		 * 
+		 * @param future         completed with the project built without resolving
+		 *                       its dependencies
+		 * @param resolvedFuture completed with the project built with its resolved
+		 *                       dependencies
+		 */
+		record ProjectBuild(CompletableFuture<LoadedMavenProject> future,
+				CompletableFuture<LoadedMavenProject> resolvedFuture) {
+		}
 
 		private final class BuildProjectRunnable implements Runnable {
 			final String uri;
 			final FileModelSource source;
 			final CompletableFuture<LoadedMavenProject> future;
+			final CompletableFuture<LoadedMavenProject> resolvedFuture;
+			final RepositorySystemSession repositorySession;
 			private int priority;
 			private File localTempRepository = null;
 
-			private BuildProjectRunnable(String uri, FileModelSource source) {
+			private BuildProjectRunnable(String uri, FileModelSource source, RepositorySystemSession repositorySession) {
 				this.uri = uri;
 				this.source = source;
+				this.repositorySession = repositorySession;
 				this.future = new CompletableFuture<>();
+				this.resolvedFuture = new CompletableFuture<>();
 				this.priority = 0;
 			}
 			
@@ -145,10 +247,93 @@ public class MavenProjectCache {
 			@Override
 			public void run() {
 				try {
-					future.complete(build(source, new FutureCancelChecker(future)));
-					
+					if (MavenLemminxExtension.isUnitTestMode() && !twoPhaseBuild) {
+						// Build in one phase to keep the tests deterministic
+						LoadedMavenProject loadedProject = build(source, true, new FutureCancelChecker(future));
+						future.complete(loadedProject);
+						resolvedFuture.complete(loadedProject);
+						return;
+					}
+					// Publish the project model as soon as possible, the dependencies
+					// are resolved afterwards
+					LoadedMavenProject loadedProject = build(source, false, new FutureCancelChecker(future));
+					// Strongly referenced until its dependencies are resolved
+					MavenProject project = loadedProject != null ? loadedProject.getMavenProject() : null;
+					future.complete(loadedProject);
+					if (project == null) {
+						// Nothing to resolve
+						resolvedFuture.complete(loadedProject);
+						return;
+					}
+					executor.execute(new ResolveDependenciesRunnable(this, loadedProject, project));
 				} catch (Exception e) { // This should include CancellationException
 					future.completeExceptionally(e);
+					resolvedFuture.completeExceptionally(e);
+				}
+			}
+
+			private void resolveDependencies(LoadedMavenProject loadedProject, MavenProject project) {
+				try {
+					resolvedFuture.complete(
+							resolveDependencies(loadedProject, project, new FutureCancelChecker(resolvedFuture)));
+				} catch (Exception e) { // This should include CancellationException
+					resolvedFuture.completeExceptionally(e);
+				}
+			}
+
+			/**
+			 * Resolves the dependencies of the project built without them. The model
+			 * of the project is not built again: the resolved artifacts are set on a
+			 * copy of the published project, as the project builder does when it
+			 * resolves the dependencies. The published project may be read meanwhile
+			 * on other threads, it's left unchanged.
+			 */
+			private LoadedMavenProject resolveDependencies(LoadedMavenProject loadedProject, MavenProject project,
+					CancelChecker cancelChecker) {
+				ProjectBuildingRequest request = project.getProjectBuildingRequest();
+				if (request == null || request.getRepositorySession() == null || project.getArtifact() == null
+						|| dependenciesResolver == null) {
+					// The project has been read from the document after a build error
+					return loadedProject;
+				}
+				project = project.clone();
+				RepositorySystemSession repositorySession = request.getRepositorySession();
+				DependencyResolutionResult dependencyResolutionResult;
+				try {
+					dependencyResolutionResult = dependenciesResolver
+							.resolve(new DefaultDependencyResolutionRequest(project, repositorySession));
+				} catch (DependencyResolutionException e) {
+					dependencyResolutionResult = e.getResult();
+				}
+				cancelChecker.checkCanceled();
+
+				Set<Artifact> artifacts = new LinkedHashSet<>();
+				if (dependencyResolutionResult != null && dependencyResolutionResult.getDependencyGraph() != null) {
+					RepositoryUtils.toArtifacts(artifacts, dependencyResolutionResult.getDependencyGraph().getChildren(),
+							List.of(project.getArtifact().getId()), null);
+					// An artifact always points at the local repository, whether resolved or not
+					LocalRepositoryManager localRepositoryManager = repositorySession.getLocalRepositoryManager();
+					for (Artifact artifact : artifacts) {
+						if (!artifact.isResolved()) {
+							String path = localRepositoryManager
+									.getPathForLocalArtifact(RepositoryUtils.toArtifact(artifact));
+							artifact.setFile(new File(localRepositoryManager.getRepository().getBasedir(), path));
+						}
+					}
+				}
+				project.setResolvedArtifacts(artifacts);
+				project.setArtifacts(artifacts);
+				builtMavenProject(project);
+				return new LoadedMavenProject(project, loadedProject.getProblems(), dependencyResolutionResult, true);
+			}
+
+			private void builtMavenProject(MavenProject project) {
+				// Report to listeners registered in the extension
+				if (localTempRepository == null) {
+					localTempRepository = mavenSession.getRequest().getLocalRepositoryPath();
+				}
+				if (localTempRepository != null) {
+					plugin.builtMavenProject(localTempRepository, project);
 				}
 			}
 
@@ -168,13 +353,17 @@ public class MavenProjectCache {
 				return Objects.hash(toURIKey(uri), source);
 			}
 
-			public LoadedMavenProject build(FileModelSource source, CancelChecker cancelChecker) {
+			public LoadedMavenProject build(FileModelSource source, boolean resolveDependencies,
+					CancelChecker cancelChecker) {
 				Collection<ModelProblem> problems = new ArrayList<>();
 				DependencyResolutionResult dependencyResolutionResult = null;
 				MavenProject project = null;
 				File file = source.getFile();
 				try {
-					ProjectBuildingRequest request = newProjectBuildingRequest(file, problems);
+					ProjectBuildingRequest request = newProjectBuildingRequest(resolveDependencies, file, problems);
+					if (repositorySession != null) {
+						request.setRepositorySession(newRepositorySession(repositorySession));
+					}
 
 					ProjectBuildingResult buildResult = projectBuilder.build(source, request);
 					cancelChecker.checkCanceled();
@@ -244,17 +433,35 @@ public class MavenProjectCache {
 					return null; // Nothing to be cached
 				}
 
-				if (project != null) {
-					// Report to listeners registered in the extension
-					if (localTempRepository == null) {
-						localTempRepository = mavenSession.getRequest().getLocalRepositoryPath();
-					}
-					if (localTempRepository != null) {
-						plugin.builtMavenProject(localTempRepository, project);
-					}
+				if (project != null && resolveDependencies) {
+					builtMavenProject(project);
 				}
 				
-				return new LoadedMavenProject(project, problems, dependencyResolutionResult);
+				return new LoadedMavenProject(project, problems, dependencyResolutionResult, resolveDependencies);
+			}
+		}
+
+		/**
+		 * Resolves the dependencies of a project which model has already been
+		 * published. Runs after the pending model builds.
+		 */
+		private static final class ResolveDependenciesRunnable implements Runnable {
+			private final BuildProjectRunnable buildRunnable;
+			private final LoadedMavenProject loadedProject;
+			private final MavenProject project;
+
+			private ResolveDependenciesRunnable(BuildProjectRunnable buildRunnable, LoadedMavenProject loadedProject,
+					MavenProject project) {
+				this.buildRunnable = buildRunnable;
+				this.loadedProject = loadedProject;
+				this.project = project;
+			}
+
+			@Override
+			public void run() {
+				if (!buildRunnable.resolvedFuture.isDone()) {
+					buildRunnable.resolveDependencies(loadedProject, project);
+				}
 			}
 		}
 
@@ -271,7 +478,12 @@ public class MavenProjectCache {
 				return;
 			}
 			try {
-				projectBuilder = getPlexusContainer().lookup(ProjectBuilder.class);
+				if (components == null) {
+					components = new MavenComponents(getPlexusContainer());
+				}
+				projectBuilder = components.getProjectBuilder();
+				dependenciesResolver = components.getProjectDependenciesResolver();
+				rawModelCache = new RawModelCache(components.getModelBuilder());
 				System.setProperty(DefaultProjectBuilder.DISABLE_GLOBAL_MODEL_CACHE_SYSTEM_PROPERTY,
 						Boolean.toString(true));
 			} catch (ComponentLookupException e) {
@@ -294,7 +506,9 @@ public class MavenProjectCache {
 
 		private static final Comparator<Runnable> PRIORITIZED_DEEPEST_FIRST = (o1, o2) -> {
 			if (!(o1 instanceof BuildProjectRunnable r1 && o2 instanceof BuildProjectRunnable r2)) {
-				return 0;
+				// Model builds run before dependency resolutions
+				return Boolean.compare(o1 instanceof ResolveDependenciesRunnable,
+						o2 instanceof ResolveDependenciesRunnable);
 			}
 			int result = Comparator.comparingInt(BuildProjectRunnable::getPriority)
 					.compare(r1, r2);
@@ -309,9 +523,21 @@ public class MavenProjectCache {
 		 * 
 		 * @param uri An URI String identifying the document ro be built
 		 * @param source A FIleModelSource for the document to be built
-		 * @return A CompletableFuture of LoadedMavenProject object
+		 * @return the futures of the LoadedMavenProject object, without and with
+		 *         its resolved dependencies
 		 */
-		public CompletableFuture<LoadedMavenProject> build(final String uri, final FileModelSource source) {
+		public ProjectBuild build(final String uri, final FileModelSource source) {
+			return build(uri, source, null);
+		}
+
+		/**
+		 * Builds the project of the given source with the given repository session
+		 * 
+		 * @param repositorySession the repository session, <code>null</code> for the
+		 *                          session of the extension
+		 */
+		public ProjectBuild build(final String uri, final FileModelSource source,
+				final RepositorySystemSession repositorySession) {
 			BuildProjectRunnable runnable = null;
 			Object key = runnableKey(toURIKey(uri), source);
 			synchronized (toProcess) {
@@ -321,13 +547,30 @@ public class MavenProjectCache {
 					// runnable priority to force build to be started earlier.
 					runnable.bumpPriority();
 				} else {
-					runnable = new BuildProjectRunnable(uri, source);
+					runnable = new BuildProjectRunnable(uri, source, repositorySession);
 					toProcess.put(key, runnable);
 					executor.execute(runnable);
-					runnable.future.whenComplete((ok, error) -> toProcess.remove(key));
+					runnable.future.whenComplete((ok, error) -> {
+						synchronized (toProcess) {
+							toProcess.remove(key);
+						}
+					});
 				}
 			}
-			return runnable.future;
+			return new ProjectBuild(runnable.future, runnable.resolvedFuture);
+		}
+
+		/**
+		 * Validates again the opened document of the given URI, once its
+		 * dependencies have been resolved
+		 * 
+		 * @param uri An URI String identifying the document
+		 */
+		void dependenciesResolved(String uri) {
+			DOMDocument document = documentProvider.getDocument(uri);
+			if (document != null && plugin.getValidationService() != null) {
+				plugin.getValidationService().validate(document);
+			}
 		}
 
 		/**
@@ -437,61 +680,27 @@ public class MavenProjectCache {
 			request.setRemoteRepositories(mavenRequest.getRemoteRepositories());
 			request.setPluginArtifactRepositories(mavenRequest.getPluginArtifactRepositories());
 			// TODO more to transfer from mavenRequest to ProjectBuildingRequest?
-			request.setRepositorySession(mavenSession.getRepositorySession());
+			request.setRepositorySession(newRepositorySession(mavenSession.getRepositorySession()));
 			request.setResolveDependencies(resolveDependencies);
 
 			// See: https://issues.apache.org/jira/browse/MRESOLVER-374
 			Properties userProperties = request.getUserProperties();
 			userProperties.setProperty("aether.syncContext.named.factory", "noop");
-			File multiModuleProjectDirectory = computeMultiModuleProjectDirectory(projectFile);
+			File multiModuleProjectDirectory = mavenConfigCache.getMultiModuleProjectDirectory(projectFile);
 			if (multiModuleProjectDirectory != null) {
-				File mavenConfig = new File(multiModuleProjectDirectory, MVN_FOLDER + "/" + MAVEN_CONFIG);
-				if (mavenConfig.isFile()) {
-					try {
-						CLIManager manager = new CLIManager();
-						String[] args;
-						try (Stream<String> lines = Files.lines(mavenConfig.toPath(), Charset.defaultCharset())) {
-							args = lines.filter(arg -> !arg.isEmpty()).toArray(String[]::new);
-						}
-						CommandLine commandline = manager.parse(args);
-						if (commandline.hasOption(CLIManager.SET_USER_PROPERTY)) {
-							String[] configUserProperties = commandline.getOptionValues(CLIManager.SET_USER_PROPERTY);
-							if (configUserProperties != null) {
-								for (String property : configUserProperties) {
-									int index = property.indexOf('=');
-									if (index <= 0) {
-										userProperties.setProperty(property.trim(), "true");
-									} else {
-										userProperties.setProperty(property.substring(0, index).trim(),
-												property.substring(index + 1).trim());
-									}
-								}
-							}
-						}
-						if (commandline.hasOption(CLIManager.ACTIVATE_PROFILES)) {
-							String[] profileOptionValues = commandline.getOptionValues(CLIManager.ACTIVATE_PROFILES);
-							if (profileOptionValues != null) {
-								for (String profileOptionValue : profileOptionValues) {
-									StringTokenizer tokenizer = new StringTokenizer(profileOptionValue, ",");
-									while (tokenizer.hasMoreTokens()) {
-										String profileToken = tokenizer.nextToken().trim();
-										if (profileToken.startsWith("-") || profileToken.startsWith("!")) {
-											request.getInactiveProfileIds().add(profileToken.substring(1));
-										} else if (profileToken.startsWith("+")) {
-											request.getActiveProfileIds().add(profileToken.substring(1));
-										} else {
-											request.getActiveProfileIds().add(profileToken);
-										}
-									}
-								}
-							}
-						}
-					} catch (IOException | ParseException e) {
+				File mavenConfigFile = new File(multiModuleProjectDirectory, MVN_FOLDER + "/" + MAVEN_CONFIG);
+				MavenConfigCache.MavenConfig mavenConfig = mavenConfigCache.getMavenConfig(mavenConfigFile);
+				if (mavenConfig != null) {
+					if (mavenConfig.error() != null) {
 						if (problemsCollector != null) {
-							problemsCollector.add(new DefaultModelProblem("Problem parsing " + mavenConfig,
+							problemsCollector.add(new DefaultModelProblem("Problem parsing " + mavenConfigFile,
 									ModelProblem.Severity.ERROR, null, null,
-									-1, -1, e));
+									-1, -1, mavenConfig.error()));
 						}
+					} else {
+						mavenConfig.userProperties().forEach(userProperties::setProperty);
+						request.getActiveProfileIds().addAll(mavenConfig.activeProfiles());
+						request.getInactiveProfileIds().addAll(mavenConfig.inactiveProfiles());
 					}
 				}
 			}
@@ -508,6 +717,41 @@ public class MavenProjectCache {
 		return mavenSession.getContainer();
 	}
 
+	/**
+	 * Returns the raw model (not interpolated, without inheritance) of the given
+	 * POM file. The models are cached by path and modification time and must
+	 * not be modified.
+	 * 
+	 * @param pomFile A POM file
+	 * @return Optional raw Model
+	 */
+	public Optional<Model> getRawModel(File pomFile) {
+		return rawModelCache != null ? rawModelCache.getRawModel(pomFile) : Optional.empty();
+	}
+
+	/**
+	 * Forces all the cached Maven Projects to be built again on their next access,
+	 * and validates again the opened documents. The pending builds are cancelled.
+	 * 
+	 * @param retryUnresolved true if the next builds should query the remote
+	 *                        repositories again for the artifacts which could not
+	 *                        be resolved
+	 */
+	public void reloadProjects(boolean retryUnresolved) {
+		// A single session for the reloaded projects, so that an artifact is
+		// queried once
+		RepositorySystemSession retrySession = retryUnresolved
+				? ResolutionFailureCache.newRetrySession(mavenSession.getRepositorySession())
+				: null;
+		projectCache.values().forEach(provider -> {
+			provider.invalidate(retrySession);
+			DOMDocument document = documentProvider.getDocument(provider.getUri());
+			if (document != null && plugin.getValidationService() != null) {
+				plugin.getValidationService().validate(document);
+			}
+		});
+	}
+
 	/**
 	 * Returns the list of built Maven Projects currently available in the 
 	 * Maven Project Cache
@@ -518,7 +762,7 @@ public class MavenProjectCache {
 		return projectCache.values().stream()
 				.map(LoadedMavenProjectProvider::getLoadedMavenProject)
 				.map(f -> f.getNow(null)).filter(Objects::nonNull)
-				.map(LoadedMavenProject::getMavenProject)
+				.map(LoadedMavenProject::getMavenProject).filter(Objects::nonNull)
 				.toList();
 	}
 
@@ -605,6 +849,52 @@ public class MavenProjectCache {
 		return null;
 	}
 
+	/**
+	 * Returns the last successfully parsed and cached Maven Project for the given
+	 * document, waiting at most the given time for the project to be loaded
+	 * 
+	 * @param document A given Document
+	 * @param timeout  the maximum time to wait
+	 * @param unit     the time unit of the timeout argument
+	 * @return the last MavenDocument that could be build for the more recent
+	 *         version of the provided document, or <code>null</code> if it
+	 *         couldn't be built in time.
+	 */
+	public MavenProject getLastSuccessfulMavenProject(DOMDocument document, long timeout, TimeUnit unit) {
+		CompletableFuture<LoadedMavenProject> project = getLoadedMavenProject(document);
+		try {
+			return project != null ? project.get(timeout, unit).getMavenProject() : null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			LOGGER.log(Level.SEVERE, e.getMessage(), e);
+		} catch (TimeoutException e) {
+			// The project is still loading
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the summary of the last successfully parsed and cached Maven Project
+	 * for the given document
+	 * 
+	 * @param document A given Document
+	 * @return the summary of the last Maven Project that could be build for the
+	 *         more recent version of the provided document. Can be
+	 *         <code>null</code>.
+	 */
+	public ProjectSummary getLastSuccessfulProjectSummary(DOMDocument document) {
+		CompletableFuture<LoadedMavenProject> project = getLoadedMavenProject(document);
+		try {
+			return project != null ? project.get().getSummary() : null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			LOGGER.log(Level.SEVERE, e.getMessage(), e);
+		}
+		return null;
+	}
+
 	/**
 	 * Returns a Completable Future of Loaded Maven Project for the given
 	 * file
@@ -641,16 +931,188 @@ public class MavenProjectCache {
 	public CompletableFuture<LoadedMavenProject> getLoadedMavenProject(String uriString) {
 		String uriKey = toURIKey(uriString);
 		LoadedMavenProjectProvider provider = projectCache.get(uriKey);
+		boolean added = false;
 		if (provider == null) {
-			synchronized (projectCache) {
-				provider = projectCache.get(uriKey);
-				if (provider == null) {
-					provider = new LoadedMavenProjectProvider(uriString, documentProvider, projectBuildManager);
-					projectCache.put(uriKey, provider);
+			LoadedMavenProjectProvider newProvider = new LoadedMavenProjectProvider(uriString, documentProvider,
+					projectBuildManager);
+			provider = projectCache.computeIfAbsent(uriKey, k -> newProvider);
+			added = provider == newProvider;
+		}
+		CompletableFuture<LoadedMavenProject> future = provider.getLoadedMavenProject();
+		if (!future.isDone()) {
+			future.thenAccept(loadedProject -> retain(uriKey, loadedProject));
+		} else if (!future.isCompletedExceptionally()) {
+			retain(uriKey, future.getNow(null));
+		}
+		scheduleEviction(
+				added && cacheSettings.getMaxProjects() > 0 && projectCache.size() > cacheSettings.getMaxProjects());
+		return future;
+	}
+
+	private void retain(String uriKey, LoadedMavenProject loadedProject) {
+		LoadedMavenProject.BuildState state = loadedProject != null ? loadedProject.getBuildState() : null;
+		if (state != null) {
+			retainedProjects.put(uriKey, state);
+		}
+	}
+
+	/**
+	 * Schedules the eviction on the build executor, so that the requests
+	 * accessing the cache don't wait for the open documents and workspace
+	 * projects lookups. At most one eviction is pending at a time.
+	 * 
+	 * @param force true if the check should run immediately
+	 */
+	private void scheduleEviction(boolean force) {
+		if (!force && System.currentTimeMillis() - lastEvictionCheck < EVICTION_CHECK_INTERVAL) {
+			return;
+		}
+		if (MavenLemminxExtension.isUnitTestMode()) {
+			evict(force);
+			return;
+		}
+		if (!evictionScheduled.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			projectBuildManager.executor.execute(() -> {
+				evictionScheduled.set(false);
+				evict(force);
+			});
+		} catch (RejectedExecutionException e) {
+			// The cache is stopped
+			evictionScheduled.set(false);
+		}
+	}
+
+	/**
+	 * Evicts the least recently accessed projects which are idle for too long or
+	 * exceed the maximum number of projects. While the used heap exceeds the heap
+	 * budget, a quarter of the evictable projects is evicted as well. The
+	 * projects of the opened documents and of the workspace modules are never
+	 * evicted.
+	 * 
+	 * Unless forced, the check runs at most once every
+	 * {@value #EVICTION_CHECK_INTERVAL} milliseconds.
+	 * 
+	 * @param force true if the check should run immediately
+	 */
+	private void evict(boolean force) {
+		long now = System.currentTimeMillis();
+		if (!force && now - lastEvictionCheck < EVICTION_CHECK_INTERVAL) {
+			return;
+		}
+		if (!evictionLock.tryLock()) {
+			// Another thread is already evicting
+			return;
+		}
+		try {
+			lastEvictionCheck = now;
+			// The projects of the workspace modules and of the opened documents,
+			// computed once per pass
+			Set<String> pinnedProjects = plugin.getCurrentWorkspaceProjectFiles().stream()
+					.map(URIUtils::toURIKey).collect(Collectors.toCollection(HashSet::new));
+			projectCache.forEach((uriKey, provider) -> {
+				if (!pinnedProjects.contains(uriKey) && documentProvider.getDocument(provider.getUri()) != null) {
+					pinnedProjects.add(uriKey);
+				}
+			});
+			// Snapshot the access times, as they keep changing while sorting
+			List<EvictionCandidate> candidates = projectCache.entrySet().stream()
+					.filter(e -> !pinnedProjects.contains(e.getKey()))
+					.map(e -> new EvictionCandidate(e.getKey(), e.getValue(), e.getValue().getLastAccessTime()))
+					.sorted(Comparator.comparingLong(EvictionCandidate::lastAccessTime))
+					.collect(Collectors.toList());
+			int toEvict = 0;
+			if (cacheSettings.getIdleTimeout() > 0) {
+				long idleSince = now - TimeUnit.MINUTES.toMillis(cacheSettings.getIdleTimeout());
+				toEvict = (int) candidates.stream().takeWhile(c -> c.lastAccessTime() < idleSince).count();
+			}
+			if (cacheSettings.getMaxProjects() > 0) {
+				toEvict = Math.max(toEvict, projectCache.size() - cacheSettings.getMaxProjects());
+			}
+			if (cacheSettings.getHeapBudget() > 0) {
+				Runtime runtime = Runtime.getRuntime();
+				long usedHeap = runtime.totalMemory() - runtime.freeMemory();
+				if (usedHeap > cacheSettings.getHeapBudget() * 1024L * 1024L) {
+					toEvict = Math.max(toEvict, Math.max(1, candidates.size() / 4));
 				}
 			}
+			toEvict = Math.min(toEvict, candidates.size());
+			int evicted = 0;
+			for (EvictionCandidate candidate : candidates.subList(0, toEvict)) {
+				// Only remove the provider if it hasn't been replaced meanwhile
+				if (projectCache.remove(candidate.uriKey(), candidate.provider())) {
+					retainedProjects.invalidate(candidate.uriKey());
+					evicted++;
+				}
+			}
+			if (evicted > 0) {
+				evictionCount.addAndGet(evicted);
+				LOGGER.log(Level.FINE, "Evicted {0} project(s) from the Maven project cache, {1} remaining",
+						new Object[] { evicted, projectCache.size() });
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private record EvictionCandidate(String uriKey, LoadedMavenProjectProvider provider, long lastAccessTime) {
+	}
+
+	@Override
+	public int getSize() {
+		return projectCache.size();
+	}
+
+	@Override
+	public long getRetainedSize() {
+		return retainedProjects.size();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	@Override
+	public int getMaxProjects() {
+		return cacheSettings.getMaxProjects();
+	}
+
+	@Override
+	public int getHeapBudget() {
+		return cacheSettings.getHeapBudget();
+	}
+
+	@Override
+	public int getIdleTimeout() {
+		return cacheSettings.getIdleTimeout();
+	}
+
+	private void registerMBean() {
+		if (mbeanName != null) {
+			return;
+		}
+		try {
+			ObjectName name = new ObjectName(MBEAN_NAME + Integer.toHexString(System.identityHashCode(this)));
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+			mbeanName = name;
+		} catch (JMException | SecurityException e) {
+			LOGGER.log(Level.FINE, e.getMessage(), e);
+		}
+	}
+
+	private void unregisterMBean() {
+		if (mbeanName == null) {
+			return;
+		}
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(mbeanName);
+		} catch (JMException | SecurityException e) {
+			LOGGER.log(Level.FINE, e.getMessage(), e);
 		}
-		return provider.getLoadedMavenProject();
+		mbeanName = null;
 	}
 
 	/**
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+/**
+ * Management view of the {@link MavenProjectCache}, registered in the platform
+ * MBean server while the cache is started.
+ */
+public interface MavenProjectCacheMXBean {
+
+	/**
+	 * Returns the number of cached projects
+	 */
+	int getSize();
+
+	/**
+	 * Returns the number of projects whose build results are strongly retained
+	 */
+	long getRetainedSize();
+
+	/**
+	 * Returns the number of projects evicted since the cache creation
+	 */
+	long getEvictionCount();
+
+	/**
+	 * Returns the maximum number of cached projects, 0 or less means unlimited
+	 */
+	int getMaxProjects();
+
+	/**
+	 * Returns the heap budget in megabytes, 0 or less means unlimited
+	 */
+	int getHeapBudget();
+
+	/**
+	 * Returns the idle time in minutes after which a project is evicted, 0 or
+	 * less means never
+	 */
+	int getIdleTimeout();
+}
@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import static org.eclipse.lemminx.extensions.maven.DOMConstants.ARTIFACT_ID_ELT;
+import static org.eclipse.lemminx.extensions.maven.DOMConstants.DEPENDENCY_ELT;
+import static org.eclipse.lemminx.extensions.maven.DOMConstants.GROUP_ID_ELT;
+import static org.eclipse.lemminx.extensions.maven.DOMConstants.PLUGIN_ELT;
+import static org.eclipse.lemminx.extensions.maven.DOMConstants.VERSION_ELT;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.dom.DOMText;
+import org.eclipse.lemminx.extensions.maven.searcher.VersionCatalog;
+import org.eclipse.lemminx.extensions.maven.utils.DOMUtils;
+import org.eclipse.lemminx.utils.XMLPositionUtility;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Finds the dependency and plugin versions declared in the POM files which are
+ * older than the newest release known in the local repositories and in the
+ * results of the central repository search (see {@link VersionCatalog}).
+ *
+ * Only the literal versions are reported: a version set with a property
+ * expression or a version range is ignored. The workspace report analyzes the
+ * modules in parallel on background threads, and the result of a module is
+ * reused as long as neither its document nor the catalog changed.
+ */
+public class OutdatedVersionReport {
+
+	private static final String DEFAULT_PLUGIN_GROUP_ID = "org.apache.maven.plugins"; //$NON-NLS-1$
+
+	// The catalog is built again at most once per minute
+	private static final long CATALOG_TIMEOUT = TimeUnit.MINUTES.toMillis(1);
+
+	/**
+	 * A declared version older than the newest known version
+	 *
+	 * @param uri           the URI of the POM file
+	 * @param range         the range of the version value
+	 * @param groupId       the group id of the dependency or plugin
+	 * @param artifactId    the artifact id of the dependency or plugin
+	 * @param version       the declared version
+	 * @param newestVersion the newest known version
+	 * @param plugin        true for a plugin, false for a dependency
+	 */
+	public record OutdatedVersion(String uri, Range range, String groupId, String artifactId, String version,
+			String newestVersion, boolean plugin) {
+	}
+
+	private record ModuleReport(DOMDocument document, VersionCatalog catalog, List<OutdatedVersion> versions) {
+	}
+
+	private final Supplier<CompletableFuture<Collection<Artifact>>> localArtifacts;
+	private final Supplier<Map<String, ArtifactVersion>> remoteVersions;
+	private final PomDocumentCache documentCache;
+	private final Supplier<List<File>> workspaceProjectFiles;
+	private final ThreadPoolExecutor executor;
+	private final Map<File, ModuleReport> moduleReports = new ConcurrentHashMap<>();
+
+	private final long catalogTimeout;
+
+	private CompletableFuture<VersionCatalog> catalog;
+	private long catalogTime;
+	// The last built catalog, used while the catalog is built again
+	private VersionCatalog completedCatalog;
+	// Incremented when cleared, to ignore the catalogs built meanwhile
+	private int clearCount;
+
+	/**
+	 * @param localArtifacts        the last version of the local artifacts,
+	 *                              completed once the local repositories are
+	 *                              scanned
+	 * @param remoteVersions        the newest versions found by the central
+	 *                              repository search
+	 * @param documentCache         the cache of the POM documents
+	 * @param workspaceProjectFiles the POM files of the workspace projects
+	 */
+	public OutdatedVersionReport(Supplier<CompletableFuture<Collection<Artifact>>> localArtifacts,
+			Supplier<Map<String, ArtifactVersion>> remoteVersions, PomDocumentCache documentCache,
+			Supplier<List<File>> workspaceProjectFiles) {
+		this(localArtifacts, remoteVersions, documentCache, workspaceProjectFiles, CATALOG_TIMEOUT);
+	}
+
+	OutdatedVersionReport(Supplier<CompletableFuture<Collection<Artifact>>> localArtifacts,
+			Supplier<Map<String, ArtifactVersion>> remoteVersions, PomDocumentCache documentCache,
+			Supplier<List<File>> workspaceProjectFiles, long catalogTimeout) {
+		this.catalogTimeout = catalogTimeout;
+		this.localArtifacts = localArtifacts;
+		this.remoteVersions = remoteVersions;
+		this.documentCache = documentCache;
+		this.workspaceProjectFiles = workspaceProjectFiles;
+		int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+		this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				runnable -> {
+					Thread thread = new Thread(runnable, "Maven outdated versions");
+					thread.setDaemon(true);
+					return thread;
+				});
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Returns the version catalog, built in background from the searcher
+	 * indexes when it's older than one minute. The catalog is only built once
+	 * the local repositories are scanned, otherwise the artifacts not scanned yet
+	 * would be missing from it. While it's built again, the previous catalog is
+	 * returned: the returned future is only pending until the first catalog is
+	 * built.
+	 *
+	 * @return the version catalog
+	 */
+	public synchronized CompletableFuture<VersionCatalog> getCatalog() {
+		long now = System.currentTimeMillis();
+		if (catalog == null || catalog.isCompletedExceptionally()
+				|| (catalog.isDone() && now - catalogTime > catalogTimeout)) {
+			CompletableFuture<VersionCatalog> newCatalog = localArtifacts.get().thenApplyAsync(
+					artifacts -> VersionCatalog.of(artifacts, remoteVersions.get()), executor);
+			int count = clearCount;
+			newCatalog.thenAccept(versionCatalog -> {
+				synchronized (this) {
+					if (count == clearCount) {
+						completedCatalog = versionCatalog;
+					}
+				}
+			});
+			catalog = newCatalog;
+			catalogTime = now;
+		}
+		if (completedCatalog != null && (!catalog.isDone() || catalog.isCompletedExceptionally())) {
+			return CompletableFuture.completedFuture(completedCatalog);
+		}
+		return catalog;
+	}
+
+	/**
+	 * Returns the outdated versions of all the workspace projects, computed in
+	 * parallel per module
+	 *
+	 * @param cancelChecker the cancel checker
+	 * @return the outdated versions, sorted by POM file
+	 */
+	public CompletableFuture<List<OutdatedVersion>> computeWorkspaceReport(CancelChecker cancelChecker) {
+		return getCatalog().thenCompose(versionCatalog -> {
+			List<CompletableFuture<List<OutdatedVersion>>> modules = workspaceProjectFiles.get().stream()
+					.map(file -> CompletableFuture.supplyAsync(() -> analyzeModule(file, versionCatalog, cancelChecker),
+							executor))
+					.toList();
+			return CompletableFuture.allOf(modules.toArray(CompletableFuture[]::new))
+					.thenApply(unused -> modules.stream().flatMap(module -> module.join().stream())
+							.sorted(Comparator.comparing(OutdatedVersion::uri)).toList());
+		});
+	}
+
+	private List<OutdatedVersion> analyzeModule(File file, VersionCatalog versionCatalog, CancelChecker cancelChecker) {
+		cancelChecker.checkCanceled();
+		DOMDocument document = documentCache.getDocument(file);
+		if (document == null) {
+			moduleReports.remove(file);
+			return List.of();
+		}
+		ModuleReport report = moduleReports.get(file);
+		if (report == null || report.document() != document || report.catalog() != versionCatalog) {
+			report = new ModuleReport(document, versionCatalog, analyze(document, versionCatalog, cancelChecker));
+			moduleReports.put(file, report);
+		}
+		return report.versions();
+	}
+
+	/**
+	 * Returns the outdated dependency and plugin versions of the given document
+	 *
+	 * @param document       a POM document
+	 * @param versionCatalog the version catalog
+	 * @param cancelChecker  the cancel checker
+	 * @return the outdated versions, in the document order
+	 */
+	public static List<OutdatedVersion> analyze(DOMDocument document, VersionCatalog versionCatalog,
+			CancelChecker cancelChecker) {
+		List<OutdatedVersion> result = new ArrayList<>();
+		for (DOMNode node : DOMUtils.findNodesByLocalName(document, VERSION_ELT)) {
+			cancelChecker.checkCanceled();
+			DOMElement parent = node.getParentElement();
+			if (!(node instanceof DOMElement version) || parent == null) {
+				continue;
+			}
+			boolean plugin = PLUGIN_ELT.equals(parent.getLocalName());
+			if (!plugin && !DEPENDENCY_ELT.equals(parent.getLocalName())) {
+				continue;
+			}
+			List<DOMText> texts = DOMUtils.findElementTextChildren(version);
+			if (texts.size() != 1) {
+				continue;
+			}
+			DOMText text = texts.get(0);
+			String value = text.getData().trim();
+			if (value.isEmpty() || value.contains("${") || value.startsWith("[") || value.startsWith("(")) {
+				continue;
+			}
+			String groupId = DOMUtils.findChildElementText(parent, GROUP_ID_ELT).map(String::trim)
+					.orElse(plugin ? DEFAULT_PLUGIN_GROUP_ID : null);
+			String artifactId = DOMUtils.findChildElementText(parent, ARTIFACT_ID_ELT).map(String::trim).orElse(null);
+			if (groupId == null || artifactId == null) {
+				continue;
+			}
+			ArtifactVersion newestVersion = versionCatalog.getNewerVersion(groupId, artifactId, value);
+			if (newestVersion != null) {
+				int start = text.getStart() + text.getData().indexOf(value);
+				result.add(new OutdatedVersion(document.getDocumentURI(),
+						XMLPositionUtility.createRange(start, start + value.length(), document), groupId, artifactId,
+						value, newestVersion.toString(), plugin));
+			}
+		}
+		// The nodes are not found in the document order
+		result.sort(Comparator.comparing((OutdatedVersion outdatedVersion) -> outdatedVersion.range().getStart().getLine())
+				.thenComparing(outdatedVersion -> outdatedVersion.range().getStart().getCharacter()));
+		return result;
+	}
+
+	public void clear() {
+		moduleReports.clear();
+		synchronized (this) {
+			catalog = null;
+			completedCatalog = null;
+			clearCount++;
+		}
+	}
+
+	public void stop() {
+		executor.shutdownNow();
+		clear();
+	}
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import org.apache.maven.model.InputLocation;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.lemminx.extensions.maven.ArtifactResolutionService.Priority;
+import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
+import org.eclipse.lemminx.extensions.maven.utils.MavenPluginUtils;
+
+/**
+ * Resolves in background, once a project is built, the descriptors of the
+ * plugins declared in its POM files (build plugins and managed plugins), so
+ * that the validation and the completion of the plugin configurations read
+ * them from the plugin descriptor cache of Maven instead of resolving them one
+ * at a time.
+ */
+public class PluginDescriptorPrefetcher implements IMavenProjectBuildListener {
+
+	private static final Logger LOGGER = Logger.getLogger(PluginDescriptorPrefetcher.class.getName());
+
+	private static final int MAX_THREADS = 4;
+
+	private final MavenLemminxExtension plugin;
+	private final Set<String> prefetched = ConcurrentHashMap.newKeySet();
+	private final Executor executor;
+
+	public PluginDescriptorPrefetcher(MavenLemminxExtension plugin) {
+		this(plugin, createExecutor());
+	}
+
+	PluginDescriptorPrefetcher(MavenLemminxExtension plugin, Executor executor) {
+		this.plugin = plugin;
+		this.executor = executor;
+	}
+
+	private static ExecutorService createExecutor() {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, "Maven plugin descriptor prefetch");
+					thread.setDaemon(true);
+					return thread;
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	@Override
+	public void builtMavenProject(File repository, MavenProject mavenProject) {
+		Map<String, Plugin> plugins = new LinkedHashMap<>();
+		Stream.concat(mavenProject.getBuildPlugins().stream(),
+				mavenProject.getPluginManagement() != null
+						? mavenProject.getPluginManagement().getPlugins().stream()
+						: Stream.empty())
+				.filter(PluginDescriptorPrefetcher::isDeclaredInPom)
+				.forEach(p -> plugins.putIfAbsent(p.getKey() + ':' + p.getVersion(), p));
+		plugins.forEach((key, p) -> {
+			if (!prefetched.add(key)) {
+				return;
+			}
+			try {
+				executor.execute(() -> prefetch(p, mavenProject, key));
+			} catch (RejectedExecutionException e) {
+				// The prefetcher is stopped
+				prefetched.remove(key);
+			}
+		});
+	}
+
+	private void prefetch(Plugin p, MavenProject mavenProject, String key) {
+		try {
+			// The plugins missing from the local repository are downloaded after the ones
+			// requested by the hover and the definition
+			MavenPluginUtils.getPluginDescriptor(p, mavenProject, plugin, Priority.BACKGROUND);
+		} catch (Exception e) {
+			// The failure is reported when the plugin is validated, and is remembered by
+			// the resolution failure cache
+			LOGGER.log(Level.FINE, e.getMessage(), e);
+			prefetched.remove(key);
+		}
+	}
+
+	/**
+	 * Returns true if the plugin has a version and is declared in a POM file,
+	 * the plugins bound by default to the lifecycle are not prefetched.
+	 */
+	private static boolean isDeclaredInPom(Plugin p) {
+		InputLocation location = p.getLocation("artifactId");
+		return p.getVersion() != null && location != null && location.getSource() != null
+				&& location.getSource().getLocation() != null;
+	}
+
+	/**
+	 * Stops the pending prefetches
+	 */
+	public void stop() {
+		if (executor instanceof ExecutorService executorService) {
+			executorService.shutdownNow();
+		}
+		prefetched.clear();
+	}
+}
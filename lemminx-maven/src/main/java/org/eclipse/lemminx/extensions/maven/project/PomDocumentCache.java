@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import java.io.File;
+
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
+import org.eclipse.lemminx.extensions.maven.settings.XMLMavenProjectCacheSettings;
+import org.eclipse.lemminx.services.IXMLDocumentProvider;
+import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Cache of the parsed {@link DOMDocument}s of the POM files which are not
+ * opened in the editor, such as the parent POMs read by the participants.
+ *
+ * Entries are validated against the last modification time and size of the
+ * POM file, so a modified POM file is parsed again, and the cache is bounded by
+ * the estimated heap size of the cached documents (see
+ * {@link XMLMavenProjectCacheSettings#getPomDocumentBudget()}). The cached
+ * documents are shared and must not be modified.
+ */
+public class PomDocumentCache {
+
+	// Estimated heap size of a DOM node with its offsets, name and child list
+	private static final int NODE_SIZE = 160;
+
+	private record Entry(long lastModified, long length, DOMDocument document, int weight) {
+	}
+
+	private final IXMLDocumentProvider documentProvider;
+	private final URIResolverExtensionManager resolverExtensionManager;
+	private final Cache<String, Entry> documents;
+
+	public PomDocumentCache(IXMLDocumentProvider documentProvider,
+			URIResolverExtensionManager resolverExtensionManager) {
+		this(documentProvider, resolverExtensionManager,
+				new XMLMavenProjectCacheSettings().getPomDocumentBudget() * 1024L * 1024);
+	}
+
+	/**
+	 * @param documentProvider         the provider of the opened documents
+	 * @param resolverExtensionManager the resolver extension manager
+	 * @param maxBytes                 the estimated heap size of the cached
+	 *                                 documents, 0 or less means unlimited
+	 */
+	public PomDocumentCache(IXMLDocumentProvider documentProvider,
+			URIResolverExtensionManager resolverExtensionManager, long maxBytes) {
+		this.documentProvider = documentProvider;
+		this.resolverExtensionManager = resolverExtensionManager;
+		CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder();
+		this.documents = maxBytes > 0
+				? builder.maximumWeight(maxBytes).<String, Entry>weigher((path, entry) -> entry.weight()).build()
+				: builder.build();
+	}
+
+	/**
+	 * Returns the document of the given POM file: the opened document if the
+	 * file is opened in the editor, the cached document otherwise.
+	 *
+	 * @param pomFile a POM file
+	 * @return the document, or <code>null</code> if the file doesn't exist or
+	 *         cannot be read
+	 */
+	public DOMDocument getDocument(File pomFile) {
+		if (pomFile == null) {
+			return null;
+		}
+		DOMDocument document = documentProvider != null
+				? documentProvider.getDocument(MavenLemminxExtension.toUriASCIIString(pomFile))
+				: null;
+		if (document != null) {
+			return document;
+		}
+		String path = pomFile.getAbsolutePath();
+		if (!pomFile.isFile()) {
+			documents.invalidate(path);
+			return null;
+		}
+		long lastModified = pomFile.lastModified();
+		long length = pomFile.length();
+		Entry entry = documents.getIfPresent(path);
+		if (entry == null || entry.lastModified() != lastModified || entry.length() != length) {
+			document = org.eclipse.lemminx.utils.DOMUtils.loadDocument(pomFile.toURI().toString(),
+					resolverExtensionManager);
+			if (document == null) {
+				documents.invalidate(path);
+				return null;
+			}
+			entry = new Entry(lastModified, length, document, weigh(document));
+			documents.put(path, entry);
+		}
+		return entry.document();
+	}
+
+	/**
+	 * Returns the estimated heap size of the given document: the text and the
+	 * DOM tree, which is usually several times larger than the text
+	 */
+	static int weigh(DOMDocument document) {
+		long weight = 2L * document.getTextDocument().getText().length() + NODE_SIZE * countNodes(document);
+		return (int) Math.min(weight, Integer.MAX_VALUE);
+	}
+
+	private static long countNodes(DOMNode node) {
+		long count = 1;
+		if (node.hasAttributes()) {
+			count += node.getAttributeNodes().size();
+		}
+		for (DOMNode child : node.getChildren()) {
+			count += countNodes(child);
+		}
+		return count;
+	}
+
+	public long size() {
+		return documents.size();
+	}
+
+	public void clear() {
+		documents.invalidateAll();
+	}
+}
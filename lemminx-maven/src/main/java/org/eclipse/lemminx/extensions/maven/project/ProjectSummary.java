@@ -0,0 +1,333 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.model.InputLocation;
+import org.apache.maven.model.InputLocationTracker;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginManagement;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuildingRequest;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * A compact and immutable projection of a {@link MavenProject}, holding the
+ * information most participants need (coordinates, properties, managed
+ * dependencies and plugins with their declaration locations, modules and
+ * parent chain) without the resolved artifacts, dependency graph and models
+ * of the full project.
+ *
+ * The summaries of the parent projects and the snapshots of the request
+ * properties are shared between the summaries of the projects built with the
+ * same parent POM files and request properties.
+ */
+public final class ProjectSummary {
+
+	// Summaries of the parent projects by POM file, modification time and GAV,
+	// kept as long as a summary references them
+	private static final Cache<String, ProjectSummary> PARENT_SUMMARIES = CacheBuilder.newBuilder().weakValues()
+			.build();
+
+	// Snapshots of the request properties, one per session and maven.config in
+	// practice
+	private static final Cache<Properties, Map<String, String>> REQUEST_PROPERTIES = CacheBuilder.newBuilder()
+			.maximumSize(16).build();
+
+	/**
+	 * The location of an element in a POM file
+	 *
+	 * @param modelId the model id (groupId:artifactId:version) of the POM
+	 * @param file    the POM file path, can be <code>null</code>
+	 * @param line    the line number (1-based) or -1
+	 * @param column  the column number (1-based) or -1
+	 */
+	public record SourceLocation(String modelId, String file, int line, int column) {
+
+		static SourceLocation of(InputLocationTracker tracker, String field) {
+			InputLocation location = tracker != null ? tracker.getLocation(field) : null;
+			if (location == null) {
+				return null;
+			}
+			String modelId = location.getSource() != null ? location.getSource().getModelId() : null;
+			String file = location.getSource() != null ? location.getSource().getLocation() : null;
+			return new SourceLocation(modelId, file, location.getLineNumber(), location.getColumnNumber());
+		}
+	}
+
+	/**
+	 * The coordinates of a managed dependency or plugin
+	 *
+	 * @param groupId    the group id
+	 * @param artifactId the artifact id
+	 * @param version    the managed version, can be <code>null</code>
+	 * @param scope      the managed scope, <code>null</code> for plugins
+	 * @param location   the location of the artifactId element declaring it
+	 */
+	public record ManagedArtifact(String groupId, String artifactId, String version, String scope,
+			SourceLocation location) {
+	}
+
+	private final String groupId;
+	private final String artifactId;
+	private final String version;
+	private final String packaging;
+	private final String name;
+	private final File file;
+	private final File basedir;
+	private final Map<String, String> properties;
+	private final Map<String, String> buildProperties;
+	private final Map<String, String> userProperties;
+	private final Map<String, String> systemProperties;
+	private final List<ManagedArtifact> managedDependencies;
+	private final List<ManagedArtifact> managedPlugins;
+	private final List<String> modules;
+	private final ProjectSummary parent;
+	private volatile EffectiveProperties effectiveProperties;
+
+	private ProjectSummary(MavenProject project, ProjectSummary parent, Map<String, String> userProperties,
+			Map<String, String> systemProperties) {
+		this.groupId = project.getGroupId();
+		this.artifactId = project.getArtifactId();
+		this.version = project.getVersion();
+		this.packaging = project.getPackaging();
+		this.name = project.getName();
+		this.file = project.getFile();
+		this.basedir = project.getBasedir();
+		this.properties = toMap(project.getProperties());
+		Map<String, String> build = new LinkedHashMap<>();
+		Build projectBuild = project.getBuild();
+		if (projectBuild != null) {
+			putIfNotNull(build, "project.build.directory", projectBuild.getDirectory());
+			putIfNotNull(build, "project.build.outputDirectory", projectBuild.getOutputDirectory());
+			putIfNotNull(build, "project.build.testOutputDirectory", projectBuild.getTestOutputDirectory());
+		}
+		this.buildProperties = Collections.unmodifiableMap(build);
+		this.userProperties = userProperties;
+		this.systemProperties = systemProperties;
+		DependencyManagement dependencyManagement = project.getDependencyManagement();
+		this.managedDependencies = dependencyManagement == null ? List.of()
+				: dependencyManagement.getDependencies().stream().map(ProjectSummary::toManagedArtifact).toList();
+		PluginManagement pluginManagement = project.getPluginManagement();
+		this.managedPlugins = pluginManagement == null ? List.of()
+				: pluginManagement.getPlugins().stream().map(ProjectSummary::toManagedArtifact).toList();
+		this.modules = project.getModules() == null ? List.of() : List.copyOf(project.getModules());
+		this.parent = parent;
+	}
+
+	/**
+	 * Creates the summary of the given project and of its parents
+	 *
+	 * @param project a Maven project
+	 * @return the summary, or <code>null</code> if the project is
+	 *         <code>null</code>
+	 */
+	public static ProjectSummary of(MavenProject project) {
+		if (project == null) {
+			return null;
+		}
+		ProjectBuildingRequest request = project.getProjectBuildingRequest();
+		Map<String, String> userProperties = getRequestProperties(request, true);
+		Map<String, String> systemProperties = getRequestProperties(request, false);
+		return new ProjectSummary(project, getParentSummary(project.getParent()), userProperties, systemProperties);
+	}
+
+	/**
+	 * Returns the summary of the given parent project, reusing the summary
+	 * created for another child when the parent POM file didn't change
+	 */
+	private static ProjectSummary getParentSummary(MavenProject project) {
+		if (project == null) {
+			return null;
+		}
+		ProjectSummary parent = getParentSummary(project.getParent());
+		ProjectBuildingRequest request = project.getProjectBuildingRequest();
+		Map<String, String> userProperties = getRequestProperties(request, true);
+		Map<String, String> systemProperties = getRequestProperties(request, false);
+		File file = project.getFile();
+		if (file == null) {
+			return new ProjectSummary(project, parent, userProperties, systemProperties);
+		}
+		String key = file.getAbsolutePath() + '@' + file.lastModified() + '#' + project.getGroupId() + ':'
+				+ project.getArtifactId() + ':' + project.getVersion();
+		ProjectSummary summary = PARENT_SUMMARIES.getIfPresent(key);
+		// The properties also depend on the active profiles
+		if (summary == null || summary.parent != parent || summary.userProperties != userProperties
+				|| summary.systemProperties != systemProperties
+				|| !sameProperties(summary.properties, project.getProperties())) {
+			summary = new ProjectSummary(project, parent, userProperties, systemProperties);
+			PARENT_SUMMARIES.put(key, summary);
+		}
+		return summary;
+	}
+
+	private static Map<String, String> getRequestProperties(ProjectBuildingRequest request, boolean user) {
+		Properties properties = request == null ? null
+				: user ? request.getUserProperties() : request.getSystemProperties();
+		if (properties == null || properties.isEmpty()) {
+			return Map.of();
+		}
+		Map<String, String> snapshot = REQUEST_PROPERTIES.getIfPresent(properties);
+		if (snapshot == null) {
+			snapshot = toMap(properties);
+			REQUEST_PROPERTIES.put((Properties) properties.clone(), snapshot);
+		}
+		return snapshot;
+	}
+
+	private static boolean sameProperties(Map<String, String> map, Properties properties) {
+		if (properties == null) {
+			return map.isEmpty();
+		}
+		if (map.size() != properties.size()) {
+			return false;
+		}
+		for (Map.Entry<Object, Object> entry : properties.entrySet()) {
+			if (!(entry.getKey() instanceof String key) || !map.containsKey(key)
+					|| !map.get(key).equals(entry.getValue())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static ManagedArtifact toManagedArtifact(Dependency dependency) {
+		return new ManagedArtifact(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion(),
+				dependency.getScope(), SourceLocation.of(dependency, "artifactId"));
+	}
+
+	private static ManagedArtifact toManagedArtifact(Plugin plugin) {
+		return new ManagedArtifact(plugin.getGroupId(), plugin.getArtifactId(), plugin.getVersion(), null,
+				SourceLocation.of(plugin, "artifactId"));
+	}
+
+	private static Map<String, String> toMap(Properties properties) {
+		if (properties == null || properties.isEmpty()) {
+			return Map.of();
+		}
+		Map<String, String> map = new LinkedHashMap<>();
+		properties.stringPropertyNames().forEach(name -> map.put(name, properties.getProperty(name)));
+		return Collections.unmodifiableMap(map);
+	}
+
+	private static void putIfNotNull(Map<String, String> map, String key, String value) {
+		if (value != null) {
+			map.put(key, value);
+		}
+	}
+
+	public String getGroupId() {
+		return groupId;
+	}
+
+	public String getArtifactId() {
+		return artifactId;
+	}
+
+	public String getVersion() {
+		return version;
+	}
+
+	public String getPackaging() {
+		return packaging;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the POM file of the project, can be <code>null</code>
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	public File getBasedir() {
+		return basedir;
+	}
+
+	/**
+	 * Returns the (inherited and interpolated) properties of the project model
+	 */
+	public Map<String, String> getProperties() {
+		return properties;
+	}
+
+	/**
+	 * Returns the build directories of the project, keyed by their
+	 * <code>project.build.*</code> expression
+	 */
+	public Map<String, String> getBuildProperties() {
+		return buildProperties;
+	}
+
+	/**
+	 * Returns the user properties of the request the project was built with
+	 */
+	public Map<String, String> getUserProperties() {
+		return userProperties;
+	}
+
+	/**
+	 * Returns the system properties of the request the project was built with
+	 */
+	public Map<String, String> getSystemProperties() {
+		return systemProperties;
+	}
+
+	public List<ManagedArtifact> getManagedDependencies() {
+		return managedDependencies;
+	}
+
+	public List<ManagedArtifact> getManagedPlugins() {
+		return managedPlugins;
+	}
+
+	public List<String> getModules() {
+		return modules;
+	}
+
+	/**
+	 * Returns the summary of the parent project, can be <code>null</code>
+	 */
+	public ProjectSummary getParent() {
+		return parent;
+	}
+
+	/**
+	 * Returns the effective properties of the project, computed on the first call
+	 */
+	public EffectiveProperties getEffectiveProperties() {
+		EffectiveProperties properties = effectiveProperties;
+		if (properties == null) {
+			properties = EffectiveProperties.create(this);
+			effectiveProperties = properties;
+		}
+		return properties;
+	}
+
+	/**
+	 * Returns the GAV key of the project
+	 */
+	public String getKey() {
+		return groupId + ':' + artifactId + ':' + version;
+	}
+}
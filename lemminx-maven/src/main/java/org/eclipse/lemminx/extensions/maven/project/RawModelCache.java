@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import java.io.File;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.model.building.ModelBuilder;
+import org.apache.maven.model.building.ModelBuildingRequest;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * LRU cache of the raw (not interpolated, not inherited) {@link Model}s read
+ * from POM files, such as the artifact POMs of the local repository.
+ *
+ * Entries are keyed by the POM path, last modification time and size, so a
+ * modified POM file is read again. The cached models are shared and must not
+ * be modified.
+ */
+class RawModelCache {
+
+	private static final Logger LOGGER = Logger.getLogger(RawModelCache.class.getName());
+
+	private static final int MAX_MODELS = 500;
+
+	private record Key(String path, long lastModified, long length) {
+	}
+
+	private final ModelBuilder modelBuilder;
+	private final Cache<Key, Model> models = CacheBuilder.newBuilder().maximumSize(MAX_MODELS).build();
+
+	RawModelCache(ModelBuilder modelBuilder) {
+		this.modelBuilder = modelBuilder;
+	}
+
+	/**
+	 * Returns the raw model read from the given POM file.
+	 *
+	 * @param pomFile a POM file
+	 * @return the raw model, or an empty optional if the file doesn't exist or
+	 *         cannot be read
+	 */
+	Optional<Model> getRawModel(File pomFile) {
+		if (pomFile == null || !pomFile.isFile()) {
+			return Optional.empty();
+		}
+		Key key = new Key(pomFile.getAbsolutePath(), pomFile.lastModified(), pomFile.length());
+		Model model = models.getIfPresent(key);
+		if (model == null) {
+			try {
+				model = modelBuilder.buildRawModel(pomFile, ModelBuildingRequest.VALIDATION_LEVEL_MINIMAL, true).get();
+			} catch (Exception e) {
+				LOGGER.log(Level.FINE, e.getMessage(), e);
+			}
+			if (model != null) {
+				models.put(key, model);
+			}
+		}
+		return Optional.ofNullable(model);
+	}
+
+	void clear() {
+		models.invalidateAll();
+	}
+}
@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.lemminx.extensions.maven.project.ProjectSummary.SourceLocation;
+
+/**
+ * Reverse index of the workspace projects: maps the groupId:artifactId of the
+ * dependencies, managed dependencies and plugins to the projects using them and
+ * to the location of the POM elements declaring them.
+ *
+ * The index is updated incrementally, the entries of a project being replaced
+ * each time the project is built.
+ */
+public class WorkspaceDependencyIndex implements IMavenProjectBuildListener {
+
+	/**
+	 * The kind of a reference
+	 */
+	public enum Kind {
+		DEPENDENCY, MANAGED_DEPENDENCY, PLUGIN, MANAGED_PLUGIN
+	}
+
+	/**
+	 * A reference to an artifact from a project
+	 *
+	 * @param kind       the kind of reference
+	 * @param groupId    the group id of the artifact
+	 * @param artifactId the artifact id of the artifact
+	 * @param version    the (interpolated) version of the artifact, can be
+	 *                   <code>null</code>
+	 * @param projectKey the GAV key of the project using the artifact
+	 * @param pomFile    the POM file of the project using the artifact
+	 * @param location   the location of the artifactId element declaring the
+	 *                   artifact, possibly in a parent POM, can be
+	 *                   <code>null</code>
+	 */
+	public record Reference(Kind kind, String groupId, String artifactId, String version, String projectKey,
+			File pomFile, SourceLocation location) {
+	}
+
+	private final Map<String, Map<File, List<Reference>>> referencesByArtifact = new HashMap<>();
+	private final Map<File, Set<String>> artifactsByProject = new HashMap<>();
+
+	@Override
+	public void builtMavenProject(File repository, MavenProject mavenProject) {
+		File pomFile = mavenProject.getFile();
+		if (pomFile == null) {
+			return;
+		}
+		String projectKey = mavenProject.getGroupId() + ':' + mavenProject.getArtifactId() + ':'
+				+ mavenProject.getVersion();
+		List<Reference> references = new ArrayList<>();
+		mavenProject.getDependencies().stream()
+				.map(d -> toReference(Kind.DEPENDENCY, d, projectKey, pomFile)).forEach(references::add);
+		if (mavenProject.getDependencyManagement() != null) {
+			mavenProject.getDependencyManagement().getDependencies().stream()
+					.map(d -> toReference(Kind.MANAGED_DEPENDENCY, d, projectKey, pomFile))
+					.forEach(references::add);
+		}
+		mavenProject.getBuildPlugins().stream()
+				.map(p -> toReference(Kind.PLUGIN, p, projectKey, pomFile))
+				// The plugins bound by default to the lifecycle are not declared in a POM
+				.filter(r -> r.location() != null && r.location().file() != null).forEach(references::add);
+		if (mavenProject.getPluginManagement() != null) {
+			mavenProject.getPluginManagement().getPlugins().stream()
+					.map(p -> toReference(Kind.MANAGED_PLUGIN, p, projectKey, pomFile))
+					.filter(r -> r.location() != null && r.location().file() != null).forEach(references::add);
+		}
+		Map<String, List<Reference>> byArtifact = references.stream().collect(
+				Collectors.groupingBy(r -> key(r.groupId(), r.artifactId()), LinkedHashMap::new, Collectors.toList()));
+
+		synchronized (this) {
+			remove(pomFile);
+			byArtifact.forEach((key, artifactReferences) -> referencesByArtifact
+					.computeIfAbsent(key, k -> new LinkedHashMap<>()).put(pomFile, List.copyOf(artifactReferences)));
+			artifactsByProject.put(pomFile, byArtifact.keySet());
+		}
+	}
+
+	/**
+	 * Returns the references to the given artifact from the workspace projects
+	 *
+	 * @param groupId    the group id
+	 * @param artifactId the artifact id
+	 * @return the references, in the order the projects were built
+	 */
+	public synchronized List<Reference> getReferences(String groupId, String artifactId) {
+		Map<File, List<Reference>> references = referencesByArtifact.get(key(groupId, artifactId));
+		return references == null ? List.of()
+				: references.values().stream().flatMap(List::stream).toList();
+	}
+
+	/**
+	 * Returns the references to the given version of an artifact from the
+	 * workspace projects
+	 *
+	 * @param groupId    the group id
+	 * @param artifactId the artifact id
+	 * @param version    the version
+	 * @return the references, in the order the projects were built
+	 */
+	public List<Reference> getReferences(String groupId, String artifactId, String version) {
+		return getReferences(groupId, artifactId).stream().filter(r -> Objects.equals(version, r.version()))
+				.toList();
+	}
+
+	/**
+	 * Returns the POM files of the workspace projects using the given artifact
+	 *
+	 * @param groupId    the group id
+	 * @param artifactId the artifact id
+	 * @return the POM files of the projects
+	 */
+	public synchronized Set<File> getProjects(String groupId, String artifactId) {
+		Map<File, List<Reference>> references = referencesByArtifact.get(key(groupId, artifactId));
+		return references == null ? Set.of() : Set.copyOf(references.keySet());
+	}
+
+	/**
+	 * Removes the references from the given project
+	 *
+	 * @param pomFile the POM file of a project
+	 */
+	public synchronized void remove(File pomFile) {
+		Set<String> keys = artifactsByProject.remove(pomFile);
+		if (keys != null) {
+			keys.forEach(key -> {
+				Map<File, List<Reference>> references = referencesByArtifact.get(key);
+				if (references != null) {
+					references.remove(pomFile);
+					if (references.isEmpty()) {
+						referencesByArtifact.remove(key);
+					}
+				}
+			});
+		}
+	}
+
+	/**
+	 * Removes all the references
+	 */
+	public synchronized void clear() {
+		referencesByArtifact.clear();
+		artifactsByProject.clear();
+	}
+
+	private static Reference toReference(Kind kind, Dependency dependency, String projectKey, File pomFile) {
+		return new Reference(kind, dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion(),
+				projectKey, pomFile, SourceLocation.of(dependency, "artifactId"));
+	}
+
+	private static Reference toReference(Kind kind, Plugin plugin, String projectKey, File pomFile) {
+		return new Reference(kind, plugin.getGroupId(), plugin.getArtifactId(), plugin.getVersion(), projectKey,
+				pomFile, SourceLocation.of(plugin, "artifactId"));
+	}
+
+	private static String key(String groupId, String artifactId) {
+		return groupId + ':' + artifactId;
+	}
+}
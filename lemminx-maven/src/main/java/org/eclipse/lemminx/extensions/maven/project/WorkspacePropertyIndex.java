@@ -0,0 +1,348 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import static org.eclipse.lemminx.extensions.maven.DOMConstants.PARENT_ELT;
+import static org.eclipse.lemminx.extensions.maven.DOMConstants.PROPERTIES_ELT;
+
+import java.io.File;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Parent;
+import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
+import org.eclipse.lemminx.extensions.maven.utils.DOMUtils;
+import org.eclipse.lemminx.extensions.maven.utils.MavenParseUtils;
+import org.eclipse.lemminx.extensions.maven.utils.ParticipantUtils;
+import org.eclipse.lemminx.extensions.maven.utils.PropertyUsageScanner;
+import org.eclipse.lemminx.services.IXMLDocumentProvider;
+import org.eclipse.lemminx.utils.XMLPositionUtility;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Index of the Maven property definitions (<code>project/properties</code>
+ * children) and usages (<code>${name}</code> expressions) of the workspace
+ * POM files.
+ *
+ * The index is maintained incrementally: a POM file is scanned again only when
+ * its opened document has changed, or when the file has been modified on the
+ * disk, so the queries neither build the workspace projects nor parse the
+ * unchanged POM files again.
+ */
+public class WorkspacePropertyIndex {
+
+	private static final Logger LOGGER = Logger.getLogger(WorkspacePropertyIndex.class.getName());
+
+	/**
+	 * The definition of a property
+	 *
+	 * @param uri            the URI of the POM file
+	 * @param range          the range of the property element
+	 * @param startNameRange the range of the property name in the start tag
+	 * @param endNameRange   the range of the property name in the end tag, can be
+	 *                       <code>null</code>
+	 */
+	public record PropertyDefinition(String uri, Range range, Range startNameRange, Range endNameRange) {
+	}
+
+	/**
+	 * The usage of a property
+	 *
+	 * @param uri       the URI of the POM file
+	 * @param nameRange the range of the property name in the expression
+	 */
+	public record PropertyUsage(String uri, Range nameRange) {
+	}
+
+	/**
+	 * The indexed content of a POM file
+	 */
+	public static final class IndexedPom {
+
+		private final String uri;
+		private final URI normalizedUri;
+		private final Integer version;
+		private final Object stamp;
+		private final String key;
+		private final String parentKey;
+		private final Map<String, PropertyDefinition> definitions;
+		private final Map<String, List<PropertyUsage>> usages;
+
+		private IndexedPom(DOMDocument document, Object stamp, CancelChecker cancelChecker) {
+			this.uri = document.getTextDocument().getUri();
+			this.normalizedUri = ParticipantUtils.normalizedUri(uri);
+			this.version = document.getTextDocument().getVersion();
+			this.stamp = stamp;
+			Map<String, PropertyDefinition> definitions = new LinkedHashMap<>();
+			Map<String, List<PropertyUsage>> usages = new HashMap<>();
+			String key = null;
+			String parentKey = null;
+			DOMElement project = document.getDocumentElement();
+			if (project != null) {
+				Dependency artifact = MavenParseUtils.parseArtifact(project);
+				Parent parent = MavenParseUtils
+						.parseParent(DOMUtils.findChildElement(project, PARENT_ELT).orElse(null));
+				if (artifact != null) {
+					if (artifact.getGroupId() == null && parent != null) {
+						artifact.setGroupId(parent.getGroupId());
+					}
+					if (artifact.getVersion() == null && parent != null) {
+						artifact.setVersion(parent.getVersion());
+					}
+					key = MavenLemminxExtension.key(artifact);
+				}
+				parentKey = parent != null ? MavenLemminxExtension.key(parent) : null;
+				DOMUtils.findChildElement(project, PROPERTIES_ELT).ifPresent(properties -> properties.getChildren()
+						.stream().filter(DOMElement.class::isInstance).map(DOMElement.class::cast)
+						.forEach(property -> definitions.putIfAbsent(property.getNodeName(),
+								toDefinition(uri, property))));
+				PropertyUsageScanner.scan(document.getText(), null, cancelChecker,
+						usage -> usages.computeIfAbsent(usage.name(), n -> new ArrayList<>())
+								.add(new PropertyUsage(uri, usage.nameRange())));
+			}
+			this.key = key;
+			this.parentKey = parentKey;
+			this.definitions = Collections.unmodifiableMap(definitions);
+			this.usages = Collections.unmodifiableMap(usages);
+		}
+
+		public String getUri() {
+			return uri;
+		}
+
+		/**
+		 * Returns the version of the document the index was computed from
+		 */
+		public Integer getVersion() {
+			return version;
+		}
+
+		/**
+		 * Returns the properties defined in the POM file, by name
+		 */
+		public Map<String, PropertyDefinition> getDefinitions() {
+			return definitions;
+		}
+
+		/**
+		 * Returns the usages of the given property in the POM file
+		 */
+		public List<PropertyUsage> getUsages(String propertyName) {
+			return usages.getOrDefault(propertyName, List.of());
+		}
+
+		private static PropertyDefinition toDefinition(String uri, DOMElement property) {
+			DOMDocument document = property.getOwnerDocument();
+			String name = property.getNodeName();
+			try {
+				int startTagNameOffset = property.getStartTagOpenOffset() + 1;
+				Range startNameRange = new Range(document.positionAt(startTagNameOffset),
+						document.positionAt(startTagNameOffset + name.length()));
+				Range endNameRange = null;
+				if (property.hasEndTag()) {
+					int endTagNameOffset = property.getEndTagOpenOffset() + 2;
+					endNameRange = new Range(document.positionAt(endTagNameOffset),
+							document.positionAt(endTagNameOffset + name.length()));
+				}
+				return new PropertyDefinition(uri, XMLPositionUtility.createRange(property), startNameRange,
+						endNameRange);
+			} catch (BadLocationException e) {
+				LOGGER.log(Level.SEVERE, e.getMessage(), e);
+				return new PropertyDefinition(uri, XMLPositionUtility.createRange(property), null, null);
+			}
+		}
+	}
+
+	private record FileStamp(long lastModified, long length) {
+	}
+
+	private record DocumentStamp(DOMDocument document) {
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof DocumentStamp other && other.document == document;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(document);
+		}
+	}
+
+	private final IXMLDocumentProvider documentProvider;
+	private final PomDocumentCache documentCache;
+	private final Supplier<List<File>> workspaceFiles;
+	private final Map<URI, IndexedPom> poms = new ConcurrentHashMap<>();
+
+	public WorkspacePropertyIndex(IXMLDocumentProvider documentProvider, PomDocumentCache documentCache,
+			Supplier<List<File>> workspaceFiles) {
+		this.documentProvider = documentProvider;
+		this.documentCache = documentCache;
+		this.workspaceFiles = workspaceFiles;
+	}
+
+	/**
+	 * Returns the index of the given document, scanning it again if it has
+	 * changed since it was last indexed
+	 *
+	 * @param document a POM document
+	 * @return the index of the document
+	 */
+	public IndexedPom getIndexedPom(DOMDocument document) {
+		return getIndexedPom(document, () -> {
+		});
+	}
+
+	private IndexedPom getIndexedPom(DOMDocument document, CancelChecker cancelChecker) {
+		URI uri = ParticipantUtils.normalizedUri(document.getDocumentURI());
+		Object stamp = new DocumentStamp(document);
+		IndexedPom pom = poms.get(uri);
+		if (pom == null || !pom.stamp.equals(stamp)) {
+			pom = new IndexedPom(document, stamp, cancelChecker);
+			poms.put(uri, pom);
+		}
+		return pom;
+	}
+
+	/**
+	 * Returns the index of the given POM file, using its opened document if any,
+	 * and scanning it again if it has changed since it was last indexed
+	 *
+	 * @param file a POM file
+	 * @return the index of the file, or <code>null</code> if it cannot be read
+	 */
+	public IndexedPom getIndexedPom(File file) {
+		return getIndexedPom(file, () -> {
+		});
+	}
+
+	private IndexedPom getIndexedPom(File file, CancelChecker cancelChecker) {
+		String uriString = file.toURI().toString();
+		DOMDocument document = documentProvider != null
+				? documentProvider.getDocument(MavenLemminxExtension.toUriASCIIString(file))
+				: null;
+		if (document != null) {
+			return getIndexedPom(document, cancelChecker);
+		}
+		if (!file.isFile()) {
+			poms.remove(ParticipantUtils.normalizedUri(uriString));
+			return null;
+		}
+		URI uri = ParticipantUtils.normalizedUri(uriString);
+		Object stamp = new FileStamp(file.lastModified(), file.length());
+		IndexedPom pom = poms.get(uri);
+		if (pom == null || !pom.stamp.equals(stamp)) {
+			DOMDocument loaded = documentCache.getDocument(file);
+			if (loaded == null) {
+				return null;
+			}
+			pom = new IndexedPom(loaded, stamp, cancelChecker);
+			poms.put(uri, pom);
+		}
+		return pom;
+	}
+
+	/**
+	 * Returns the index of the given document followed by the indexes of the
+	 * workspace POM files inheriting from it, directly or through other workspace
+	 * POM files
+	 *
+	 * @param document      a POM document
+	 * @param cancelChecker the cancel checker
+	 * @return the indexes of the document and of its workspace children
+	 */
+	public List<IndexedPom> getHierarchy(DOMDocument document, CancelChecker cancelChecker) {
+		IndexedPom root = getIndexedPom(document, cancelChecker);
+		List<IndexedPom> workspacePoms = getWorkspacePoms(cancelChecker);
+		Map<String, IndexedPom> byKey = indexByKey(root, workspacePoms);
+
+		LinkedHashSet<IndexedPom> hierarchy = new LinkedHashSet<>();
+		hierarchy.add(root);
+		for (IndexedPom pom : workspacePoms) {
+			cancelChecker.checkCanceled();
+			List<IndexedPom> chain = new ArrayList<>();
+			Set<IndexedPom> visited = new LinkedHashSet<>();
+			IndexedPom current = pom;
+			while (current != null && visited.add(current)) {
+				if (current.normalizedUri.equals(root.normalizedUri)
+						|| (root.key != null && root.key.equals(current.key))) {
+					hierarchy.addAll(chain);
+					break;
+				}
+				chain.add(current);
+				current = current.parentKey != null ? byKey.get(current.parentKey) : null;
+			}
+		}
+		return new ArrayList<>(hierarchy);
+	}
+
+	/**
+	 * Returns the indexes of the workspace POM files the given document inherits
+	 * from, directly or through other workspace POM files, from the nearest parent
+	 *
+	 * @param document      a POM document
+	 * @param cancelChecker the cancel checker
+	 * @return the indexes of the workspace ancestors of the document
+	 */
+	public List<IndexedPom> getAncestors(DOMDocument document, CancelChecker cancelChecker) {
+		IndexedPom root = getIndexedPom(document, cancelChecker);
+		Map<String, IndexedPom> byKey = indexByKey(root, getWorkspacePoms(cancelChecker));
+		LinkedHashSet<IndexedPom> ancestors = new LinkedHashSet<>();
+		IndexedPom current = root.parentKey != null ? byKey.get(root.parentKey) : null;
+		while (current != null && current != root && ancestors.add(current)) {
+			cancelChecker.checkCanceled();
+			current = current.parentKey != null ? byKey.get(current.parentKey) : null;
+		}
+		return new ArrayList<>(ancestors);
+	}
+
+	private static Map<String, IndexedPom> indexByKey(IndexedPom root, List<IndexedPom> workspacePoms) {
+		Map<String, IndexedPom> byKey = new HashMap<>();
+		workspacePoms.stream().filter(pom -> pom.key != null).forEach(pom -> byKey.putIfAbsent(pom.key, pom));
+		if (root.key != null) {
+			byKey.put(root.key, root);
+		}
+		return byKey;
+	}
+
+	private List<IndexedPom> getWorkspacePoms(CancelChecker cancelChecker) {
+		List<IndexedPom> workspacePoms = new ArrayList<>();
+		for (File file : workspaceFiles.get()) {
+			cancelChecker.checkCanceled();
+			IndexedPom pom = getIndexedPom(file, cancelChecker);
+			if (pom != null) {
+				workspacePoms.add(pom);
+			}
+		}
+		return workspacePoms;
+	}
+
+	/**
+	 * Removes all the indexed POM files
+	 */
+	public void clear() {
+		poms.clear();
+	}
+}
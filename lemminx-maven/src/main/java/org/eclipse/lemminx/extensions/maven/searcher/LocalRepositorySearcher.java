@@ -59,12 +59,15 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 	class Cache {
 		private File repository;
 		private Map<Path, Artifact> artifacts;
+		// The last release version of the artifacts, without SNAPSHOT, milestone... versions
+		private Map<Path, Artifact> releases;
 		private CompletableFuture<Collection<Artifact>> future;
 		private boolean updateRequested = false;
 		
 		Cache (File repository) {
 			this.repository = repository;
 			this.artifacts = new HashMap<>();
+			this.releases = new HashMap<>();
 		}
 		
 		public File getRepository() {
@@ -93,6 +96,14 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 			}
 			return future;
 		}
+
+		CompletableFuture<Collection<Artifact>> getReleases() {
+			return getArtifacts().<Collection<Artifact>>thenApply(unused -> {
+				synchronized (this) {
+					return List.copyOf(releases.values());
+				}
+			});
+		}
 		
 		public void updateBuiltArtifact(Artifact artifact) {
 			if (artifact != null) {
@@ -104,6 +115,7 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 				if (probe != null) {
 					synchronized (this) {
 						artifacts.put(artifactPath, probe);
+						addRelease(artifactPath, probe);
 					}
 				}
 			}			
@@ -121,6 +133,7 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 					pm.report(path.getFileName().toString());
 					synchronized (this) {
 						artifacts.remove(path);
+						releases.remove(path);
 					}
 				}
 			} finally {
@@ -224,6 +237,8 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 			progressMonitor.incrementTotal(subPaths.size());
 			Artifact latestArtifact = null;
 			ArtifactVersion latestVersion = null;
+			Artifact latestRelease = null;
+			ArtifactVersion latestReleaseVersion = null;
 			for (Path entry : subPaths) {
 				progressMonitor.report(entry.getFileName().toString());
 				if (Files.isDirectory(entry)) {
@@ -237,6 +252,11 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 							latestArtifact = artifact;
 							latestVersion = version;
 						}
+						if (VersionCatalog.isRelease(artifact.getVersion())
+								&& (latestRelease == null || latestReleaseVersion.compareTo(version) < 0)) {
+							latestRelease = artifact;
+							latestReleaseVersion = version;
+						}
 					}
 					updateArtifacts(entry, oldPaths, progressMonitor, cancelChecker);
 				}
@@ -260,9 +280,25 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 					}  
 				}
 			}
+			synchronized (this) {
+				if (latestRelease != null) {
+					addRelease(dir, latestRelease);
+				} else {
+					releases.remove(dir);
+				}
+			}
 			return artifacts.values();
 		}
 
+		// Keeps the newest release version of the artifact
+		private void addRelease(Path artifactPath, Artifact artifact) {
+			if (VersionCatalog.isRelease(artifact.getVersion())) {
+				releases.merge(artifactPath, artifact,
+						(a1, a2) -> new DefaultArtifactVersion(a1.getVersion())
+								.compareTo(new DefaultArtifactVersion(a2.getVersion())) >= 0 ? a1 : a2);
+			}
+		}
+
 		private Artifact probeDirectoryForArtifact(Path dir, CancelChecker cancelChecker) {
 			if (dir.getFileName().toString().charAt(0) == '.') {
 				cancelChecker.checkCanceled();
@@ -353,6 +389,19 @@ public class LocalRepositorySearcher implements IMavenProjectBuildListener {
 				.getNow(Collections.emptyList());
 	}
 
+	/**
+	 * Returns the local artifacts (with last release version, the SNAPSHOT,
+	 * alpha, beta, milestone and release candidate versions being ignored) from
+	 * the all local repository, once all the local repositories are scanned.
+	 * 
+	 * @return the local artifacts (with last release version) from the all local
+	 *         repository, completed when the scan of the local repositories is
+	 *         complete.
+	 */
+	public CompletableFuture<Collection<Artifact>> getLocalArtifactsLastRelease() {
+		return joinAllOf(cache.values().stream().map(Cache::getReleases).toList());
+	}
+
 	private static <T> CompletableFuture<Collection<T>> allOf(Collection<CompletableFuture<Collection<T>>> futures) {
 		return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])) //
 				.thenApply(__ -> futures.stream() //
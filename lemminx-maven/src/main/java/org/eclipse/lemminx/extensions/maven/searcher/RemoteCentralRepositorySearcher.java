@@ -39,11 +39,13 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -100,6 +102,9 @@ public class RemoteCentralRepositorySearcher {
 
 	private final CacheManager<RequestKey, Collection<ArtifactVersion>> artifactVersionsCache;
 
+	// The newest release versions received from the search API, by groupId:artifactId
+	private final Map<String, ArtifactVersion> latestVersions = new ConcurrentHashMap<>();
+
 	private enum RequestKind {
 		KIND_GET_GROUP_IDS("Get Group IDs"), //
 		KIND_GET_ARTIFACTS("Get Artifacts"), //
@@ -350,6 +355,8 @@ public class RemoteCentralRepositorySearcher {
 						responseBody.get(DOCS).getAsJsonArray().forEach(d -> {
 							artifactInfos.add(toArtifactInfo(d.getAsJsonObject()));
 						});
+						artifactInfos.forEach(artifact -> addLatestVersion(artifact.getGroupId(),
+								artifact.getArtifactId(), artifact.getVersion()));
 
 						return artifactInfos;
 					}
@@ -378,6 +385,8 @@ public class RemoteCentralRepositorySearcher {
 							artifactVersions
 									.add(new DefaultArtifactVersion(d.getAsJsonObject().get(VERSION).getAsString()));
 						});
+						artifactVersions.forEach(version -> addLatestVersion(artifactToSearch.getGroupId(),
+								artifactToSearch.getArtifactId(), version.toString()));
 
 						return artifactVersions;
 					}
@@ -537,6 +546,26 @@ public class RemoteCentralRepositorySearcher {
 		return artifactInfo;
 	}
 
+	private void addLatestVersion(String groupId, String artifactId, String version) {
+		// Only the release versions are kept, a newer pre-release version doesn't hide them
+		if (isEmpty(groupId) || isEmpty(artifactId) || isEmpty(version) || !VersionCatalog.isRelease(version)) {
+			return;
+		}
+		ArtifactVersion artifactVersion = new DefaultArtifactVersion(version);
+		latestVersions.merge(groupId.trim() + ':' + artifactId.trim(), artifactVersion,
+				(v1, v2) -> v1.compareTo(v2) >= 0 ? v1 : v2);
+	}
+
+	/**
+	 * Returns the newest release versions received from the search API so far,
+	 * by groupId:artifactId. No request is sent.
+	 *
+	 * @return the newest known release versions
+	 */
+	public Map<String, ArtifactVersion> getLatestVersions() {
+		return Collections.unmodifiableMap(latestVersions);
+	}
+
 	private static final boolean isEmpty(String s) {
 		return s == null || s.trim().isEmpty();
 	}
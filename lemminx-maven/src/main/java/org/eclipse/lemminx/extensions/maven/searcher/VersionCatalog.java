@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.searcher;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.maven.artifact.versioning.ArtifactVersion;
+import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
+
+/**
+ * A snapshot of the newest release versions known for each artifact, indexed
+ * by groupId:artifactId, from the local repositories and the results of the
+ * central repository search.
+ *
+ * The catalog is built once from the in-memory indexes of the searchers, so
+ * looking up a version doesn't access the file system or the network.
+ */
+public class VersionCatalog {
+
+	public static final VersionCatalog EMPTY = new VersionCatalog(Map.of());
+
+	// The qualifiers of the versions which are not releases, as known by the
+	// Maven version ordering
+	private static final Set<String> PRE_RELEASE_QUALIFIERS = Set.of("snapshot", "alpha", "beta", "milestone", "rc",
+			"cr", "preview", "pre", "ea", "dev");
+
+	// The short forms of alpha, beta and milestone, only when followed by a number (1.0-M2)
+	private static final Set<String> PRE_RELEASE_ALIASES = Set.of("a", "b", "m");
+
+	private static final Pattern VERSION_TOKEN = Pattern.compile("[a-z]+|[0-9]+");
+
+	private final Map<String, ArtifactVersion> newestVersions;
+
+	private VersionCatalog(Map<String, ArtifactVersion> newestVersions) {
+		this.newestVersions = newestVersions;
+	}
+
+	/**
+	 * Returns a catalog of the given artifacts and versions. The sources keep
+	 * the newest release of each artifact (see {@link #isRelease(String)}): the
+	 * newest of all the versions may be a pre-release hiding the releases.
+	 *
+	 * @param localArtifacts the last release version of the local artifacts, can
+	 *                       be <code>null</code>
+	 * @param remoteVersions the newest release versions by groupId:artifactId,
+	 *                       can be <code>null</code>
+	 * @return the catalog
+	 */
+	public static VersionCatalog of(Collection<org.eclipse.aether.artifact.Artifact> localArtifacts,
+			Map<String, ArtifactVersion> remoteVersions) {
+		Map<String, ArtifactVersion> versions = new HashMap<>();
+		if (localArtifacts != null) {
+			localArtifacts.forEach(artifact -> add(versions, artifact.getGroupId() + ':' + artifact.getArtifactId(),
+					new DefaultArtifactVersion(artifact.getVersion())));
+		}
+		if (remoteVersions != null) {
+			remoteVersions.forEach((key, version) -> add(versions, key, version));
+		}
+		return new VersionCatalog(versions);
+	}
+
+	private static void add(Map<String, ArtifactVersion> versions, String key, ArtifactVersion version) {
+		versions.merge(key, version, (v1, v2) -> v1.compareTo(v2) >= 0 ? v1 : v2);
+	}
+
+	/**
+	 * Returns true if the given version has no pre-release qualifier, such as
+	 * SNAPSHOT, alpha, beta, M1 or RC2
+	 *
+	 * @param version a version
+	 * @return true if the version is a release
+	 */
+	public static boolean isRelease(String version) {
+		Matcher matcher = VERSION_TOKEN.matcher(version.toLowerCase(Locale.ROOT));
+		String previous = null;
+		while (matcher.find()) {
+			String token = matcher.group();
+			if (PRE_RELEASE_QUALIFIERS.contains(token) || (previous != null && PRE_RELEASE_ALIASES.contains(previous)
+					&& Character.isDigit(token.charAt(0)))) {
+				return false;
+			}
+			previous = token;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the newest known release version of the given artifact
+	 *
+	 * @param groupId    the group id
+	 * @param artifactId the artifact id
+	 * @return the newest version, or <code>null</code> if the artifact is
+	 *         unknown
+	 */
+	public ArtifactVersion getNewestVersion(String groupId, String artifactId) {
+		return newestVersions.get(groupId + ':' + artifactId);
+	}
+
+	/**
+	 * Returns the newest known release version of the given artifact if it's
+	 * newer than the given version
+	 *
+	 * @param groupId    the group id
+	 * @param artifactId the artifact id
+	 * @param version    a version
+	 * @return the newer version, or <code>null</code> if there is none
+	 */
+	public ArtifactVersion getNewerVersion(String groupId, String artifactId, String version) {
+		ArtifactVersion newest = getNewestVersion(groupId, artifactId);
+		return newest != null && newest.compareTo(new DefaultArtifactVersion(version)) > 0 ? newest : null;
+	}
+
+	public int size() {
+		return newestVersions.size();
+	}
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.settings;
+
+import java.util.Objects;
+
+/**
+ * Eviction settings of the Maven project cache. The projects of the opened
+ * documents and of the workspace modules are never evicted.
+ */
+public class XMLMavenProjectCacheSettings {
+
+	/**
+	 * Maximum number of cached projects, 0 or less means unlimited
+	 */
+	private int maxProjects = 1000;
+
+	/**
+	 * Heap budget in megabytes, 0 or less means unlimited
+	 */
+	private int heapBudget;
+
+	/**
+	 * Idle time in minutes after which a not accessed project is evicted, 0 or
+	 * less means never
+	 */
+	private int idleTimeout = 30;
+
+	/**
+	 * Number of most recently accessed projects whose build results are strongly
+	 * retained, the build results of the other projects can be released under
+	 * memory pressure. Capped by the maximum number of cached projects
+	 */
+	private int retainedProjects = 50;
+
+	/**
+	 * Heap budget in megabytes of the parsed POM files which are not opened in
+	 * the editor, such as the parent POMs, 0 or less means unlimited
+	 */
+	private int pomDocumentBudget = 64;
+
+	public int getMaxProjects() {
+		return maxProjects;
+	}
+
+	public void setMaxProjects(int maxProjects) {
+		this.maxProjects = maxProjects;
+	}
+
+	public int getHeapBudget() {
+		return heapBudget;
+	}
+
+	public void setHeapBudget(int heapBudget) {
+		this.heapBudget = heapBudget;
+	}
+
+	public int getIdleTimeout() {
+		return idleTimeout;
+	}
+
+	public void setIdleTimeout(int idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+
+	public int getRetainedProjects() {
+		return retainedProjects;
+	}
+
+	public void setRetainedProjects(int retainedProjects) {
+		this.retainedProjects = retainedProjects;
+	}
+
+	public int getPomDocumentBudget() {
+		return pomDocumentBudget;
+	}
+
+	public void setPomDocumentBudget(int pomDocumentBudget) {
+		this.pomDocumentBudget = pomDocumentBudget;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(heapBudget, idleTimeout, maxProjects, pomDocumentBudget, retainedProjects);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		XMLMavenProjectCacheSettings other = (XMLMavenProjectCacheSettings) obj;
+		return heapBudget == other.heapBudget && idleTimeout == other.idleTimeout && maxProjects == other.maxProjects
+				&& pomDocumentBudget == other.pomDocumentBudget && retainedProjects == other.retainedProjects;
+	}
+
+}
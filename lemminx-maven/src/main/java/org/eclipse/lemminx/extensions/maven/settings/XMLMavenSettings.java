@@ -25,9 +25,20 @@ public class XMLMavenSettings {
 
 	private String indexLocation;
 
+	private XMLMavenProjectCacheSettings projectCache;
+
+	private boolean offline;
+
+	private int unresolvedArtifactsTimeout = 10;
+
+	private boolean dependencyConvergence;
+
+	private boolean outdatedVersions;
+
 	public XMLMavenSettings() {
 		setCentral(new XMLMavenCentralSettings());
 		setRepo(new XMLMavenRepoSettings());
+		setProjectCache(new XMLMavenProjectCacheSettings());
 	}
 
 	public XMLMavenCentralSettings getCentral() {
@@ -70,9 +81,70 @@ public class XMLMavenSettings {
 		this.indexLocation = indexLocation;
 	}
 
+	public XMLMavenProjectCacheSettings getProjectCache() {
+		return projectCache;
+	}
+
+	public void setProjectCache(XMLMavenProjectCacheSettings projectCache) {
+		this.projectCache = projectCache;
+	}
+
+	/**
+	 * Returns true if the remote repositories must never be accessed: the
+	 * projects are built with the local repository and the workspace projects
+	 * only, as with <code>mvn --offline</code>.
+	 */
+	public boolean isOffline() {
+		return offline;
+	}
+
+	public void setOffline(boolean offline) {
+		this.offline = offline;
+	}
+
+	/**
+	 * Returns the time, in minutes, during which an artifact or a plugin which
+	 * could not be resolved is not searched again in the remote repositories. 0
+	 * disables the cache of the resolution failures.
+	 */
+	public int getUnresolvedArtifactsTimeout() {
+		return unresolvedArtifactsTimeout;
+	}
+
+	public void setUnresolvedArtifactsTimeout(int unresolvedArtifactsTimeout) {
+		this.unresolvedArtifactsTimeout = unresolvedArtifactsTimeout;
+	}
+
+	/**
+	 * Returns true if the dependencies whose transitive dependencies don't
+	 * converge to a single version must be reported, as with the
+	 * <code>dependencyConvergence</code> rule of maven-enforcer.
+	 */
+	public boolean isDependencyConvergence() {
+		return dependencyConvergence;
+	}
+
+	public void setDependencyConvergence(boolean dependencyConvergence) {
+		this.dependencyConvergence = dependencyConvergence;
+	}
+
+	/**
+	 * Returns true if the dependency and plugin versions older than the newest
+	 * release known in the local repositories and in the central repository
+	 * search results must be reported as hints.
+	 */
+	public boolean isOutdatedVersions() {
+		return outdatedVersions;
+	}
+
+	public void setOutdatedVersions(boolean outdatedVersions) {
+		this.outdatedVersions = outdatedVersions;
+	}
+
 	@Override
 	public int hashCode() {
-		return Objects.hash(globalSettings, central, indexLocation, repo, userSettings);
+		return Objects.hash(globalSettings, central, indexLocation, offline, projectCache, repo,
+				unresolvedArtifactsTimeout, dependencyConvergence, outdatedVersions, userSettings);
 	}
 
 	@Override
@@ -85,7 +157,11 @@ public class XMLMavenSettings {
 			return false;
 		XMLMavenSettings other = (XMLMavenSettings) obj;
 		return Objects.equals(globalSettings, other.globalSettings) && Objects.equals(central, other.central)
-				&& Objects.equals(indexLocation, other.indexLocation) && Objects.equals(repo, other.repo)
+				&& Objects.equals(indexLocation, other.indexLocation) && offline == other.offline
+				&& Objects.equals(projectCache, other.projectCache) && Objects.equals(repo, other.repo)
+				&& unresolvedArtifactsTimeout == other.unresolvedArtifactsTimeout
+				&& dependencyConvergence == other.dependencyConvergence
+				&& outdatedVersions == other.outdatedVersions
 				&& Objects.equals(userSettings, other.userSettings);
 	}
 
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.utils;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Records the latencies of the named stages of an operation over a sliding
+ * window of the most recent samples, and reports their tail latencies
+ * (p50/p95/p99).
+ *
+ * A summary of all the stages is logged at {@link Level#FINE} every
+ * {@value #WINDOW_SIZE} samples of a stage.
+ */
+public class LatencyMetrics {
+
+	private static final Logger LOGGER = Logger.getLogger(LatencyMetrics.class.getName());
+
+	private static final int WINDOW_SIZE = 256;
+
+	private static class Stage {
+		private final long[] samples = new long[WINDOW_SIZE];
+		private long count;
+
+		synchronized boolean record(long nanos) {
+			samples[(int) (count % WINDOW_SIZE)] = nanos;
+			count++;
+			return count % WINDOW_SIZE == 0;
+		}
+
+		synchronized long percentile(double percentile) {
+			int size = (int) Math.min(count, WINDOW_SIZE);
+			if (size == 0) {
+				return 0;
+			}
+			long[] sorted = Arrays.copyOf(samples, size);
+			Arrays.sort(sorted);
+			int index = (int) Math.ceil(percentile / 100 * size) - 1;
+			return sorted[Math.max(0, Math.min(index, size - 1))];
+		}
+
+		synchronized long count() {
+			return count;
+		}
+	}
+
+	private final String name;
+	private final Map<String, Stage> stages = new ConcurrentHashMap<>();
+
+	public LatencyMetrics(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Records a latency sample for the given stage.
+	 *
+	 * @param stage     the stage name
+	 * @param startTime the start time of the stage, as returned by
+	 *                  {@link System#nanoTime()}
+	 */
+	public void record(String stage, long startTime) {
+		boolean windowFull = stages.computeIfAbsent(stage, s -> new Stage()).record(System.nanoTime() - startTime);
+		if (windowFull && LOGGER.isLoggable(Level.FINE)) {
+			LOGGER.fine(toString());
+		}
+	}
+
+	/**
+	 * Returns the given percentile of the latencies recorded for a stage.
+	 *
+	 * @param stage      the stage name
+	 * @param percentile the percentile (for example 50, 95 or 99)
+	 * @param unit       the unit of the returned value
+	 * @return the latency, or 0 if nothing was recorded for the stage
+	 */
+	public long getPercentile(String stage, double percentile, TimeUnit unit) {
+		Stage s = stages.get(stage);
+		return s == null ? 0 : unit.convert(s.percentile(percentile), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the number of samples recorded for a stage since the creation.
+	 *
+	 * @param stage the stage name
+	 * @return the number of samples
+	 */
+	public long getCount(String stage) {
+		Stage s = stages.get(stage);
+		return s == null ? 0 : s.count();
+	}
+
+	@Override
+	public String toString() {
+		return name + " latencies: " + stages.entrySet().stream().sorted(Map.Entry.comparingByKey())
+				.map(e -> e.getKey() + " [n=" + e.getValue().count() //
+						+ ", p50=" + getPercentile(e.getKey(), 50, TimeUnit.MILLISECONDS) //
+						+ "ms, p95=" + getPercentile(e.getKey(), 95, TimeUnit.MILLISECONDS) //
+						+ "ms, p99=" + getPercentile(e.getKey(), 99, TimeUnit.MILLISECONDS) + "ms]")
+				.collect(Collectors.joining(", "));
+	}
+}
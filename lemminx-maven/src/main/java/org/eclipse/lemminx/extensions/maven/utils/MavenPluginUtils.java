@@ -22,6 +22,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.function.UnaryOperator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -38,14 +39,20 @@ import org.apache.maven.plugin.descriptor.MojoDescriptor;
 import org.apache.maven.plugin.descriptor.Parameter;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.LocalArtifactRequest;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.repository.RemoteRepository.Builder;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMElement;
 import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.extensions.maven.ArtifactResolutionService;
+import org.eclipse.lemminx.extensions.maven.ArtifactResolutionService.Priority;
 import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
 import org.eclipse.lemminx.extensions.maven.MojoParameter;
+import org.eclipse.lemminx.extensions.maven.ResolutionFailureCache;
 import org.eclipse.lemminx.services.extensions.IPositionRequest;
 import org.eclipse.lsp4j.MarkupContent;
 import org.eclipse.lsp4j.MarkupKind;
@@ -161,6 +168,13 @@ public class MavenPluginUtils {
 	public static PluginDescriptor getContainingPluginDescriptor(DOMNode node, MavenLemminxExtension lemminxMavenPlugin,
 			boolean reThrowPluginDescriptorExceptions) throws PluginResolutionException,
 				PluginDescriptorParsingException, InvalidPluginDescriptorException, CancellationException {
+		return getContainingPluginDescriptor(node, lemminxMavenPlugin, reThrowPluginDescriptorExceptions,
+				Priority.FOREGROUND);
+	}
+
+	public static PluginDescriptor getContainingPluginDescriptor(DOMNode node, MavenLemminxExtension lemminxMavenPlugin,
+			boolean reThrowPluginDescriptorExceptions, Priority priority) throws PluginResolutionException,
+				PluginDescriptorParsingException, InvalidPluginDescriptorException, CancellationException {
 		CancelChecker cancelChecker = getCancelChecker(node.getOwnerDocument());
 		cancelChecker.checkCanceled();
 		MavenProject project = lemminxMavenPlugin.getProjectCache()
@@ -173,16 +187,8 @@ public class MavenPluginUtils {
 		if (pluginNode == null) {
 			return null;
 		}
-		Optional<String> groupId = DOMUtils.findChildElementText(pluginNode, GROUP_ID_ELT);
 		Optional<String> artifactId = DOMUtils.findChildElementText(pluginNode, ARTIFACT_ID_ELT);
-		String pluginKey = "";
-		if (groupId.isPresent()) {
-			pluginKey += groupId.get();
-			pluginKey += ':';
-		}
-		if (artifactId.isPresent()) {
-			pluginKey += artifactId.get();
-		}
+		String pluginKey = getPluginKey(pluginNode);
 		cancelChecker.checkCanceled();
 		Plugin plugin = findPluginInProject(project, pluginKey, artifactId);
 
@@ -218,9 +224,7 @@ public class MavenPluginUtils {
 				plugin.setVersion("0.0.1-SNAPSHOT");
 			}
 			
-			pluginDescriptor = lemminxMavenPlugin.getMavenPluginManager().getPluginDescriptor(plugin,
-				project.getRemotePluginRepositories().stream().collect(Collectors.toList()),
-				lemminxMavenPlugin.getMavenSession().getRepositorySession());
+			pluginDescriptor = getPluginDescriptor(plugin, project, lemminxMavenPlugin, priority);
 		} catch (PluginResolutionException | PluginDescriptorParsingException | InvalidPluginDescriptorException ex) {
 			LOGGER.log(Level.WARNING, ex.getMessage());
 			if (reThrowPluginDescriptorExceptions) {
@@ -244,9 +248,7 @@ public class MavenPluginUtils {
 			if (version.isPresent()) {
 				plugin.setVersion(version.get().toString());
 				try {
-					pluginDescriptor = lemminxMavenPlugin.getMavenPluginManager().getPluginDescriptor(plugin,
-							project.getRemotePluginRepositories().stream().collect(Collectors.toList()),
-							lemminxMavenPlugin.getMavenSession().getRepositorySession());
+					pluginDescriptor = getPluginDescriptor(plugin, project, lemminxMavenPlugin, priority);
 				} catch (PluginResolutionException | PluginDescriptorParsingException | InvalidPluginDescriptorException ex) {
 					LOGGER.log(Level.WARNING, ex.getMessage(), ex);
 					if (reThrowPluginDescriptorExceptions) {
@@ -261,6 +263,104 @@ public class MavenPluginUtils {
 		return pluginDescriptor;
 	}
 
+	/**
+	 * Returns the descriptor of the given plugin. A plugin which could not be
+	 * resolved recently is not searched again until its failure expires from the
+	 * resolution failure cache.
+	 */
+	public static PluginDescriptor getPluginDescriptor(Plugin plugin, MavenProject project,
+			MavenLemminxExtension lemminxMavenPlugin) throws PluginResolutionException,
+			PluginDescriptorParsingException, InvalidPluginDescriptorException {
+		return getPluginDescriptor(plugin, project, lemminxMavenPlugin, Priority.FOREGROUND);
+	}
+
+	/**
+	 * Returns the descriptor of the given plugin. When the plugin is missing from
+	 * the local repository, it's downloaded by the artifact resolution service
+	 * with the given priority, so that the plugins of the validation and of the
+	 * prefetch wait behind the ones of the hover and of the definition.
+	 */
+	public static PluginDescriptor getPluginDescriptor(Plugin plugin, MavenProject project,
+			MavenLemminxExtension lemminxMavenPlugin, Priority priority) throws PluginResolutionException,
+			PluginDescriptorParsingException, InvalidPluginDescriptorException {
+		ResolutionFailureCache failures = lemminxMavenPlugin.getResolutionFailureCache();
+		String key = ResolutionFailureCache.getPluginKey(plugin.getGroupId(), plugin.getArtifactId(),
+				plugin.getVersion());
+		if (failures != null && failures.getFailure(key) instanceof PluginResolutionException e) {
+			throw e;
+		}
+		try {
+			resolvePluginArtifact(plugin, project, lemminxMavenPlugin, priority);
+			return lemminxMavenPlugin.getMavenPluginManager().getPluginDescriptor(plugin,
+					project.getRemotePluginRepositories().stream().collect(Collectors.toList()),
+					lemminxMavenPlugin.getMavenSession().getRepositorySession());
+		} catch (PluginResolutionException e) {
+			if (failures != null) {
+				failures.recordFailure(key, e);
+			}
+			throw e;
+		}
+	}
+
+	private static void resolvePluginArtifact(Plugin plugin, MavenProject project,
+			MavenLemminxExtension lemminxMavenPlugin, Priority priority) throws PluginResolutionException {
+		ArtifactResolutionService resolutionService = lemminxMavenPlugin.getArtifactResolutionService();
+		if (resolutionService == null) {
+			return;
+		}
+		RepositorySystemSession repositorySession = lemminxMavenPlugin.getMavenSession().getRepositorySession();
+		Artifact artifact = new DefaultArtifact(plugin.getGroupId(), plugin.getArtifactId(), "jar",
+				plugin.getVersion());
+		List<RemoteRepository> repositories = project.getRemotePluginRepositories();
+		if (repositorySession.getLocalRepositoryManager()
+				.find(repositorySession, new LocalArtifactRequest(artifact, repositories, null)).isAvailable()) {
+			// The plugin manager reads it from the local repository
+			return;
+		}
+		try {
+			resolutionService.resolve(artifact, repositories, priority).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException();
+		} catch (ExecutionException e) {
+			throw new PluginResolutionException(plugin, e.getCause());
+		}
+	}
+
+	/**
+	 * Returns the plugin of the given project that is declared by the
+	 * <code>plugin</code> element containing the given node.
+	 * 
+	 * @param node    a node inside a <code>plugin</code> element
+	 * @param project the Maven project built for the node's document
+	 * @return the matching plugin or <code>null</code> if none is found
+	 */
+	public static Plugin findContainingPlugin(DOMNode node, MavenProject project) {
+		if (node == null || project == null) {
+			return null;
+		}
+		DOMNode pluginNode = DOMUtils.findClosestParentNode(node, PLUGIN_ELT);
+		if (pluginNode == null) {
+			return null;
+		}
+		return findPluginInProject(project, getPluginKey(pluginNode),
+				DOMUtils.findChildElementText(pluginNode, ARTIFACT_ID_ELT));
+	}
+
+	private static String getPluginKey(DOMNode pluginNode) {
+		Optional<String> groupId = DOMUtils.findChildElementText(pluginNode, GROUP_ID_ELT);
+		Optional<String> artifactId = DOMUtils.findChildElementText(pluginNode, ARTIFACT_ID_ELT);
+		String pluginKey = "";
+		if (groupId.isPresent()) {
+			pluginKey += groupId.get();
+			pluginKey += ':';
+		}
+		if (artifactId.isPresent()) {
+			pluginKey += artifactId.get();
+		}
+		return pluginKey;
+	}
+
 	private static Plugin findPluginInProject(MavenProject project, String pluginKey, Optional<String> artifactId) {
 		Optional<Plugin> plugin = Optional.ofNullable(project.getPlugin(pluginKey))
 				.or(() -> Optional.ofNullable(project.getPluginManagement().getPluginsAsMap().get(pluginKey)));
@@ -27,18 +27,17 @@ import static org.eclipse.lemminx.extensions.maven.DOMConstants.VERSION_ELT;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.apache.commons.lang3.Validate;
 import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
-import org.apache.maven.model.Build;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.DependencyManagement;
 import org.apache.maven.plugin.InvalidPluginDescriptorException;
@@ -46,26 +45,26 @@ import org.apache.maven.plugin.PluginDescriptorParsingException;
 import org.apache.maven.plugin.PluginResolutionException;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.project.MavenProject;
-import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.properties.internal.EnvironmentUtils;
-import org.codehaus.plexus.component.repository.exception.ComponentLookupException;
+import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.DefaultArtifact;
-import org.eclipse.aether.impl.ArtifactResolver;
 import org.eclipse.aether.repository.RemoteRepository;
-import org.eclipse.aether.resolution.ArtifactRequest;
-import org.eclipse.aether.resolution.ArtifactResolutionException;
-import org.eclipse.aether.resolution.ArtifactResult;
 import org.eclipse.lemminx.commons.BadLocationException;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMElement;
 import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.extensions.maven.ArtifactResolutionService;
+import org.eclipse.lemminx.extensions.maven.ArtifactResolutionService.Priority;
 import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
+import org.eclipse.lemminx.extensions.maven.project.EffectiveProperties;
+import org.eclipse.lemminx.extensions.maven.project.ProjectSummary;
 import org.eclipse.lemminx.extensions.maven.searcher.RemoteCentralRepositorySearcher;
 import org.eclipse.lemminx.services.extensions.IPositionRequest;
 import org.eclipse.lemminx.utils.XMLPositionUtility;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
 public class ParticipantUtils {
 	private static final Logger LOGGER = Logger.getLogger(ParticipantUtils.class.getName());
@@ -162,6 +161,17 @@ public class ParticipantUtils {
 	}
 	
 	public static Artifact findWorkspaceArtifact(MavenLemminxExtension plugin, IPositionRequest request, Dependency artifactToSearch) {
+		return findWorkspaceArtifact(plugin, request, artifactToSearch, () -> {
+		});
+	}
+
+	/**
+	 * Resolves the given dependency with the artifact resolution service of the
+	 * extension. The resolution is shared with the concurrent requests for the
+	 * same artifact, and isn't cancelled when the given request is.
+	 */
+	public static Artifact findWorkspaceArtifact(MavenLemminxExtension plugin, IPositionRequest request,
+			Dependency artifactToSearch, CancelChecker cancelChecker) {
 		// Here we can search only if all artifact is well defined
 		if (!isWellDefinedDependency(artifactToSearch)) {
 			return null;
@@ -169,23 +179,23 @@ public class ParticipantUtils {
 		
 		DOMElement element = findInterestingElement(request.getNode());
 		MavenProject p = plugin.getProjectCache().getLastSuccessfulMavenProject(request.getXMLDocument());
-        List<RemoteRepository> remoteRepositories = getRemoteRepositories(p, element);
+		RepositorySystemSession repositorySession = plugin.getMavenSession().getRepositorySession();
+		// Only the local repository and the workspace are searched in offline mode
+		List<RemoteRepository> remoteRepositories = repositorySession.isOffline() ? List.of()
+				: getRemoteRepositories(p, element);
 		try {
-			ArtifactResult result = plugin.getPlexusContainer().lookup(ArtifactResolver.class)
-					.resolveArtifact(plugin.getMavenSession().getRepositorySession(), 
-							new ArtifactRequest(
-									new DefaultArtifact(
-										artifactToSearch.getGroupId(), artifactToSearch.getArtifactId(), 
-										isPlugin(element) ? "pom" : null, artifactToSearch.getVersion()), 
-									remoteRepositories, null));
-			if (result !=null) {
-				return result.getArtifact();
-			}
+			return ArtifactResolutionService.await(plugin.getArtifactResolutionService().resolve(
+					new DefaultArtifact(
+						artifactToSearch.getGroupId(), artifactToSearch.getArtifactId(), 
+						isPlugin(element) ? "pom" : null, artifactToSearch.getVersion()), 
+					remoteRepositories, Priority.FOREGROUND), cancelChecker);
 		} catch (CancellationException e) {
 			throw e;
-		} catch (ArtifactResolutionException | ComponentLookupException e) {
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
 			// can happen
-			LOGGER.log(Level.FINEST, e.getMessage(), e);
+			LOGGER.log(Level.FINEST, e.getMessage(), e.getCause());
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, e.getMessage(), e);
 		}
@@ -272,64 +282,31 @@ public class ParticipantUtils {
 	}
 	
 	public static String resolveValueWithProperties(MavenProject project, String value) {
-		Map<String, String> properties = getMavenProjectProperties(project);
-		
-		StringBuilder sb = new StringBuilder();
-		int index = -1;
-		int closeIndex = -1;
-		int start = 0;
-		while((index = value.indexOf("${", start)) != -1 && 
-				(closeIndex = value.indexOf("}", start)) != -1) {
-			sb.append(value.substring(start, index));
-			String propertyName = value.substring(index + 2, closeIndex);
-			String propertyValue = properties.get(propertyName);
-			if (propertyValue != null) {
-				sb.append(propertyValue);
-			}
-			start = closeIndex + 1;
-		}
-		sb.append(value.substring(start));
-		
-		return sb.length() == 0 ? null : sb.toString();
+		String resolved = EffectiveProperties.of(project).interpolate(value);
+		return resolved == null || resolved.isEmpty() ? null : resolved;
 	}
 	
+	/**
+	 * Returns the properties available to the expressions of the given project.
+	 * The returned map is computed once per project and cannot be modified.
+	 * 
+	 * @param project a Maven project, can be <code>null</code>
+	 * @return the properties map
+	 * @see EffectiveProperties
+	 */
 	public static Map<String, String> getMavenProjectProperties(MavenProject project) {
-		if (project == null) {
-			return Map.of();
-		}
-		// See org.apache.maven.plugin.PluginParameterExpressionEvaluator
-		Map<String, String> allProps = new HashMap<>();
-		putProperties(getEnvironmentProperties(), allProps);
-		putProperties(project.getProperties(), allProps);
-		ProjectBuildingRequest buildingRequest = project.getProjectBuildingRequest();
-		if (buildingRequest != null) {
-			// user properties overwrite project properties
-			putProperties(buildingRequest.getUserProperties(), allProps);
-			// but system properties overwrite even user properties
-			putProperties(buildingRequest.getSystemProperties(), allProps);
-		}
-		allProps.put("basedir", project.getBasedir().toString());
-		allProps.put("project.basedir", project.getBasedir().toString());
-		allProps.put("project.version", project.getVersion());
-		allProps.put("project.groupId", project.getGroupId());
-		allProps.put("project.artifactId", project.getArtifactId());
-		allProps.put("project.name", project.getName());
-		Build build = project.getBuild();
-		if (build != null) {
-			allProps.put("project.build.directory", build.getDirectory());
-			allProps.put("project.build.outputDirectory", build.getOutputDirectory());
-			allProps.put("project.build.testOutputDirectory", build.getTestOutputDirectory());
-		}
-		return allProps;
+		return EffectiveProperties.of(project).asMap();
 	}
 
-	private static void putProperties(Properties properties, Map<String, String> map) {
-		if (properties == null || map == null) {
-			return;
-		}
-		properties.stringPropertyNames().forEach(envProperty -> {
-			map.put(envProperty, properties.getProperty(envProperty));
-		});
+	/**
+	 * Returns the properties available to the expressions of the given project
+	 * summary, in the same way as {@link #getMavenProjectProperties(MavenProject)}
+	 * 
+	 * @param summary a project summary, can be <code>null</code>
+	 * @return the properties map
+	 */
+	public static Map<String, String> getMavenProjectProperties(ProjectSummary summary) {
+		return EffectiveProperties.of(summary).asMap();
 	}
 
 	public static Map.Entry<Range, String> getMavenPropertyInRequest(IPositionRequest request) {
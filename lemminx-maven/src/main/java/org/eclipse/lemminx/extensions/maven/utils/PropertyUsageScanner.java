@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.utils;
+
+import java.util.function.Consumer;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Single-pass scanner of the Maven property usages (<code>${name}</code>) in
+ * the text content of an XML document.
+ *
+ * The scanner goes once through the text buffer of the document, skipping the
+ * tags, comments and processing instructions, and computes the line and
+ * character positions as it goes, so it neither walks the DOM nor searches each
+ * text node again for each property. The usages are emitted as they are found,
+ * and the cancellation is checked every {@link #CHUNK_SIZE} characters.
+ */
+public class PropertyUsageScanner {
+
+	/**
+	 * The number of characters scanned between two cancellation checks
+	 */
+	public static final int CHUNK_SIZE = 16 * 1024;
+
+	private static final String EXPRESSION_START = "${";
+	private static final char EXPRESSION_END = '}';
+	private static final String COMMENT_START = "<!--";
+	private static final String COMMENT_END = "-->";
+	private static final String CDATA_START = "<![CDATA[";
+	private static final String CDATA_END = "]]>";
+	private static final String PI_START = "<?";
+	private static final String PI_END = "?>";
+
+	/**
+	 * A property usage
+	 *
+	 * @param name            the property name
+	 * @param expressionRange the range of the whole <code>${name}</code>
+	 *                        expression
+	 * @param nameRange       the range of the property name
+	 */
+	public record PropertyUsage(String name, Range expressionRange, Range nameRange) {
+	}
+
+	private final String text;
+	private int offset;
+	private int line;
+	private int character;
+
+	private PropertyUsageScanner(String text) {
+		this.text = text;
+	}
+
+	/**
+	 * Scans the usages of the given property, or of all the properties, in the
+	 * text content of the given XML text
+	 *
+	 * @param text          the text of an XML document
+	 * @param propertyName  the name of the property to look for, or
+	 *                      <code>null</code> for all the properties
+	 * @param cancelChecker the cancel checker
+	 * @param consumer      the consumer of the usages, called in the document
+	 *                      order
+	 */
+	public static void scan(String text, String propertyName, CancelChecker cancelChecker,
+			Consumer<PropertyUsage> consumer) {
+		if (text == null) {
+			return;
+		}
+		new PropertyUsageScanner(text).scan(propertyName, cancelChecker, consumer);
+	}
+
+	private void scan(String propertyName, CancelChecker cancelChecker, Consumer<PropertyUsage> consumer) {
+		int nextCheck = CHUNK_SIZE;
+		boolean inCData = false;
+		while (offset < text.length()) {
+			if (offset >= nextCheck) {
+				cancelChecker.checkCanceled();
+				nextCheck = offset + CHUNK_SIZE;
+			}
+			if (inCData) {
+				if (text.startsWith(CDATA_END, offset)) {
+					inCData = false;
+					advance(CDATA_END.length());
+					continue;
+				}
+			} else if (text.charAt(offset) == '<') {
+				if (text.startsWith(CDATA_START, offset)) {
+					inCData = true;
+					advance(CDATA_START.length());
+				} else if (text.startsWith(COMMENT_START, offset)) {
+					skipTo(COMMENT_END);
+				} else if (text.startsWith(PI_START, offset)) {
+					skipTo(PI_END);
+				} else {
+					skipTo(">");
+				}
+				continue;
+			}
+			if (text.startsWith(EXPRESSION_START, offset)) {
+				emit(propertyName, consumer);
+				// Continue inside the expression, to find the nested expressions
+				advance(EXPRESSION_START.length());
+				continue;
+			}
+			advance(1);
+		}
+	}
+
+	private void emit(String propertyName, Consumer<PropertyUsage> consumer) {
+		int nameStart = offset + EXPRESSION_START.length();
+		int nameEnd = nameStart;
+		while (nameEnd < text.length()) {
+			char c = text.charAt(nameEnd);
+			if (c == EXPRESSION_END || c == '<' || text.startsWith(EXPRESSION_START, nameEnd)) {
+				break;
+			}
+			nameEnd++;
+		}
+		if (nameEnd >= text.length() || text.charAt(nameEnd) != EXPRESSION_END || nameEnd == nameStart) {
+			// Incomplete or nested expression
+			return;
+		}
+		String name = text.substring(nameStart, nameEnd);
+		if (propertyName != null && !propertyName.equals(name)) {
+			return;
+		}
+		Position start = new Position(line, character);
+		Position startName = positionAt(start, offset, nameStart);
+		Position endName = positionAt(startName, nameStart, nameEnd);
+		Position end = new Position(endName.getLine(), endName.getCharacter() + 1);
+		consumer.accept(new PropertyUsage(name, new Range(start, end), new Range(startName, endName)));
+	}
+
+	/*
+	 * Returns the position of the given offset, from the position of a previous
+	 * offset
+	 */
+	private Position positionAt(Position from, int fromOffset, int toOffset) {
+		int l = from.getLine();
+		int c = from.getCharacter();
+		for (int i = fromOffset; i < toOffset; i++) {
+			char ch = text.charAt(i);
+			if (ch == '\n' || (ch == '\r' && (i + 1 >= text.length() || text.charAt(i + 1) != '\n'))) {
+				l++;
+				c = 0;
+			} else {
+				c++;
+			}
+		}
+		return new Position(l, c);
+	}
+
+	private void skipTo(String end) {
+		int index = text.indexOf(end, offset + 1);
+		advance(index == -1 ? text.length() - offset : index + end.length() - offset);
+	}
+
+	private void advance(int count) {
+		int end = Math.min(offset + count, text.length());
+		for (; offset < end; offset++) {
+			char ch = text.charAt(offset);
+			if (ch == '\n' || (ch == '\r' && (offset + 1 >= text.length() || text.charAt(offset + 1) != '\n'))) {
+				line++;
+				character = 0;
+			} else {
+				character++;
+			}
+		}
+	}
+}
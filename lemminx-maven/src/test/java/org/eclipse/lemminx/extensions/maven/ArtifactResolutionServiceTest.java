@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.impl.ArtifactResolver;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.junit.jupiter.api.Test;
+
+public class ArtifactResolutionServiceTest {
+
+	private static class BlockingArtifactResolver implements ArtifactResolver {
+
+		private final CountDownLatch release = new CountDownLatch(1);
+		private final AtomicInteger calls = new AtomicInteger();
+
+		@Override
+		public ArtifactResult resolveArtifact(RepositorySystemSession session, ArtifactRequest request)
+				throws ArtifactResolutionException {
+			calls.incrementAndGet();
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			ArtifactResult result = new ArtifactResult(request);
+			if ("missing".equals(request.getArtifact().getArtifactId())) {
+				throw new ArtifactResolutionException(List.of(result));
+			}
+			result.setArtifact(request.getArtifact());
+			return result;
+		}
+
+		@Override
+		public List<ArtifactResult> resolveArtifacts(RepositorySystemSession session,
+				Collection<? extends ArtifactRequest> requests) throws ArtifactResolutionException {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	@Test
+	public void testConcurrentRequestsShareResolution() throws Exception {
+		BlockingArtifactResolver resolver = new BlockingArtifactResolver();
+		ArtifactResolutionService service = new ArtifactResolutionService(null, resolver, null);
+		try {
+			Artifact artifact = new DefaultArtifact("org.test", "test", "jar", "1.0");
+			CompletableFuture<Artifact> hover = service.resolve(artifact, List.of(),
+					ArtifactResolutionService.Priority.FOREGROUND);
+			CompletableFuture<Artifact> validation = service.resolve(new DefaultArtifact("org.test:test:1.0"),
+					List.of(), ArtifactResolutionService.Priority.BACKGROUND);
+
+			// Giving up a request doesn't cancel the shared resolution
+			hover.cancel(true);
+			resolver.release.countDown();
+			assertSame(artifact, validation.get(10, TimeUnit.SECONDS));
+			assertEquals(1, resolver.calls.get());
+		} finally {
+			service.stop();
+		}
+	}
+
+	@Test
+	public void testRequestsFromOtherRepositoriesAreNotShared() throws Exception {
+		BlockingArtifactResolver resolver = new BlockingArtifactResolver();
+		ArtifactResolutionService service = new ArtifactResolutionService(null, resolver, null);
+		try {
+			RemoteRepository central = new RemoteRepository.Builder("central", "default",
+					"https://repo.maven.apache.org/maven2").build();
+			RemoteRepository other = new RemoteRepository.Builder("other", "default", "https://repo.example.org/maven2")
+					.build();
+			Artifact artifact = new DefaultArtifact("org.test", "test", "jar", "1.0");
+			CompletableFuture<Artifact> fromCentral = service.resolve(artifact, List.of(central),
+					ArtifactResolutionService.Priority.FOREGROUND);
+			CompletableFuture<Artifact> fromCentralAgain = service.resolve(artifact, List.of(central),
+					ArtifactResolutionService.Priority.BACKGROUND);
+			CompletableFuture<Artifact> fromOther = service.resolve(artifact, List.of(central, other),
+					ArtifactResolutionService.Priority.BACKGROUND);
+
+			resolver.release.countDown();
+			assertSame(artifact, fromCentral.get(10, TimeUnit.SECONDS));
+			assertSame(artifact, fromCentralAgain.get(10, TimeUnit.SECONDS));
+			assertSame(artifact, fromOther.get(10, TimeUnit.SECONDS));
+			assertEquals(2, resolver.calls.get());
+		} finally {
+			service.stop();
+		}
+	}
+
+	@Test
+	public void testFailedResolution() throws Exception {
+		BlockingArtifactResolver resolver = new BlockingArtifactResolver();
+		resolver.release.countDown();
+		ArtifactResolutionService service = new ArtifactResolutionService(null, resolver, null);
+		try {
+			Artifact artifact = new DefaultArtifact("org.test", "missing", "jar", "1.0");
+			CompletableFuture<Artifact> future = service.resolve(artifact, List.of(),
+					ArtifactResolutionService.Priority.FOREGROUND);
+			ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+			assertTrue(e.getCause() instanceof ArtifactResolutionException);
+
+			// A completed resolution is not shared with the next requests
+			CompletableFuture<Artifact> retry = service.resolve(artifact, List.of(),
+					ArtifactResolutionService.Priority.FOREGROUND);
+			assertThrows(ExecutionException.class, () -> retry.get(10, TimeUnit.SECONDS));
+			assertEquals(2, resolver.calls.get());
+		} finally {
+			service.stop();
+		}
+	}
+
+	@Test
+	public void testKnownFailureIsNotResolvedAgain() throws Exception {
+		BlockingArtifactResolver resolver = new BlockingArtifactResolver();
+		resolver.release.countDown();
+		ResolutionFailureCache failures = new ResolutionFailureCache(10);
+		ArtifactResolutionService service = new ArtifactResolutionService(null, resolver, failures);
+		try {
+			Artifact artifact = new DefaultArtifact("org.test", "missing", "jar", "1.0");
+			CompletableFuture<Artifact> future = service.resolve(artifact, List.of(),
+					ArtifactResolutionService.Priority.FOREGROUND);
+			assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+			assertEquals(1, failures.size());
+
+			CompletableFuture<Artifact> retry = service.resolve(artifact, List.of(),
+					ArtifactResolutionService.Priority.FOREGROUND);
+			assertTrue(retry.isCompletedExceptionally());
+			assertEquals(1, resolver.calls.get());
+
+			// "Retry unresolved artifacts"
+			failures.clear();
+			CompletableFuture<Artifact> afterClear = service.resolve(artifact, List.of(),
+					ArtifactResolutionService.Priority.FOREGROUND);
+			assertThrows(ExecutionException.class, () -> afterClear.get(10, TimeUnit.SECONDS));
+			assertEquals(2, resolver.calls.get());
+		} finally {
+			service.stop();
+		}
+	}
+
+	@Test
+	public void testKnownFailureIsScopedToTheRepositories() throws Exception {
+		BlockingArtifactResolver resolver = new BlockingArtifactResolver();
+		resolver.release.countDown();
+		ResolutionFailureCache failures = new ResolutionFailureCache(10);
+		ArtifactResolutionService service = new ArtifactResolutionService(null, resolver, failures);
+		try {
+			Artifact artifact = new DefaultArtifact("org.test", "missing", "jar", "1.0");
+			List<RemoteRepository> repositories = List
+					.of(new RemoteRepository.Builder("a", "default", "https://a.test/").build());
+			CompletableFuture<Artifact> future = service.resolve(artifact, repositories,
+					ArtifactResolutionService.Priority.FOREGROUND);
+			assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+			assertTrue(service.resolve(artifact, repositories, ArtifactResolutionService.Priority.FOREGROUND)
+					.isCompletedExceptionally());
+			assertEquals(1, resolver.calls.get());
+
+			// Other repositories are searched although the artifact wasn't found in the first ones
+			List<RemoteRepository> otherRepositories = List
+					.of(new RemoteRepository.Builder("b", "default", "https://b.test/").build());
+			CompletableFuture<Artifact> other = service.resolve(artifact, otherRepositories,
+					ArtifactResolutionService.Priority.FOREGROUND);
+			assertThrows(ExecutionException.class, () -> other.get(10, TimeUnit.SECONDS));
+			assertEquals(2, resolver.calls.get());
+		} finally {
+			service.stop();
+		}
+	}
+}
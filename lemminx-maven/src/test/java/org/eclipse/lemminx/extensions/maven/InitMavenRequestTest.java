@@ -13,6 +13,7 @@ import static org.eclipse.lemminx.extensions.maven.utils.LocalRepositoryUtils.ge
 import static org.eclipse.lemminx.extensions.maven.utils.LocalRepositoryUtils.MAVEN_LOCAL_REPO_PROPERTY_NAME;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.BufferedWriter;
@@ -173,6 +174,17 @@ public class InitMavenRequestTest {
 		}
 	}
 	
+	@Test
+	public void testOfflineSettings() throws Exception {
+		MavenLemminxExtension plugin = new MavenLemminxExtension();
+		plugin.settings.setOffline(true);
+
+		assertTrue(plugin.getMavenSession().getRequest().isOffline());
+		RepositorySystemSession repositorySession = plugin.getMavenSession().getRepositorySession();
+		assertTrue(repositorySession.isOffline());
+		assertTrue(plugin.getCentralSearcher().isEmpty());
+	}
+
 	private static boolean isWindows() {
 		return System.getProperty("os.name", "").toLowerCase().contains("windows");
 	}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.maven.project.PomDocumentCache;
+import org.eclipse.lemminx.extensions.maven.project.WorkspacePropertyIndex;
+import org.eclipse.lemminx.extensions.maven.project.WorkspacePropertyIndex.IndexedPom;
+import org.eclipse.lemminx.extensions.maven.utils.PropertyUsageScanner;
+
+/**
+ * Measures the collection of the edits of a property rename over a synthetic
+ * multi-module workspace: a parent POM defining a property, and modules using
+ * it in their dependencies.
+ *
+ * The benchmark reports the median time of a cold rename (empty index and
+ * document cache), of a warm rename (nothing changed since the last rename),
+ * and of a single scan of all the module texts.
+ *
+ * Usage: <code>PropertyRenameBenchmark [modules] [usages per module]
+ * [runs]</code>
+ */
+public class PropertyRenameBenchmark {
+
+	private static final String PROPERTY_NAME = "shared.version";
+
+	public static void main(String[] args) throws Exception {
+		int modules = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+		int usages = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+		int runs = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+		File workspace = Files.createTempDirectory("property-rename-benchmark").toFile();
+		try {
+			File parentFile = writeParent(workspace);
+			List<File> files = new ArrayList<>();
+			files.add(parentFile);
+			for (int i = 0; i < modules; i++) {
+				files.add(writeModule(workspace, i, usages));
+			}
+			DOMDocument parent = DOMParser.getInstance()
+					.parse(new TextDocument(Files.readString(parentFile.toPath()), parentFile.toURI().toString()), null);
+			List<String> texts = new ArrayList<>();
+			for (File file : files) {
+				texts.add(Files.readString(file.toPath()));
+			}
+
+			long[] cold = new long[runs];
+			long[] warm = new long[runs];
+			long[] scan = new long[runs];
+			int edits = 0;
+			for (int i = 0; i < runs; i++) {
+				WorkspacePropertyIndex index = new WorkspacePropertyIndex(null, new PomDocumentCache(null, null),
+						() -> files);
+				long start = System.nanoTime();
+				edits = collectEdits(index, parent);
+				cold[i] = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				collectEdits(index, parent);
+				warm[i] = System.nanoTime() - start;
+
+				start = System.nanoTime();
+				int[] count = new int[1];
+				for (String text : texts) {
+					PropertyUsageScanner.scan(text, PROPERTY_NAME, () -> {
+					}, usage -> count[0]++);
+				}
+				scan[i] = System.nanoTime() - start;
+			}
+			System.out.println("Rename of " + PROPERTY_NAME + " over " + (modules + 1) + " POMs (" + edits
+					+ " edits), median of " + runs + " runs: cold " + median(cold) + "ms, warm " + median(warm)
+					+ "ms, text scan only " + median(scan) + "ms");
+		} finally {
+			try (Stream<Path> paths = Files.walk(workspace.toPath())) {
+				paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+			}
+		}
+	}
+
+	private static int collectEdits(WorkspacePropertyIndex index, DOMDocument parent) {
+		int edits = 0;
+		for (IndexedPom pom : index.getHierarchy(parent, () -> {
+		})) {
+			edits += pom.getUsages(PROPERTY_NAME).size();
+			if (pom.getDefinitions().containsKey(PROPERTY_NAME)) {
+				edits += 2;
+			}
+		}
+		return edits;
+	}
+
+	private static File writeParent(File workspace) throws IOException {
+		File file = new File(workspace, "pom.xml");
+		Files.writeString(file.toPath(), """
+				<project xmlns="http://maven.apache.org/POM/4.0.0">
+				  <modelVersion>4.0.0</modelVersion>
+				  <groupId>org.example.benchmark</groupId>
+				  <artifactId>parent</artifactId>
+				  <version>1.0.0</version>
+				  <packaging>pom</packaging>
+				  <properties>
+				    <%1$s>2.0.0</%1$s>
+				  </properties>
+				</project>
+				""".formatted(PROPERTY_NAME));
+		return file;
+	}
+
+	private static File writeModule(File workspace, int module, int usages) throws IOException {
+		File directory = new File(workspace, "module-" + module);
+		directory.mkdirs();
+		StringBuilder dependencies = new StringBuilder();
+		for (int i = 0; i < usages; i++) {
+			dependencies.append("""
+					    <dependency>
+					      <!-- Dependency ${%1$s} -->
+					      <groupId>org.example.benchmark</groupId>
+					      <artifactId>library-%2$d</artifactId>
+					      <version>${%1$s}</version>
+					    </dependency>
+					""".formatted(PROPERTY_NAME, i));
+		}
+		File file = new File(directory, "pom.xml");
+		Files.writeString(file.toPath(), """
+				<project xmlns="http://maven.apache.org/POM/4.0.0">
+				  <modelVersion>4.0.0</modelVersion>
+				  <parent>
+				    <groupId>org.example.benchmark</groupId>
+				    <artifactId>parent</artifactId>
+				    <version>1.0.0</version>
+				  </parent>
+				  <artifactId>module-%d</artifactId>
+				  <dependencies>
+				%s  </dependencies>
+				</project>
+				""".formatted(module, dependencies));
+		return file;
+	}
+
+	private static long median(long[] values) {
+		long[] sorted = values.clone();
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2] / 1_000_000;
+	}
+}
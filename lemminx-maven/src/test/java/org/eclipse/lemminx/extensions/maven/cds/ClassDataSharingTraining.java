@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.cds;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Creates a dynamic class-data-sharing (AppCDS) archive for the LemMinX
+ * server running with the LemMinX-Maven extension, and measures the startup
+ * time with and without it.
+ *
+ * The training run starts the server with
+ * <code>-XX:ArchiveClassesAtExit</code>, opens and hovers the test POMs, and
+ * stops the server once the Maven components are initialized. The benchmark
+ * then measures, for each mode, the time between the launch of the server and
+ * the end of the Maven initialization (see the
+ * <code>Maven initialization took</code> log).
+ *
+ * Usage: <code>ClassDataSharingTraining &lt;lemminx uber jar&gt;
+ * &lt;extension jars directory&gt; &lt;archive file&gt; &lt;POMs directory&gt;
+ * [benchmark runs]</code>
+ */
+public class ClassDataSharingTraining {
+
+	private static final String INITIALIZED_LOG = "Maven initialization took";
+
+	private static final long TIMEOUT_SECONDS = 300;
+
+	private static final int MAX_TRAINING_POMS = 20;
+
+	public static void main(String[] args) throws Exception {
+		if (args.length < 4) {
+			throw new IllegalArgumentException(
+					"Usage: ClassDataSharingTraining <lemminx uber jar> <extension jars directory> <archive file> <POMs directory> [benchmark runs]");
+		}
+		String classpath = getClasspath(new File(args[0]), new File(args[1]));
+		File archive = new File(args[2]);
+		List<File> poms = getTrainingPoms(new File(args[3]));
+		int runs = args.length > 4 ? Integer.parseInt(args[4]) : 3;
+
+		Files.deleteIfExists(archive.toPath());
+		long trainingTime = run(classpath, "-XX:ArchiveClassesAtExit=" + archive.getAbsolutePath(), poms);
+		if (!archive.isFile()) {
+			throw new IllegalStateException("The class-data-sharing archive " + archive + " was not created");
+		}
+		System.out.println("Created " + archive + " (" + archive.length() / 1024 + " KB) in " + trainingTime + "ms");
+
+		if (runs > 0) {
+			long[] withoutArchive = new long[runs];
+			long[] withArchive = new long[runs];
+			for (int i = 0; i < runs; i++) {
+				withoutArchive[i] = run(classpath, "-Xshare:auto", poms.subList(0, 1));
+				withArchive[i] = run(classpath, "-XX:SharedArchiveFile=" + archive.getAbsolutePath(),
+						poms.subList(0, 1));
+			}
+			System.out.println("Maven initialization (median of " + runs + " runs): without archive "
+					+ median(withoutArchive) + "ms, with archive " + median(withArchive) + "ms");
+		}
+	}
+
+	private static String getClasspath(File lemminxJar, File extensionJarsDirectory) {
+		File[] extensionJars = extensionJarsDirectory.listFiles((dir, name) -> name.endsWith(".jar"));
+		if (!lemminxJar.isFile() || extensionJars == null || extensionJars.length == 0) {
+			throw new IllegalArgumentException("Missing LemMinX jar or extension jars");
+		}
+		// The archive can only be used by a JVM started with the same classpath,
+		// in the same order
+		return Stream.concat(Stream.of(lemminxJar), Arrays.stream(extensionJars).sorted())
+				.map(File::getAbsolutePath).collect(Collectors.joining(File.pathSeparator));
+	}
+
+	private static List<File> getTrainingPoms(File directory) {
+		File[] poms = directory.listFiles((dir, name) -> name.startsWith("pom") && name.endsWith(".xml"));
+		if (poms == null || poms.length == 0) {
+			throw new IllegalArgumentException("No POM found in " + directory);
+		}
+		return Arrays.stream(poms).sorted().limit(MAX_TRAINING_POMS).toList();
+	}
+
+	/**
+	 * Starts the server with the given JVM option, opens and hovers the given
+	 * POMs, waits for the Maven initialization and stops the server.
+	 *
+	 * @return the time between the launch of the server and the end of the Maven
+	 *         initialization, in milliseconds
+	 */
+	private static long run(String classpath, String jvmOption, List<File> poms) throws Exception {
+		String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		long start = System.nanoTime();
+		Process process = new ProcessBuilder(java, jvmOption, "-cp", classpath, "org.eclipse.lemminx.XMLServerLauncher")
+				.start();
+		BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+		startReader(process.getInputStream(), messages, true);
+		startReader(process.getErrorStream(), messages, false);
+		try (OutputStream out = process.getOutputStream()) {
+			send(out, request(1, "initialize", "{\"processId\":null,\"rootUri\":null,\"capabilities\":{},"
+					+ "\"initializationOptions\":{\"settings\":{\"xml\":{\"maven\":{\"central\":{\"skip\":true}}}}}}"));
+			await(messages, "\"id\":1,");
+			send(out, notification("initialized", "{}"));
+			int id = 2;
+			for (File pom : poms) {
+				String uri = pom.toURI().toString();
+				String text = Files.readString(pom.toPath());
+				send(out, notification("textDocument/didOpen", "{\"textDocument\":{\"uri\":\"" + uri
+						+ "\",\"languageId\":\"xml\",\"version\":1,\"text\":\"" + escape(text) + "\"}}"));
+				int offset = Math.max(0, text.indexOf("<artifactId>"));
+				String before = text.substring(0, offset);
+				int line = (int) before.chars().filter(c -> c == '\n').count();
+				int character = offset - (before.lastIndexOf('\n') + 1) + 1;
+				send(out, request(id++, "textDocument/hover", "{\"textDocument\":{\"uri\":\"" + uri
+						+ "\"},\"position\":{\"line\":" + line + ",\"character\":" + character + "}}"));
+			}
+			await(messages, INITIALIZED_LOG);
+			long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			send(out, request(id, "shutdown", "null"));
+			await(messages, "\"id\":" + id + ",");
+			send(out, notification("exit", "null"));
+			if (!process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("The server didn't stop");
+			}
+			return elapsed;
+		} finally {
+			process.destroy();
+		}
+	}
+
+	private static void await(BlockingQueue<String> messages, String expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+		while (System.nanoTime() < deadline) {
+			String message = messages.poll(1, TimeUnit.SECONDS);
+			if (message != null && message.contains(expected)) {
+				return;
+			}
+		}
+		throw new IllegalStateException("Timeout while waiting for '" + expected + "'");
+	}
+
+	private static void startReader(InputStream in, BlockingQueue<String> messages, boolean jsonRpc) {
+		Thread thread = new Thread(() -> {
+			try {
+				if (jsonRpc) {
+					readMessages(in, messages);
+				} else {
+					BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+					String line;
+					while ((line = reader.readLine()) != null) {
+						messages.add(line);
+					}
+				}
+			} catch (IOException e) {
+				// The server is stopped
+			}
+		});
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	private static void readMessages(InputStream in, BlockingQueue<String> messages) throws IOException {
+		while (true) {
+			int length = -1;
+			String header;
+			while (!(header = readLine(in)).isEmpty()) {
+				if (header.startsWith("Content-Length:")) {
+					length = Integer.parseInt(header.substring("Content-Length:".length()).trim());
+				}
+			}
+			if (length < 0) {
+				throw new IOException("Missing Content-Length header");
+			}
+			messages.add(new String(in.readNBytes(length), StandardCharsets.UTF_8));
+		}
+	}
+
+	private static String readLine(InputStream in) throws IOException {
+		StringBuilder line = new StringBuilder();
+		int c;
+		while ((c = in.read()) != '\n') {
+			if (c == -1) {
+				throw new IOException("End of stream");
+			}
+			if (c != '\r') {
+				line.append((char) c);
+			}
+		}
+		return line.toString();
+	}
+
+	private static void send(OutputStream out, String message) throws IOException {
+		byte[] content = message.getBytes(StandardCharsets.UTF_8);
+		out.write(("Content-Length: " + content.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+		out.write(content);
+		out.flush();
+	}
+
+	private static String request(int id, String method, String params) {
+		return "{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"method\":\"" + method + "\",\"params\":" + params + "}";
+	}
+
+	private static String notification(String method, String params) {
+		return "{\"jsonrpc\":\"2.0\",\"method\":\"" + method + "\",\"params\":" + params + "}";
+	}
+
+	private static String escape(String text) {
+		StringBuilder escaped = new StringBuilder(text.length());
+		for (char c : text.toCharArray()) {
+			switch (c) {
+			case '"' -> escaped.append("\\\"");
+			case '\\' -> escaped.append("\\\\");
+			case '\n' -> escaped.append("\\n");
+			case '\r' -> escaped.append("\\r");
+			case '\t' -> escaped.append("\\t");
+			default -> {
+				if (c < 0x20) {
+					escaped.append(String.format("\\u%04x", (int) c));
+				} else {
+					escaped.append(c);
+				}
+			}
+			}
+		}
+		return escaped.toString();
+	}
+
+	private static long median(long[] values) {
+		long[] sorted = values.clone();
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2];
+	}
+}
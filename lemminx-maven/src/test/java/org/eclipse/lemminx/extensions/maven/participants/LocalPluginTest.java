@@ -22,7 +22,9 @@ import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 
+import org.eclipse.lemminx.commons.TextDocument;
 import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
 import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
 import org.eclipse.lemminx.extensions.maven.MavenLanguageService;
 import org.eclipse.lemminx.extensions.maven.NoMavenCentralExtension;
@@ -248,6 +250,31 @@ public class LocalPluginTest {
 		assertTrue(languageService.doDiagnostics(document, new XMLValidationSettings(), Map.of(), () -> {}).size() == 2);
 	}
 
+	@Test
+	@Timeout(30000)
+	public void testPluginConfigurationDiagnosticsAfterUnrelatedEdit() throws IOException, URISyntaxException {
+		DOMDocument document = createDOMDocument("/pom-plugin-configuration-diagnostic.xml", languageService);
+		languageService.didOpen(document);
+		List<Diagnostic> before = languageService.doDiagnostics(document, new XMLValidationSettings(), Map.of(), () -> {}).stream()
+				.filter(diagnostic -> diagnostic.getMessage().contains("Invalid plugin configuration")).toList();
+		assertEquals(2, before.size());
+
+		// simulate an edit outside of the plugin element
+		TextDocument textDocument = document.getTextDocument();
+		textDocument.setText(textDocument.getText().replace("<build>", "<name>test</name>\n<build>"));
+		textDocument.setVersion(textDocument.getVersion() + 1);
+		document = DOMParser.getInstance().parse(textDocument, languageService.getResolverExtensionManager());
+		languageService.didOpen(document);
+		List<Diagnostic> after = languageService.doDiagnostics(document, new XMLValidationSettings(), Map.of(), () -> {}).stream()
+				.filter(diagnostic -> diagnostic.getMessage().contains("Invalid plugin configuration")).toList();
+		assertEquals(before.size(), after.size());
+		for (int i = 0; i < before.size(); i++) {
+			assertEquals(before.get(i).getMessage(), after.get(i).getMessage());
+			assertEquals(before.get(i).getRange().getStart().getLine() + 1, after.get(i).getRange().getStart().getLine());
+			assertEquals(before.get(i).getRange().getEnd().getLine() + 1, after.get(i).getRange().getEnd().getLine());
+		}
+	}
+
 	@Test
 	public void testPluginGoalDiagnostics() throws IOException, InterruptedException, ExecutionException, URISyntaxException {
 		DOMDocument document = createDOMDocument("/pom-plugin-goal-diagnostic.xml", languageService);
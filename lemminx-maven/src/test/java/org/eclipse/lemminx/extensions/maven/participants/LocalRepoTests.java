@@ -9,14 +9,18 @@
 package org.eclipse.lemminx.extensions.maven.participants;
 
 import static org.eclipse.lemminx.extensions.maven.utils.MavenLemminxTestsUtils.createDOMDocument;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 
 import org.eclipse.aether.artifact.Artifact;
@@ -34,6 +38,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 
 @ExtendWith(NoMavenCentralExtension.class)
 public class LocalRepoTests {
@@ -114,4 +119,26 @@ public class LocalRepoTests {
 			plugin.stop(languageService);
 		}
 	}
+
+	@Test
+	public void testLocalArtifactsLastRelease(@TempDir Path repository) throws Exception {
+		for (String pom : List.of("org/test/a/1.0/a-1.0.pom", "org/test/a/2.0-SNAPSHOT/a-2.0-SNAPSHOT.pom",
+				"org/test/b/1.0-M1/b-1.0-M1.pom")) {
+			Files.createDirectories(repository.resolve(pom).getParent());
+			Files.writeString(repository.resolve(pom), "<project/>");
+		}
+		LocalRepositorySearcher searcher = new LocalRepositorySearcher(Set.of(repository.toFile()), null);
+		try {
+			// The newer SNAPSHOT version doesn't hide the release, b has no release
+			assertEquals(List.of("a:1.0"), toVersions(searcher.getLocalArtifactsLastRelease().get()));
+			assertEquals(List.of("a:2.0-SNAPSHOT", "b:1.0-M1"), toVersions(searcher.getLocalArtifactsLastVersion()));
+		} finally {
+			searcher.stop();
+		}
+	}
+
+	private static List<String> toVersions(Collection<Artifact> artifacts) {
+		return artifacts.stream().map(artifact -> artifact.getArtifactId() + ':' + artifact.getVersion()).sorted()
+				.toList();
+	}
 }
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.participants.diagnostics;
+
+import static org.eclipse.lemminx.extensions.maven.project.MavenProjectTestsUtils.createDependencyNode;
+import static org.eclipse.lemminx.extensions.maven.project.MavenProjectTestsUtils.resolveDependencyGraph;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.lemminx.extensions.maven.participants.diagnostics.DependencyConvergenceValidator.Conflict;
+import org.junit.jupiter.api.Test;
+
+public class DependencyConvergenceValidatorTest {
+
+	@Test
+	public void testNonConvergingTransitiveDependency() throws Exception {
+		DefaultDependencyNode root = new DefaultDependencyNode(new DefaultArtifact("org.test:project:1.0"));
+		DefaultDependencyNode a = createDependencyNode("org.test:a:1.0");
+		DefaultDependencyNode b = createDependencyNode("org.test:b:1.0");
+		DefaultDependencyNode x = createDependencyNode("org.test:x:1.0");
+		a.setChildren(new ArrayList<>(List.of(createDependencyNode("org.test:c:1.0"))));
+		x.setChildren(new ArrayList<>(List.of(createDependencyNode("org.test:c:2.0"))));
+		b.setChildren(new ArrayList<>(List.of(x, createDependencyNode("org.test:d:1.0"))));
+		root.setChildren(new ArrayList<>(List.of(a, b)));
+
+		List<Conflict> conflicts = DependencyConvergenceValidator.analyze(resolveDependencyGraph(root));
+		assertEquals(1, conflicts.size());
+		Conflict conflict = conflicts.get(0);
+		assertEquals("org.test", conflict.groupId());
+		assertEquals("b", conflict.artifactId());
+		assertEquals("Dependency convergence error for org.test:c: 2.0 required by org.test:b:1.0 > org.test:x:1.0"
+				+ " is omitted for conflict with 1.0", conflict.message());
+	}
+
+	@Test
+	public void testConvergingDependencies() throws Exception {
+		DefaultDependencyNode root = new DefaultDependencyNode(new DefaultArtifact("org.test:project:1.0"));
+		DefaultDependencyNode a = createDependencyNode("org.test:a:1.0");
+		DefaultDependencyNode b = createDependencyNode("org.test:b:1.0");
+		a.setChildren(new ArrayList<>(List.of(createDependencyNode("org.test:c:1.0"))));
+		b.setChildren(new ArrayList<>(List.of(createDependencyNode("org.test:c:1.0"))));
+		root.setChildren(new ArrayList<>(List.of(a, b)));
+
+		assertTrue(DependencyConvergenceValidator.analyze(resolveDependencyGraph(root)).isEmpty());
+		// Not resolved with a recording session
+		assertTrue(DependencyConvergenceValidator.analyze(root).isEmpty());
+	}
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.participants.hover;
+
+import static org.eclipse.lemminx.extensions.maven.utils.MavenLemminxTestsUtils.createDOMDocument;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.extensions.maven.MavenLanguageService;
+import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
+import org.eclipse.lemminx.extensions.maven.NoMavenCentralExtension;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.eclipse.lemminx.services.extensions.hover.IHoverParticipant;
+import org.eclipse.lemminx.settings.SharedSettings;
+import org.eclipse.lsp4j.Hover;
+import org.eclipse.lsp4j.HoverCapabilities;
+import org.eclipse.lsp4j.MarkupKind;
+import org.eclipse.lsp4j.Position;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(NoMavenCentralExtension.class)
+public class ArtifactHoverLatencyBudgetTest {
+
+	private XMLLanguageService languageService;
+
+	// The hover stages are queued here and only run when the test releases them
+	private final Queue<Runnable> stalledStages = new ConcurrentLinkedQueue<>();
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		languageService = new MavenLanguageService();
+		languageService.initializeIfNeeded();
+		MavenLemminxExtension plugin = languageService.getExtensions().stream() //
+				.filter(MavenLemminxExtension.class::isInstance) //
+				.map(MavenLemminxExtension.class::cast) //
+				.findAny().get();
+		List<IHoverParticipant> participants = languageService.getHoverParticipants().stream()
+				.filter(MavenHoverParticipant.class::isInstance).toList();
+		participants.forEach(languageService::unregisterHoverParticipant);
+		languageService.registerHoverParticipant(new MavenHoverParticipant(plugin, stalledStages::add, true));
+	}
+
+	@AfterEach
+	public void tearDown() throws InterruptedException, ExecutionException {
+		languageService.dispose();
+		languageService = null;
+	}
+
+	@Test
+	@Timeout(90000)
+	void testStalledStageReturnsPartialHover() throws IOException, URISyntaxException {
+		DOMDocument document = createDOMDocument("/pom-dependencyManagement-child.xml", languageService);
+		Position position = new Position(15, 25);
+
+		// The resolution stage doesn't complete within its latency budget
+		Hover hover = languageService.doHover(document, position, createSharedSettings());
+		assertNotNull(hover);
+		String value = hover.getContents().getRight().getValue();
+		assertTrue(value.contains("The artifact description is still loading."), value);
+		assertFalse(value.contains("The managed version is"), value);
+		assertFalse(stalledStages.isEmpty());
+
+		// The next hover reuses the stages completed in background
+		Runnable stage;
+		while ((stage = stalledStages.poll()) != null) {
+			stage.run();
+		}
+		hover = languageService.doHover(document, position, createSharedSettings());
+		assertNotNull(hover);
+		value = hover.getContents().getRight().getValue();
+		assertFalse(value.contains("The artifact description is still loading."), value);
+		assertTrue(value.contains("The managed version is"), value);
+		assertTrue(value.contains("2.22.2"), value);
+	}
+
+	private static SharedSettings createSharedSettings() {
+		HoverCapabilities hoverCapabilities = new HoverCapabilities();
+		hoverCapabilities.setContentFormat(List.of(MarkupKind.MARKDOWN));
+		SharedSettings sharedSettings = new SharedSettings();
+		sharedSettings.getHoverSettings().setCapabilities(hoverCapabilities);
+		return sharedSettings;
+	}
+}
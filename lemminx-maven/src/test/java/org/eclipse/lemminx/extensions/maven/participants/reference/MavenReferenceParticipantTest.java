@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.participants.reference;
+
+import static org.eclipse.lemminx.extensions.maven.utils.MavenLemminxTestsUtils.createDOMDocument;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.File;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.extensions.maven.MavenLanguageService;
+import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
+import org.eclipse.lemminx.extensions.maven.MavenWorkspaceService;
+import org.eclipse.lemminx.extensions.maven.NoMavenCentralExtension;
+import org.eclipse.lemminx.services.extensions.IWorkspaceServiceParticipant;
+import org.eclipse.lsp4j.DidChangeWorkspaceFoldersParams;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.ReferenceContext;
+import org.eclipse.lsp4j.WorkspaceFolder;
+import org.eclipse.lsp4j.WorkspaceFoldersChangeEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(NoMavenCentralExtension.class)
+public class MavenReferenceParticipantTest {
+	private MavenLanguageService languageService = new MavenLanguageService();
+
+	@Test
+	public void testPropertyReferencesInWorkspace() throws Exception {
+		IWorkspaceServiceParticipant workspaceService = languageService.getWorkspaceServiceParticipants().stream().filter(MavenWorkspaceService.class::isInstance).findAny().get();
+		assertNotNull(workspaceService);
+
+		URI folderUri = getClass().getResource("/property-refactoring/child").toURI();
+		WorkspaceFolder wsFolder = new WorkspaceFolder(folderUri.toString(), new File(folderUri.getPath()).getName());
+		workspaceService.didChangeWorkspaceFolders(
+				new DidChangeWorkspaceFoldersParams(
+						new WorkspaceFoldersChangeEvent (
+								Arrays.asList(new WorkspaceFolder[] {wsFolder}),
+								Arrays.asList(new WorkspaceFolder[0]))));
+
+		DOMDocument xmlDocument = createDOMDocument("/property-refactoring/child/parent/pom.xml", languageService);
+		languageService.didOpen(xmlDocument);
+		DOMDocument childXmlDocument = createDOMDocument("/property-refactoring/child/pom.xml", languageService);
+
+		String propertyName = "test-group-id";
+		int useOffset = xmlDocument.getText().indexOf("${" + propertyName + "}") + 2;
+		Position usePosition = xmlDocument.positionAt(useOffset + 1);
+
+		List<? extends Location> references = languageService.findReferences(xmlDocument, usePosition,
+				new ReferenceContext(true), () -> {});
+		int definitionOffset = xmlDocument.getText().indexOf("<" + propertyName + ">") + 1;
+		int childUseOffset = childXmlDocument.getText().indexOf("${" + propertyName + "}") + 2;
+		assertEquals(List.of(
+				new Location(xmlDocument.getDocumentURI(), range(xmlDocument, definitionOffset, propertyName)),
+				new Location(xmlDocument.getDocumentURI(), range(xmlDocument, useOffset, propertyName)),
+				new Location(childXmlDocument.getDocumentURI(), range(childXmlDocument, childUseOffset, propertyName))),
+				references);
+
+		// Without the declaration
+		references = languageService.findReferences(xmlDocument, usePosition, new ReferenceContext(false), () -> {});
+		assertEquals(2, references.size());
+
+		// The references from the child include the definition and the usages of its parent
+		Position childUsePosition = childXmlDocument.positionAt(childUseOffset + 1);
+		references = languageService.findReferences(childXmlDocument, childUsePosition, new ReferenceContext(true),
+				() -> {});
+		assertEquals(Set.of(
+				new Location(childXmlDocument.getDocumentURI(), range(childXmlDocument, childUseOffset, propertyName)),
+				new Location(xmlDocument.getDocumentURI(), range(xmlDocument, definitionOffset, propertyName)),
+				new Location(xmlDocument.getDocumentURI(), range(xmlDocument, useOffset, propertyName))),
+				Set.copyOf(references));
+	}
+
+	@Test
+	public void testArtifactReferencesFromDependencyIndex() throws Exception {
+		MavenLemminxExtension plugin = languageService.getExtensions().stream()
+				.filter(MavenLemminxExtension.class::isInstance).map(MavenLemminxExtension.class::cast).findAny()
+				.get();
+		DOMDocument parentXmlDocument = createDOMDocument("/artifact-references/parent/pom.xml", languageService);
+		DOMDocument childXmlDocument = createDOMDocument("/artifact-references/pom.xml", languageService);
+		languageService.didOpen(childXmlDocument);
+		// The built projects are added to the dependency index
+		assertNotNull(plugin.getProjectCache().getLastSuccessfulMavenProject(parentXmlDocument));
+		assertNotNull(plugin.getProjectCache().getLastSuccessfulMavenProject(childXmlDocument));
+
+		// The dependency is referenced by the managed dependency of the parent and by
+		// the dependency of the child
+		String dependency = "<artifactId>referenced-dependency";
+		List<? extends Location> references = languageService.findReferences(childXmlDocument,
+				childXmlDocument.positionAt(childXmlDocument.getText().indexOf(dependency) + dependency.length()),
+				new ReferenceContext(true), () -> {});
+		assertEquals(Set.of(artifactIdLocation(parentXmlDocument, dependency),
+				artifactIdLocation(childXmlDocument, dependency)), toFileLocations(references));
+
+		// The plugin is referenced by the managed plugin of the parent and by the
+		// build plugin of the child
+		String surefire = "<artifactId>maven-surefire-plugin";
+		references = languageService.findReferences(childXmlDocument,
+				childXmlDocument.positionAt(childXmlDocument.getText().indexOf(surefire) + surefire.length()),
+				new ReferenceContext(true), () -> {});
+		assertEquals(Set.of(artifactIdLocation(parentXmlDocument, surefire),
+				artifactIdLocation(childXmlDocument, surefire)), toFileLocations(references));
+	}
+
+	// Returns the location of the value of the given <artifactId>value text, with
+	// the file path instead of the URI
+	private static Location artifactIdLocation(DOMDocument document, String artifactIdText) throws Exception {
+		int end = document.getText().indexOf(artifactIdText) + artifactIdText.length();
+		int start = end - artifactIdText.substring("<artifactId>".length()).length();
+		return new Location(new File(URI.create(document.getDocumentURI())).getPath(),
+				new Range(document.positionAt(start), document.positionAt(end)));
+	}
+
+	private static Set<Location> toFileLocations(List<? extends Location> locations) {
+		return locations.stream()
+				.map(location -> new Location(new File(URI.create(location.getUri())).getPath(), location.getRange()))
+				.collect(Collectors.toSet());
+	}
+
+	private static Range range(DOMDocument document, int offset, String propertyName) throws Exception {
+		return new Range(document.positionAt(offset), document.positionAt(offset + propertyName.length()));
+	}
+}
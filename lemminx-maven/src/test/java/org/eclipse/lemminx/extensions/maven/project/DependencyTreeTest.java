@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import static org.eclipse.lemminx.extensions.maven.project.MavenProjectTestsUtils.createDependencyNode;
+import static org.eclipse.lemminx.extensions.maven.project.MavenProjectTestsUtils.resolveDependencyGraph;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.util.graph.manager.DependencyManagerUtils;
+import org.eclipse.lemminx.extensions.maven.project.DependencyTree.Node;
+import org.eclipse.lemminx.extensions.maven.project.DependencyTree.Page;
+import org.junit.jupiter.api.Test;
+
+public class DependencyTreeTest {
+
+	@Test
+	public void testConflictLosersAndManagedVersions() throws Exception {
+		DefaultDependencyNode root = new DefaultDependencyNode(new DefaultArtifact("org.test:project:1.0"));
+		DefaultDependencyNode a = createDependencyNode("org.test:a:1.0");
+		a.setManagedBits(DependencyNode.MANAGED_VERSION);
+		a.setData(DependencyManagerUtils.NODE_DATA_PREMANAGED_VERSION, "0.9");
+		DefaultDependencyNode b = createDependencyNode("org.test:b:1.0");
+		a.setChildren(new ArrayList<>(List.of(createDependencyNode("org.test:c:1.0"))));
+		b.setChildren(new ArrayList<>(
+				List.of(createDependencyNode("org.test:c:2.0"), createDependencyNode("org.test:d:1.0"))));
+		root.setChildren(new ArrayList<>(List.of(a, b)));
+
+		DependencyNode resolved = resolveDependencyGraph(root);
+
+		Page page = DependencyTree.getPage(resolved, DependencyTree.ROOT_ID, 0, 10, () -> {});
+		assertEquals("project", page.getNode().getArtifactId());
+		assertEquals(2, page.getTotal());
+		assertFalse(page.isResolving());
+		Node first = page.getChildren().get(0);
+		assertEquals("0", first.getId());
+		assertEquals("a", first.getArtifactId());
+		assertEquals("0.9", first.getPremanagedVersion());
+		assertEquals(1, first.getChildCount());
+
+		// The version 2.0 of c lost the conflict with the nearest version 1.0
+		page = DependencyTree.getPage(resolved, "1", 0, 10, () -> {});
+		assertEquals(2, page.getTotal());
+		assertEquals("d", page.getChildren().get(0).getArtifactId());
+		Node omitted = page.getChildren().get(1);
+		assertEquals("c", omitted.getArtifactId());
+		assertEquals("2.0", omitted.getVersion());
+		assertEquals("1.0", omitted.getOmittedForConflictWith());
+		assertNull(omitted.getId());
+
+		// Paging
+		page = DependencyTree.getPage(resolved, "1", 1, 1, () -> {});
+		assertEquals(1, page.getOffset());
+		assertEquals(List.of("c"), page.getChildren().stream().map(Node::getArtifactId).toList());
+		assertNull(DependencyTree.getPage(resolved, "5", 0, 10, () -> {}));
+
+		// The page answered while the dependencies are resolving
+		page = DependencyTree.getResolvingPage();
+		assertTrue(page.isResolving());
+		assertNull(page.getNode());
+		assertTrue(page.getChildren().isEmpty());
+	}
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import static org.eclipse.lemminx.extensions.maven.project.MavenProjectTestsUtils.createProject;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.model.InputLocation;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.junit.jupiter.api.Test;
+
+public class EffectivePomRendererTest {
+
+	@Test
+	public void testOnlyChangedSectionsAreRendered() throws Exception {
+		EffectivePomRenderer renderer = new EffectivePomRenderer();
+
+		String text = renderer.render(createProject("a", "junit", "4.13.2"), () -> {});
+		assertTrue(text.startsWith("<?xml"), text);
+		assertTrue(text.endsWith("</project>\n"), text);
+		assertTrue(text.contains("<artifactId>junit</artifactId>"), text);
+		assertTrue(text.contains("<version>4.13.2</version>"), text);
+		assertTrue(text.contains("<artifactId>junit</artifactId><!-- org.test:a:1.0, line 5 -->\n"), text);
+		assertTrue(text.indexOf("<properties>") < text.indexOf("<dependencies>"), text);
+		assertEquals(8, renderer.getLastRenderedSections());
+
+		// The same project is not rendered again
+		MavenProject project = createProject("a", "junit", "4.13.2");
+		renderer.render(project, () -> {});
+		assertEquals(0, renderer.getLastRenderedSections());
+		renderer.render(project, () -> {});
+		assertEquals(0, renderer.getLastRenderedSections());
+
+		// Only the dependencies of a rebuilt project are rendered again
+		text = renderer.render(createProject("a", "junit", "4.12"), () -> {});
+		assertEquals(1, renderer.getLastRenderedSections());
+		assertTrue(text.contains("<version>4.12</version>"), text);
+		assertTrue(text.contains("<shared.version>1.0</shared.version>"), text);
+	}
+
+	@Test
+	public void testChangesOutsideOfThePomFilesAreRendered() throws Exception {
+		EffectivePomRenderer renderer = new EffectivePomRenderer();
+		renderer.render(createProject("a", "junit", "4.13.2"), () -> {});
+
+		// The dependency moved to another line, its raw content is the same
+		MavenProject project = createProject("a", "junit", "4.13.2");
+		Dependency dependency = project.getModel().getDependencies().get(0);
+		InputLocation location = dependency.getLocation("artifactId");
+		dependency.setLocation("artifactId", new InputLocation(7, 4, location.getSource()));
+		String text = renderer.render(project, () -> {});
+		assertEquals(1, renderer.getLastRenderedSections());
+		assertTrue(text.contains("<artifactId>junit</artifactId><!-- org.test:a:1.0, line 7 -->\n"), text);
+
+		// A dependency managed by an imported BOM and a property of a settings
+		// profile are only in the effective model, the dependency is back at line 5
+		project = createProject("a", "junit", "4.13.2");
+		Dependency managed = new Dependency();
+		managed.setGroupId("org.test");
+		managed.setArtifactId("from-bom");
+		managed.setVersion("2.0");
+		DependencyManagement dependencyManagement = new DependencyManagement();
+		dependencyManagement.addDependency(managed);
+		project.getModel().setDependencyManagement(dependencyManagement);
+		project.getModel().addProperty("from.settings", "true");
+		text = renderer.render(project, () -> {});
+		assertEquals(3, renderer.getLastRenderedSections());
+		assertTrue(text.contains("<artifactId>from-bom</artifactId>"), text);
+		assertTrue(text.contains("<from.settings>true</from.settings>"), text);
+	}
+
+	@Test
+	public void testPluginConfigurationChangesAreRendered() throws Exception {
+		EffectivePomRenderer renderer = new EffectivePomRenderer();
+		renderer.render(withConfiguration(createProject("a", "junit", "4.13.2"), "1"), () -> {});
+
+		// The same configuration in a rebuilt project is not rendered again
+		renderer.render(withConfiguration(createProject("a", "junit", "4.13.2"), "1"), () -> {});
+		assertEquals(0, renderer.getLastRenderedSections());
+
+		// Only the build is rendered again when a configuration value changes
+		String text = renderer.render(withConfiguration(createProject("a", "junit", "4.13.2"), "2"), () -> {});
+		assertEquals(1, renderer.getLastRenderedSections());
+		assertTrue(text.contains("<forkCount>2</forkCount>"), text);
+	}
+
+	private static MavenProject withConfiguration(MavenProject project, String forkCount) {
+		Xpp3Dom configuration = new Xpp3Dom("configuration");
+		Xpp3Dom child = new Xpp3Dom("forkCount");
+		child.setValue(forkCount);
+		configuration.addChild(child);
+		Plugin plugin = project.getModel().getBuild().getPlugins().get(0);
+		plugin.setConfiguration(configuration);
+		return project;
+	}
+}
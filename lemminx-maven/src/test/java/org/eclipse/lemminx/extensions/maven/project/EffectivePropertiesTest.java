@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.project.DefaultProjectBuildingRequest;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+
+public class EffectivePropertiesTest {
+
+	@Test
+	public void testLayersAndInterpolation() {
+		Model model = new Model();
+		model.setGroupId("org.test");
+		model.setArtifactId("test");
+		model.setVersion("1.0");
+		model.addProperty("java.version", "17");
+		model.addProperty("target", "java");
+		model.addProperty("overridden", "model");
+		MavenProject project = new MavenProject(model);
+		DefaultProjectBuildingRequest request = new DefaultProjectBuildingRequest();
+		request.getUserProperties().setProperty("overridden", "user");
+		project.setProjectBuildingRequest(request);
+
+		EffectiveProperties properties = EffectiveProperties.of(project);
+		assertSame(properties, EffectiveProperties.of(project));
+		assertEquals("user", properties.get("overridden"));
+		assertEquals("1.0", properties.get("project.version"));
+		assertNull(properties.get("undefined"));
+		assertEquals("17", properties.asMap().get("java.version"));
+
+		assertEquals("release-17", properties.interpolate("release-${java.version}"));
+		assertEquals("17", properties.interpolate("${${target}.version}"));
+		assertEquals("org.test:", properties.interpolate("${project.groupId}:${undefined}"));
+		assertEquals("a${b", properties.interpolate("a${b"));
+		assertEquals("no property", properties.interpolate("no property"));
+	}
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.lemminx.extensions.maven.project.MavenConfigCache.MavenConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MavenConfigCacheTest {
+
+	@Test
+	public void testMultiModuleProjectDirectory() throws Exception {
+		File pomFile = new File(getClass().getResource("/maven.config/properties/pom.xml").toURI());
+		MavenConfigCache cache = new MavenConfigCache();
+		assertEquals(pomFile.getParentFile(), cache.getMultiModuleProjectDirectory(pomFile));
+		assertSame(cache.getMultiModuleProjectDirectory(pomFile), cache.getMultiModuleProjectDirectory(pomFile));
+		assertNull(cache.getMultiModuleProjectDirectory(null));
+	}
+
+	@Test
+	public void testMavenConfigIsParsedOnce(@TempDir Path tempDir) throws Exception {
+		Path configFile = tempDir.resolve("maven.config");
+		Files.writeString(configFile, "-Dfoo=bar\n-Pa,!b\n");
+		MavenConfigCache cache = new MavenConfigCache();
+
+		MavenConfig config = cache.getMavenConfig(configFile.toFile());
+		assertEquals(Map.of("foo", "bar"), config.userProperties());
+		assertEquals(List.of("a"), config.activeProfiles());
+		assertEquals(List.of("b"), config.inactiveProfiles());
+		assertNull(config.error());
+		assertSame(config, cache.getMavenConfig(configFile.toFile()));
+
+		Files.writeString(configFile, "-Dfoo=baz\n-Dflag\n");
+		configFile.toFile().setLastModified(configFile.toFile().lastModified() + 2000);
+		MavenConfig modifiedConfig = cache.getMavenConfig(configFile.toFile());
+		assertNotSame(config, modifiedConfig);
+		assertEquals(Map.of("foo", "baz", "flag", "true"), modifiedConfig.userProperties());
+
+		Files.delete(configFile);
+		assertNull(cache.getMavenConfig(configFile.toFile()));
+	}
+}
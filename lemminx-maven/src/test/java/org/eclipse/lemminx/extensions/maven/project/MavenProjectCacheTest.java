@@ -12,20 +12,35 @@ import static org.eclipse.lemminx.extensions.maven.utils.MavenLemminxTestsUtils.
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.shared.utils.io.FileUtils;
 import org.eclipse.lemminx.commons.TextDocument;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
@@ -33,6 +48,7 @@ import org.eclipse.lemminx.extensions.maven.MavenLanguageService;
 import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
 import org.eclipse.lemminx.extensions.maven.MavenWorkspaceService;
 import org.eclipse.lemminx.extensions.maven.NoMavenCentralExtension;
+import org.eclipse.lemminx.extensions.maven.settings.XMLMavenProjectCacheSettings;
 import org.eclipse.lemminx.services.extensions.IWorkspaceServiceParticipant;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DidChangeWorkspaceFoldersParams;
@@ -42,6 +58,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import com.sun.net.httpserver.HttpServer;
+
 @ExtendWith(NoMavenCentralExtension.class)
 public class MavenProjectCacheTest {
 	private static MavenLanguageService languageService;
@@ -112,6 +130,248 @@ public class MavenProjectCacheTest {
 		}
 	}
 
+	@Test
+	public void testProjectSummary() throws Exception {
+		MavenLemminxExtension plugin = new MavenLemminxExtension();
+		plugin.start(null,languageService);
+
+		MavenProjectCache cache = plugin.getProjectCache();
+		DOMDocument doc = createDOMDocument("/pom-with-properties-in-parent.xml", languageService);
+		languageService.didOpen(doc);
+
+		MavenProject project = cache.getLastSuccessfulMavenProject(doc);
+		ProjectSummary summary = cache.getLastSuccessfulProjectSummary(doc);
+		assertNotNull(summary);
+		assertEquals(project.getGroupId(), summary.getGroupId());
+		assertEquals(project.getArtifactId(), summary.getArtifactId());
+		assertEquals(project.getVersion(), summary.getVersion());
+		assertEquals(project.getFile(), summary.getFile());
+		assertTrue(summary.getProperties().containsKey("myProperty"), summary.getProperties().toString());
+		assertNotNull(summary.getParent());
+		assertTrue(summary.getParent().getProperties().containsKey("myProperty"),
+				summary.getParent().getProperties().toString());
+	}
+
+	@Test
+	public void testProjectSummariesShareParentAndRequestProperties() throws Exception {
+		MavenLemminxExtension plugin = new MavenLemminxExtension();
+		plugin.start(null,languageService);
+
+		MavenProjectCache cache = plugin.getProjectCache();
+		DOMDocument doc = createDOMDocument("/pom-with-properties-in-parent.xml", languageService);
+		DOMDocument otherDoc = createDOMDocument("/pom-local-parent-complete.xml", languageService);
+		languageService.didOpen(doc);
+		languageService.didOpen(otherDoc);
+
+		ProjectSummary summary = cache.getLastSuccessfulProjectSummary(doc);
+		ProjectSummary otherSummary = cache.getLastSuccessfulProjectSummary(otherDoc);
+		assertNotNull(summary);
+		assertNotNull(otherSummary);
+		// Both projects inherit from pom-with-properties.xml
+		assertSame(summary.getParent(), otherSummary.getParent());
+		assertSame(summary.getUserProperties(), otherSummary.getUserProperties());
+		assertSame(summary.getSystemProperties(), otherSummary.getSystemProperties());
+	}
+
+	@Test
+	public void testTwoPhaseBuild() throws Exception {
+		MavenLemminxExtension plugin = new MavenLemminxExtension();
+		plugin.start(null,languageService);
+
+		DOMDocument doc = createDOMDocument("/pom-with-properties.xml", languageService);
+		languageService.didOpen(doc);
+		MavenProjectCache cache = new MavenProjectCache(plugin, plugin.getMavenSession(),
+				plugin.getMavenComponents(), languageService.getDocumentProvider(), null);
+		cache.setTwoPhaseBuild(true);
+		try {
+			// The model is published before the dependencies are resolved
+			LoadedMavenProject modelProject = cache.getLoadedMavenProject(doc).get(1, TimeUnit.MINUTES);
+			MavenProject project = modelProject.getMavenProject();
+			assertNotNull(project);
+
+			// The project is upgraded once its dependencies are resolved
+			long deadline = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(1);
+			LoadedMavenProject resolvedProject = modelProject;
+			while (!resolvedProject.isDependenciesResolved() && System.currentTimeMillis() < deadline) {
+				Thread.sleep(50);
+				resolvedProject = cache.getLoadedMavenProject(doc).get(1, TimeUnit.MINUTES);
+			}
+			assertTrue(resolvedProject.isDependenciesResolved());
+			assertNotNull(resolvedProject.getDependencyResolutionResult());
+			// The model has not been built again, the published project is unchanged
+			MavenProject resolvedMavenProject = resolvedProject.getMavenProject();
+			assertNotSame(project, resolvedMavenProject);
+			assertEquals(project.getId(), resolvedMavenProject.getId());
+			assertEquals(project.getFile(), resolvedMavenProject.getFile());
+			assertFalse(modelProject.isDependenciesResolved());
+			assertTrue(project.getArtifacts().isEmpty());
+			assertNotNull(resolvedMavenProject.getArtifacts());
+		} finally {
+			cache.stop();
+		}
+	}
+
+	@Test
+	public void testDependencyConflictsAreRecordedOnDemand() throws Exception {
+		MavenLemminxExtension plugin = new MavenLemminxExtension();
+		plugin.start(null,languageService);
+
+		DOMDocument doc = createDOMDocument("/pom-with-properties.xml", languageService);
+		languageService.didOpen(doc);
+		MavenProjectCache cache = new MavenProjectCache(plugin, plugin.getMavenSession(),
+				plugin.getMavenComponents(), languageService.getDocumentProvider(), null);
+		try {
+			// The graph isn't recorded by default
+			LoadedMavenProject project = cache.getLoadedMavenProject(doc).get(1, TimeUnit.MINUTES);
+			assertNotNull(project.getDependencyResolutionResult().getDependencyGraph());
+			assertNull(DependencyConflicts.of(project.getDependencyResolutionResult().getDependencyGraph()));
+
+			// Enabling the recording builds the project again
+			assertFalse(cache.recordDependencyConflicts());
+			LoadedMavenProject recordedProject = cache.getLoadedMavenProject(doc).get(1, TimeUnit.MINUTES);
+			assertNotSame(project, recordedProject);
+			assertNotNull(DependencyConflicts.of(recordedProject.getDependencyResolutionResult().getDependencyGraph()));
+			assertTrue(cache.recordDependencyConflicts());
+			assertSame(recordedProject, cache.getLoadedMavenProject(doc).get(1, TimeUnit.MINUTES));
+		} finally {
+			cache.stop();
+		}
+	}
+
+	@Test
+	public void testReloadRetriesUnresolvedArtifacts() throws Exception {
+		MavenLemminxExtension plugin = new MavenLemminxExtension();
+		plugin.start(null,languageService);
+
+		// A remote repository where nothing is found
+		AtomicInteger remoteRequests = new AtomicInteger();
+		HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/repository", exchange -> {
+			if (exchange.getRequestURI().getPath().contains("/retry-missing/")) {
+				remoteRequests.incrementAndGet();
+			}
+			exchange.sendResponseHeaders(404, -1);
+			exchange.close();
+		});
+		server.start();
+		File projectDirectory = Files.createTempDirectory("retry").toFile();
+		File localArtifacts = new File(plugin.getMavenSession().getRepositorySession().getLocalRepository()
+				.getBasedir(), "org/eclipse/lemminx/test/retry-missing");
+		try {
+			File pomFile = new File(projectDirectory, "pom.xml");
+			Files.writeString(pomFile.toPath(), """
+					<project>
+						<modelVersion>4.0.0</modelVersion>
+						<groupId>org.eclipse.lemminx.test</groupId>
+						<artifactId>retry</artifactId>
+						<version>1.0</version>
+						<repositories>
+							<repository>
+								<id>retry-test</id>
+								<url>http://localhost:%d/repository</url>
+							</repository>
+						</repositories>
+						<dependencies>
+							<dependency>
+								<groupId>org.eclipse.lemminx.test</groupId>
+								<artifactId>retry-missing</artifactId>
+								<version>%d</version>
+							</dependency>
+						</dependencies>
+					</project>
+					""".formatted(server.getAddress().getPort(), System.currentTimeMillis()));
+			MavenProjectCache cache = plugin.getProjectCache();
+			assertNotNull(cache.getLoadedMavenProject(pomFile).get(1, TimeUnit.MINUTES));
+			int firstAttempt = remoteRequests.get();
+			assertTrue(firstAttempt > 0);
+
+			// The artifacts not found are cached in the local repository
+			plugin.getResolutionFailureCache().clear();
+			cache.reloadProjects(false);
+			assertNotNull(cache.getLoadedMavenProject(pomFile).get(1, TimeUnit.MINUTES));
+			assertEquals(firstAttempt, remoteRequests.get());
+
+			// "Retry unresolved artifacts"
+			plugin.getResolutionFailureCache().clear();
+			cache.reloadProjects(true);
+			assertNotNull(cache.getLoadedMavenProject(pomFile).get(1, TimeUnit.MINUTES));
+			assertTrue(remoteRequests.get() > firstAttempt, "The remote repository has not been queried again");
+		} finally {
+			server.stop(0);
+			FileUtils.deleteDirectory(projectDirectory);
+			FileUtils.deleteDirectory(localArtifacts);
+		}
+	}
+
+	@Test
+	public void testEvictionKeepsOpenedDocuments() throws Exception {
+		MavenLemminxExtension plugin = new MavenLemminxExtension();
+		plugin.start(null,languageService);
+
+		DOMDocument doc = createDOMDocument("/pom-with-properties-in-parent.xml", languageService);
+		languageService.didOpen(doc);
+		assertNotNull(plugin.getProjectCache());
+
+		XMLMavenProjectCacheSettings settings = new XMLMavenProjectCacheSettings();
+		settings.setMaxProjects(1);
+		MavenProjectCache cache = new MavenProjectCache(plugin, plugin.getMavenSession(),
+				plugin.getMavenComponents(), languageService.getDocumentProvider(), settings);
+		try {
+			assertNotNull(cache.getLastSuccessfulMavenProject(doc));
+			File otherPomFile = new File(getClass().getResource("/pom-with-properties.xml").toURI());
+			assertNotNull(cache.getLastSuccessfulMavenProject(otherPomFile));
+			// The opened document is pinned, the other project is evicted
+			assertEquals(1, cache.getSize());
+			assertTrue(cache.getEvictionCount() >= 1);
+			assertNotNull(cache.getLastSuccessfulMavenProject(doc));
+		} finally {
+			cache.stop();
+		}
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		MavenLemminxExtension plugin = new MavenLemminxExtension();
+		plugin.start(null,languageService);
+		MavenProjectCache cache = plugin.getProjectCache();
+
+		List<File> pomFiles = new ArrayList<>();
+		for (String pom : List.of("/pom-with-properties.xml", "/pom-with-dependency.xml", "/pom-scope.xml")) {
+			pomFiles.add(new File(getClass().getResource(pom).toURI()));
+		}
+		int nbThreads = 8;
+		Map<File, Set<CompletableFuture<LoadedMavenProject>>> futures = new ConcurrentHashMap<>();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(nbThreads);
+		try {
+			List<Future<?>> tasks = new ArrayList<>();
+			for (int i = 0; i < nbThreads; i++) {
+				tasks.add(executor.submit(() -> {
+					start.await();
+					for (int j = 0; j < 100; j++) {
+						File pomFile = pomFiles.get(j % pomFiles.size());
+						futures.computeIfAbsent(pomFile, f -> ConcurrentHashMap.newKeySet())
+								.add(cache.getLoadedMavenProject(pomFile));
+						cache.getProjects();
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> task : tasks) {
+				task.get(1, TimeUnit.MINUTES);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		// Only one build has been started per POM file
+		for (File pomFile : pomFiles) {
+			Set<CompletableFuture<LoadedMavenProject>> pomFutures = futures.get(pomFile);
+			assertEquals(1, pomFutures.size(), pomFile.toString());
+			assertNotNull(pomFutures.iterator().next().get(1, TimeUnit.MINUTES).getMavenProject());
+		}
+	}
+
 	@Test
 	public void testAddFolders_didChangeWorkspaceFolders() throws Exception {
 		IWorkspaceServiceParticipant workspaceService = languageService.getWorkspaceServiceParticipants().stream().filter(MavenWorkspaceService.class::isInstance).findAny().get();
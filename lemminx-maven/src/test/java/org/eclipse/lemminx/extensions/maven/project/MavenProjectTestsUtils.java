@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.InputLocation;
+import org.apache.maven.model.InputSource;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.collection.DependencyGraphTransformationContext;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.util.graph.transformer.ConflictResolver;
+import org.eclipse.aether.util.graph.transformer.JavaScopeDeriver;
+import org.eclipse.aether.util.graph.transformer.JavaScopeSelector;
+import org.eclipse.aether.util.graph.transformer.NearestVersionSelector;
+import org.eclipse.aether.util.graph.transformer.SimpleOptionalitySelector;
+import org.eclipse.aether.util.version.GenericVersionScheme;
+
+public interface MavenProjectTestsUtils {
+
+	// Creates the project org.test:<artifactId>:1.0, built from <artifactId>/pom.xml,
+	// with a property, a dependency declared at line 5, a plugin declared at line 10
+	// and a plugin bound by default to the lifecycle
+	public static MavenProject createProject(String artifactId, String dependencyId, String dependencyVersion) {
+		File pomFile = new File(artifactId, "pom.xml").getAbsoluteFile();
+		InputSource source = new InputSource();
+		source.setModelId("org.test:" + artifactId + ":1.0");
+		source.setLocation(pomFile.getPath());
+
+		Model model = new Model();
+		model.setModelVersion("4.0.0");
+		model.setGroupId("org.test");
+		model.setArtifactId(artifactId);
+		model.setVersion("1.0");
+		model.addProperty("shared.version", "1.0");
+		Dependency dependency = new Dependency();
+		dependency.setGroupId("org.test");
+		dependency.setArtifactId(dependencyId);
+		dependency.setVersion(dependencyVersion);
+		dependency.setLocation("artifactId", new InputLocation(5, 4, source));
+		model.addDependency(dependency);
+
+		Build build = new Build();
+		Plugin declaredPlugin = new Plugin();
+		declaredPlugin.setGroupId("org.test");
+		declaredPlugin.setArtifactId("declared-plugin");
+		declaredPlugin.setLocation("artifactId", new InputLocation(10, 4, source));
+		build.addPlugin(declaredPlugin);
+		Plugin defaultPlugin = new Plugin();
+		defaultPlugin.setGroupId("org.test");
+		defaultPlugin.setArtifactId("default-plugin");
+		build.addPlugin(defaultPlugin);
+		model.setBuild(build);
+
+		MavenProject project = new MavenProject(model);
+		project.setFile(pomFile);
+		return project;
+	}
+
+	// Creates an unresolved node of a dependency graph, with the compile scope
+	public static DefaultDependencyNode createDependencyNode(String coords) throws Exception {
+		GenericVersionScheme versionScheme = new GenericVersionScheme();
+		DefaultArtifact artifact = new DefaultArtifact(coords);
+		DefaultDependencyNode node = new DefaultDependencyNode(
+				new org.eclipse.aether.graph.Dependency(artifact, "compile"));
+		node.setVersion(versionScheme.parseVersion(artifact.getVersion()));
+		node.setVersionConstraint(versionScheme.parseVersionConstraint(artifact.getVersion()));
+		return node;
+	}
+
+	// Resolves the conflicts of the given graph with the nearest version strategy
+	// of Maven, recording the conflict losers (see DependencyConflicts)
+	public static DependencyNode resolveDependencyGraph(DependencyNode root) throws Exception {
+		DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+		session.setDependencyGraphTransformer(new ConflictResolver(new NearestVersionSelector(),
+				new JavaScopeSelector(), new SimpleOptionalitySelector(), new JavaScopeDeriver()));
+		RepositorySystemSession recordingSession = DependencyConflicts.newRecordingSession(session);
+		Map<Object, Object> data = new HashMap<>();
+		return recordingSession.getDependencyGraphTransformer().transformGraph(root,
+				new DependencyGraphTransformationContext() {
+
+					@Override
+					public RepositorySystemSession getSession() {
+						return recordingSession;
+					}
+
+					@Override
+					public Object get(Object key) {
+						return data.get(key);
+					}
+
+					@Override
+					public Object put(Object key, Object value) {
+						return data.put(key, value);
+					}
+				});
+	}
+}
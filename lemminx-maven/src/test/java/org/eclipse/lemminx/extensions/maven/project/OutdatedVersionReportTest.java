@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.maven.project.OutdatedVersionReport.OutdatedVersion;
+import org.eclipse.lemminx.extensions.maven.searcher.VersionCatalog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class OutdatedVersionReportTest {
+
+	private static final String POM = """
+			<project>
+			  <dependencies>
+			    <dependency>
+			      <groupId>org.test</groupId>
+			      <artifactId>a</artifactId>
+			      <version>1.0</version>
+			    </dependency>
+			    <dependency>
+			      <groupId>org.test</groupId>
+			      <artifactId>b</artifactId>
+			      <version>${b.version}</version>
+			    </dependency>
+			  </dependencies>
+			  <build>
+			    <plugins>
+			      <plugin>
+			        <artifactId>maven-jar-plugin</artifactId>
+			        <version> 3.0.0 </version>
+			      </plugin>
+			    </plugins>
+			  </build>
+			</project>
+			""";
+
+	private static final VersionCatalog CATALOG = VersionCatalog.of(
+			List.of(new DefaultArtifact("org.test:a:1.2"), new DefaultArtifact("org.test:b:2.0")),
+			Map.of("org.test:a", new DefaultArtifactVersion("1.1"), "org.apache.maven.plugins:maven-jar-plugin",
+					new DefaultArtifactVersion("3.4.1"), "org.test:b", new DefaultArtifactVersion("2.1")));
+
+	@Test
+	public void testVersionCatalog() {
+		assertEquals("1.2", CATALOG.getNewestVersion("org.test", "a").toString());
+		assertEquals("1.2", CATALOG.getNewerVersion("org.test", "a", "1.0").toString());
+		assertNull(CATALOG.getNewerVersion("org.test", "a", "1.2"));
+		// The newest of the local and the remote versions is kept
+		assertEquals("2.1", CATALOG.getNewestVersion("org.test", "b").toString());
+		assertNull(CATALOG.getNewestVersion("org.test", "c"));
+	}
+
+	@Test
+	public void testReleaseVersions() {
+		assertTrue(VersionCatalog.isRelease("1.0"));
+		assertTrue(VersionCatalog.isRelease("5.3.39.RELEASE"));
+		assertTrue(VersionCatalog.isRelease("33.3.1-jre"));
+		assertTrue(VersionCatalog.isRelease("2.1.0.Final"));
+		assertFalse(VersionCatalog.isRelease("1.0-SNAPSHOT"));
+		assertFalse(VersionCatalog.isRelease("4.0.0-alpha-8"));
+		assertFalse(VersionCatalog.isRelease("2.0.0-beta.1"));
+		assertFalse(VersionCatalog.isRelease("3.0.0-M2"));
+		assertFalse(VersionCatalog.isRelease("6.0.0.RC1"));
+		assertFalse(VersionCatalog.isRelease("1.0b3"));
+	}
+
+	@Test
+	public void testCatalogWaitsForTheLocalRepositoryScan() throws Exception {
+		CompletableFuture<Collection<Artifact>> scan = new CompletableFuture<>();
+		OutdatedVersionReport report = new OutdatedVersionReport(() -> scan, Map::of, new PomDocumentCache(null, null),
+				List::of);
+		try {
+			CompletableFuture<VersionCatalog> catalog = report.getCatalog();
+			assertFalse(catalog.isDone());
+			scan.complete(List.of(new DefaultArtifact("org.test:a:1.2")));
+			assertEquals("1.2", catalog.get().getNewestVersion("org.test", "a").toString());
+		} finally {
+			report.stop();
+		}
+	}
+
+	@Test
+	public void testPreviousCatalogIsUsedWhileBuilt() throws Exception {
+		List<CompletableFuture<Collection<Artifact>>> scans = new ArrayList<>();
+		// The catalog is built again on each call once built
+		OutdatedVersionReport report = new OutdatedVersionReport(() -> {
+			CompletableFuture<Collection<Artifact>> scan = new CompletableFuture<>();
+			scans.add(scan);
+			return scan;
+		}, Map::of, new PomDocumentCache(null, null), List::of, 0);
+		try {
+			CompletableFuture<VersionCatalog> catalog = report.getCatalog();
+			assertFalse(catalog.isDone());
+			scans.get(0).complete(List.of(new DefaultArtifact("org.test:a:1.2")));
+			VersionCatalog previousCatalog = catalog.get();
+			Thread.sleep(10);
+
+			// The previous catalog is used while the new one is built
+			CompletableFuture<VersionCatalog> newCatalog = report.getCatalog();
+			assertEquals(2, scans.size());
+			assertSame(previousCatalog, newCatalog.getNow(null));
+
+			// The new catalog is used once built
+			scans.get(1).complete(List.of(new DefaultArtifact("org.test:a:1.3")));
+			long deadline = System.currentTimeMillis() + 10000;
+			while (report.getCatalog().get() == previousCatalog && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			assertEquals("1.3", report.getCatalog().get().getNewestVersion("org.test", "a").toString());
+		} finally {
+			report.stop();
+		}
+	}
+
+	@Test
+	public void testOutdatedVersions() {
+		DOMDocument document = DOMParser.getInstance().parse(POM, "file:///pom.xml", null);
+		List<OutdatedVersion> outdatedVersions = OutdatedVersionReport.analyze(document, CATALOG, () -> {});
+		assertEquals(2, outdatedVersions.size());
+
+		OutdatedVersion dependency = outdatedVersions.get(0);
+		assertEquals("a", dependency.artifactId());
+		assertEquals("1.2", dependency.newestVersion());
+		assertFalse(dependency.plugin());
+		assertEquals(5, dependency.range().getStart().getLine());
+		assertEquals(15, dependency.range().getStart().getCharacter());
+		assertEquals(18, dependency.range().getEnd().getCharacter());
+
+		// The default plugin group id is used, the version is trimmed
+		OutdatedVersion plugin = outdatedVersions.get(1);
+		assertEquals("org.apache.maven.plugins", plugin.groupId());
+		assertEquals("3.0.0", plugin.version());
+		assertEquals("3.4.1", plugin.newestVersion());
+		assertTrue(plugin.plugin());
+	}
+
+	@Test
+	public void testWorkspaceReport(@TempDir Path tempDir) throws Exception {
+		List<File> modules = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			File pomFile = tempDir.resolve("module" + i).resolve("pom.xml").toFile();
+			Files.createDirectories(pomFile.toPath().getParent());
+			Files.writeString(pomFile.toPath(), POM);
+			modules.add(pomFile);
+		}
+		OutdatedVersionReport report = new OutdatedVersionReport(
+				() -> CompletableFuture.completedFuture(List.of(new DefaultArtifact("org.test:a:1.2"))), Map::of,
+				new PomDocumentCache(null, null), () -> modules);
+		try {
+			List<OutdatedVersion> outdatedVersions = report.computeWorkspaceReport(() -> {}).get();
+			assertEquals(20, outdatedVersions.size());
+			assertTrue(outdatedVersions.stream().allMatch(outdatedVersion -> "a".equals(outdatedVersion.artifactId())));
+		} finally {
+			report.stop();
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import static org.eclipse.lemminx.extensions.maven.utils.MavenLemminxTestsUtils.createDOMDocument;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.apache.maven.model.Plugin;
+import org.apache.maven.plugin.PluginDescriptorCache;
+import org.apache.maven.plugin.PluginResolutionException;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
+import org.eclipse.lemminx.extensions.maven.MavenLanguageService;
+import org.eclipse.lemminx.extensions.maven.MavenLemminxExtension;
+import org.eclipse.lemminx.extensions.maven.NoMavenCentralExtension;
+import org.eclipse.lemminx.extensions.maven.ResolutionFailureCache;
+import org.eclipse.lsp4j.Diagnostic;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(NoMavenCentralExtension.class)
+public class PluginDescriptorPrefetcherTest {
+
+	private MavenLanguageService languageService;
+	private MavenLemminxExtension plugin;
+
+	// The prefetches are queued here and only run when the test releases them
+	private final Queue<Runnable> prefetches = new ConcurrentLinkedQueue<>();
+
+	@BeforeEach
+	public void setUp() {
+		languageService = new MavenLanguageService();
+		languageService.initializeIfNeeded();
+		plugin = languageService.getExtensions().stream() //
+				.filter(MavenLemminxExtension.class::isInstance) //
+				.map(MavenLemminxExtension.class::cast) //
+				.findAny().get();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		languageService.dispose();
+		languageService = null;
+	}
+
+	@Test
+	@Timeout(90000)
+	public void testDeclaredPluginsArePrefetchedAndRetriedAfterFailure() throws Exception {
+		DOMDocument document = createDOMDocument("/pom-plugin-configuration-diagnostic.xml", languageService);
+		MavenProject project = plugin.getProjectCache().getLastSuccessfulMavenProject(document);
+		assertNotNull(project);
+		Plugin surefire = project.getPlugin("org.apache.maven.plugins:maven-surefire-plugin");
+		assertNotNull(surefire);
+		// The plugins bound by default to the jar lifecycle are in the build plugins
+		assertTrue(project.getBuildPlugins().size() > 1);
+
+		PluginDescriptorPrefetcher prefetcher = new PluginDescriptorPrefetcher(plugin, prefetches::add);
+		ResolutionFailureCache failures = plugin.getResolutionFailureCache();
+		String failureKey = ResolutionFailureCache.getPluginKey(surefire.getGroupId(), surefire.getArtifactId(),
+				surefire.getVersion());
+		failures.recordFailure(failureKey, new PluginResolutionException(surefire, new Exception("Test failure")));
+
+		// Only the plugin declared in the POM file is prefetched, the prefetch fails
+		prefetcher.builtMavenProject(null, project);
+		assertEquals(1, prefetches.size());
+		runPrefetches();
+
+		// The failed prefetch is retried on the next build
+		failures.clear();
+		PluginDescriptorCache descriptorCache = plugin.getPlexusContainer().lookup(PluginDescriptorCache.class);
+		descriptorCache.flush();
+		prefetcher.builtMavenProject(null, project);
+		assertEquals(1, prefetches.size());
+		runPrefetches();
+
+		// The descriptor is in the cache of Maven before the validation runs
+		assertNotNull(descriptorCache.get(descriptorCache.createKey(surefire,
+				new ArrayList<>(project.getRemotePluginRepositories()),
+				plugin.getMavenSession().getRepositorySession())));
+		List<Diagnostic> diagnostics = languageService.doDiagnostics(document, new XMLValidationSettings(), Map.of(),
+				() -> {
+				});
+		assertEquals(2, diagnostics.stream()
+				.filter(diagnostic -> diagnostic.getMessage().contains("Invalid plugin configuration")).count());
+
+		// A prefetched plugin isn't prefetched again
+		prefetcher.builtMavenProject(null, project);
+		assertTrue(prefetches.isEmpty());
+		prefetcher.stop();
+	}
+
+	private void runPrefetches() {
+		Runnable prefetch;
+		while ((prefetch = prefetches.poll()) != null) {
+			prefetch.run();
+		}
+	}
+}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PomDocumentCacheTest {
+
+	@Test
+	public void testDocumentIsParsedOnce(@TempDir Path tempDir) throws Exception {
+		File pomFile = tempDir.resolve("pom.xml").toFile();
+		Files.writeString(pomFile.toPath(), "<project><artifactId>a</artifactId></project>");
+		PomDocumentCache cache = new PomDocumentCache(null, null);
+
+		DOMDocument document = cache.getDocument(pomFile);
+		assertEquals("project", document.getDocumentElement().getNodeName());
+		assertSame(document, cache.getDocument(pomFile));
+		assertEquals(1, cache.size());
+
+		Files.writeString(pomFile.toPath(), "<project><artifactId>b</artifactId></project>");
+		pomFile.setLastModified(pomFile.lastModified() + 2000);
+		DOMDocument modifiedDocument = cache.getDocument(pomFile);
+		assertNotSame(document, modifiedDocument);
+		assertEquals("b", modifiedDocument.getDocumentElement().getFirstChild().getTextContent());
+
+		Files.delete(pomFile.toPath());
+		assertNull(cache.getDocument(pomFile));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void testDocumentsAreWeighedByTreeSize(@TempDir Path tempDir) throws Exception {
+		File flatFile = tempDir.resolve("flat.xml").toFile();
+		Files.writeString(flatFile.toPath(), "<project><description>abcdefghijklmnopqrstu</description></project>");
+		File treeFile = tempDir.resolve("tree.xml").toFile();
+		Files.writeString(treeFile.toPath(), "<project><a/><b/><c/><d/><e/><f/><g/><h/><i/><j/><k/><l/></project>");
+		PomDocumentCache cache = new PomDocumentCache(null, null);
+
+		// Same text length, but the DOM tree of the second document is larger
+		DOMDocument flat = cache.getDocument(flatFile);
+		DOMDocument tree = cache.getDocument(treeFile);
+		assertEquals(flat.getText().length(), tree.getText().length());
+		assertTrue(PomDocumentCache.weigh(tree) > PomDocumentCache.weigh(flat));
+		assertTrue(PomDocumentCache.weigh(flat) > 2 * flat.getText().length());
+		assertEquals(2, cache.size());
+
+		// A document larger than the budget is parsed but not retained
+		PomDocumentCache smallCache = new PomDocumentCache(null, null, PomDocumentCache.weigh(tree) - 1);
+		assertEquals("project", smallCache.getDocument(treeFile).getDocumentElement().getNodeName());
+		assertEquals(0, smallCache.size());
+	}
+}
@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import static org.eclipse.lemminx.extensions.maven.project.MavenProjectTestsUtils.createProject;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.apache.maven.project.MavenProject;
+import org.eclipse.lemminx.extensions.maven.project.WorkspaceDependencyIndex.Kind;
+import org.eclipse.lemminx.extensions.maven.project.WorkspaceDependencyIndex.Reference;
+import org.junit.jupiter.api.Test;
+
+public class WorkspaceDependencyIndexTest {
+
+	@Test
+	public void testReferencesAreReplacedWhenProjectIsBuilt() {
+		WorkspaceDependencyIndex index = new WorkspaceDependencyIndex();
+		MavenProject a = createProject("a", "junit", "4.13.2");
+		MavenProject b = createProject("b", "junit", "4.12");
+		index.builtMavenProject(null, a);
+		index.builtMavenProject(null, b);
+
+		List<Reference> references = index.getReferences("org.test", "junit");
+		assertEquals(2, references.size());
+		assertEquals(Kind.DEPENDENCY, references.get(0).kind());
+		assertEquals("org.test:a:1.0", references.get(0).projectKey());
+		assertEquals(5, references.get(0).location().line());
+		assertEquals(1, index.getReferences("org.test", "junit", "4.12").size());
+		assertEquals(Set.of(a.getFile(), b.getFile()), index.getProjects("org.test", "junit"));
+
+		// Only the plugins declared in a POM are indexed
+		assertEquals(1, index.getReferences("org.test", "declared-plugin").size());
+		assertTrue(index.getReferences("org.test", "default-plugin").isEmpty());
+
+		// The references of a rebuilt project are replaced
+		index.builtMavenProject(null, createProject("a", "hamcrest", "2.2"));
+		assertEquals(1, index.getReferences("org.test", "junit").size());
+		assertEquals(1, index.getReferences("org.test", "hamcrest").size());
+
+		index.remove(b.getFile());
+		assertTrue(index.getReferences("org.test", "junit").isEmpty());
+	}
+}
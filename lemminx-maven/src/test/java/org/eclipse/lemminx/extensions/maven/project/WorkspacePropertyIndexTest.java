@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.maven.project.WorkspacePropertyIndex.IndexedPom;
+import org.junit.jupiter.api.Test;
+
+public class WorkspacePropertyIndexTest {
+
+	@Test
+	public void testWorkspaceChildrenAreIndexed() throws Exception {
+		File parentFile = new File(getClass().getResource("/property-refactoring/child/parent/pom.xml").toURI());
+		File childFile = new File(getClass().getResource("/property-refactoring/child/pom.xml").toURI());
+		WorkspacePropertyIndex index = new WorkspacePropertyIndex(null, new PomDocumentCache(null, null),
+				() -> List.of(childFile, parentFile));
+		DOMDocument parentDocument = parse(parentFile);
+
+		IndexedPom parent = index.getIndexedPom(parentDocument);
+		assertEquals(List.of("test-group-id", "test-version"), List.copyOf(parent.getDefinitions().keySet()));
+		assertEquals(1, parent.getUsages("test-version").size());
+		assertSame(parent, index.getIndexedPom(parentDocument));
+
+		List<IndexedPom> hierarchy = index.getHierarchy(parentDocument, () -> {});
+		assertEquals(2, hierarchy.size());
+		assertSame(parent, hierarchy.get(0));
+		IndexedPom child = hierarchy.get(1);
+		assertEquals(childFile.toURI().toString(), child.getUri());
+		assertTrue(child.getDefinitions().isEmpty());
+		assertEquals(1, child.getUsages("test-group-id").size());
+		assertSame(child, index.getIndexedPom(childFile));
+
+		// The ancestors of the child are its workspace parent
+		List<IndexedPom> ancestors = index.getAncestors(parse(childFile), () -> {});
+		assertEquals(1, ancestors.size());
+		assertEquals(parentFile.toURI().toString(), ancestors.get(0).getUri());
+		assertTrue(index.getAncestors(parentDocument, () -> {}).isEmpty());
+
+		// A new version of the document is indexed again
+		assertNotSame(parent, index.getIndexedPom(parse(parentFile)));
+	}
+
+	private static DOMDocument parse(File file) throws Exception {
+		return DOMParser.getInstance().parse(new TextDocument(Files.readString(file.toPath()), file.toURI().toString()),
+				null);
+	}
+}
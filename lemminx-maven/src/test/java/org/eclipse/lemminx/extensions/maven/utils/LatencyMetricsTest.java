@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyMetricsTest {
+
+	@Test
+	public void testPercentiles() {
+		LatencyMetrics metrics = new LatencyMetrics("test");
+		for (int i = 1; i <= 100; i++) {
+			metrics.record("stage", System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(i));
+		}
+		assertEquals(100, metrics.getCount("stage"));
+		long p50 = metrics.getPercentile("stage", 50, TimeUnit.MILLISECONDS);
+		long p99 = metrics.getPercentile("stage", 99, TimeUnit.MILLISECONDS);
+		assertTrue(p50 >= 50 && p50 < 99, "Unexpected p50: " + p50);
+		assertTrue(p99 >= 99, "Unexpected p99: " + p99);
+		assertTrue(metrics.toString().contains("stage [n=100"));
+	}
+
+	@Test
+	public void testUnknownStage() {
+		LatencyMetrics metrics = new LatencyMetrics("test");
+		assertEquals(0, metrics.getCount("unknown"));
+		assertEquals(0, metrics.getPercentile("unknown", 99, TimeUnit.MILLISECONDS));
+	}
+}
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.lemminx.extensions.maven.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.eclipse.lemminx.extensions.maven.utils.PropertyUsageScanner.PropertyUsage;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.junit.jupiter.api.Test;
+
+public class PropertyUsageScannerTest {
+
+	@Test
+	public void testTextContentOnly() {
+		String text = """
+				<?xml version="1.0" encoding="${pi}"?>
+				<project attr="${attribute}">
+				  <!-- ${comment} -->
+				  <version>${a}</version>
+				  <url><![CDATA[${b}]]></url>
+				</project>""";
+		assertEquals(List.of("a", "b"), scan(text, null).stream().map(PropertyUsage::name).toList());
+	}
+
+	@Test
+	public void testPositions() {
+		String text = "<project>\r\n  <version>${a}</version>\r\n\r\n  <name>x ${a}</name>\n</project>";
+		List<PropertyUsage> usages = scan(text, "a");
+		assertEquals(2, usages.size());
+		assertEquals(range(1, 11, 1, 15), usages.get(0).expressionRange());
+		assertEquals(range(1, 13, 1, 14), usages.get(0).nameRange());
+		assertEquals(range(3, 10, 3, 14), usages.get(1).expressionRange());
+	}
+
+	@Test
+	public void testNestedAndIncompleteExpressions() {
+		String text = "<project><name>${a.${b}} ${} ${c</name><url>${d}</url></project>";
+		assertEquals(List.of("b", "d"), scan(text, null).stream().map(PropertyUsage::name).toList());
+	}
+
+	@Test
+	public void testCancellation() {
+		String text = "<project>" + "x".repeat(PropertyUsageScanner.CHUNK_SIZE * 2) + "${a}</project>";
+		assertThrows(CancellationException.class, () -> PropertyUsageScanner.scan(text, null, () -> {
+			throw new CancellationException();
+		}, usage -> {
+		}));
+	}
+
+	private static List<PropertyUsage> scan(String text, String propertyName) {
+		List<PropertyUsage> usages = new ArrayList<>();
+		PropertyUsageScanner.scan(text, propertyName, () -> {
+		}, usages::add);
+		return usages;
+	}
+
+	private static Range range(int startLine, int startCharacter, int endLine, int endCharacter) {
+		return new Range(new Position(startLine, startCharacter), new Position(endLine, endCharacter));
+	}
+}